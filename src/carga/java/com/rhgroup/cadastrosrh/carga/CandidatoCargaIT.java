@@ -0,0 +1,248 @@
+package com.rhgroup.cadastrosrh.carga;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rhgroup.cadastrosrh.CadastrosRhApplication;
+import com.rhgroup.cadastrosrh.service.BuscaCandidatoIndiceMemoria;
+import com.rhgroup.cadastrosrh.service.ContadorStatusCandidato;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+/**
+ * Regressão de latência e vazão dos endpoints de {@code CandidatoController} e {@code AuthController}.
+ * <p>
+ * Sobe a aplicação no perfil h2 em porta aleatória, insere a massa por JDBC em batch, dispara o mix
+ * de operações de {@code carga/limites.properties} com clientes HTTP concorrentes e falha se algum
+ * percentil, a taxa de erro ou a vazão total ficar fora dos limites. Roda com {@code mvn -P carga verify}.
+ */
+@SpringBootTest(classes = CadastrosRhApplication.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("h2")
+@DisplayName("Carga | Endpoints de candidatos e autenticação")
+class CandidatoCargaIT {
+
+    private static final Logger log = LoggerFactory.getLogger(CandidatoCargaIT.class);
+
+    private static final String SENHA = "Carga@12345";
+    private static final String CANDIDATOS = "/api/v1/candidatos";
+    private static final String AUTH = "/api/v1/auth";
+    private static final int LINHAS_IMPORTACAO = 50;
+    private static final int USUARIOS_LOGIN = 1_000;
+
+    @LocalServerPort
+    private int porta;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ContadorStatusCandidato contadorStatus;
+
+    @Autowired
+    private BuscaCandidatoIndiceMemoria indiceBusca;
+
+    private final ConfiguracaoCarga config = ConfiguracaoCarga.carregar();
+
+    private int quantidade;
+    private long limiteLeitura;
+    private AtomicLong proximoRemovido;
+    private AtomicLong proximoNovo;
+    private String autorizacao;
+
+    @Test
+    @DisplayName("Percentis, erros e vazão dentro dos limites versionados")
+    void endpointsDentroDosLimites() throws Exception {
+        semear();
+
+        HttpClient cliente = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        GeradorCarga gerador = new GeradorCarga(cliente, operacoes());
+
+        int concorrencia = config.inteiro("execucao.concorrencia");
+        Duration duracao = config.duracao("execucao.duracao");
+        Map<String, GeradorCarga.Resultado> resultados =
+                gerador.executar(concorrencia, config.duracao("execucao.aquecimento"), duracao);
+
+        Path diretorio = Path.of(config.texto("relatorio.diretorio"));
+        log.info("Carga com {} candidatos, {} clientes, {}:\n{}", quantidade, concorrencia, duracao,
+                GeradorCarga.relatorio(resultados, diretorio));
+
+        double vazaoTotal = resultados.values().stream().mapToDouble(GeradorCarga.Resultado::vazao).sum();
+        double taxaErroMaxima = config.decimal("limite.taxa-erro");
+        SoftAssertions.assertSoftly(s -> {
+            for (GeradorCarga.Resultado r : resultados.values()) {
+                String op = r.operacao();
+                s.assertThat(r.requisicoes()).as("%s: requisições medidas", op).isPositive();
+                s.assertThat(r.percentilMs(50)).as("%s: p50 (ms)", op).isLessThanOrEqualTo(config.p50Ms(op));
+                s.assertThat(r.percentilMs(99)).as("%s: p99 (ms)", op).isLessThanOrEqualTo(config.p99Ms(op));
+                s.assertThat(r.taxaErro()).as("%s: taxa de erro", op).isLessThanOrEqualTo(taxaErroMaxima);
+            }
+            s.assertThat(vazaoTotal).as("vazão total (req/s)")
+                    .isGreaterThanOrEqualTo(config.decimal("limite.vazao-minima"));
+        });
+    }
+
+    /**
+     * Insere a massa e atualiza o que a aplicação carregou na subida (contadores e índice de busca).
+     * Os últimos 5% dos candidatos ficam reservados para {@code DELETE}; as demais operações sorteiam
+     * entre os outros, começando em 1 porque o candidato 0 é o usuário das chamadas autenticadas.
+     */
+    private void semear() {
+        quantidade = config.inteiro("massa.candidatos");
+        long inicio = System.nanoTime();
+        MassaCandidatos.inserir(jdbc, quantidade, passwordEncoder.encode(SENHA));
+        contadorStatus.reconciliar();
+        indiceBusca.carregar();
+        log.info("Massa de {} candidatos pronta em {} ms", quantidade, (System.nanoTime() - inicio) / 1_000_000);
+
+        limiteLeitura = Math.max(2, quantidade - Math.max(1, quantidade / 20));
+        proximoRemovido = new AtomicLong(limiteLeitura);
+        proximoNovo = new AtomicLong(quantidade);
+        autorizacao = "Basic " + Base64.getEncoder().encodeToString(
+                (MassaCandidatos.email(0) + ":" + SENHA).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private List<GeradorCarga.Operacao> operacoes() {
+        Map<String, Supplier<HttpRequest>> mix = new LinkedHashMap<>();
+
+        mix.put("auth.login", () -> postPublico(AUTH + "/login", json(Map.of(
+                "email", MassaCandidatos.email(1 + aleatorio(USUARIOS_LOGIN)), "senha", SENHA))));
+        mix.put("auth.register", () -> {
+            long i = proximoNovo.getAndIncrement();
+            return postPublico(AUTH + "/register", json(Map.of(
+                    "nome", "Cadastro " + i, "email", MassaCandidatos.email(i), "senha", SENHA)));
+        });
+
+        mix.put("candidatos.criar", () -> postPublico(CANDIDATOS, json(novoCandidato(proximoNovo.getAndIncrement()))));
+        mix.put("candidatos.importar", () -> {
+            String ndjson = LongStream.range(0, LINHAS_IMPORTACAO)
+                    .mapToObj(x -> json(novoCandidato(proximoNovo.getAndIncrement())))
+                    .collect(Collectors.joining("\n"));
+            return autenticada(CANDIDATOS + "/importacao")
+                    .header("Content-Type", "application/x-ndjson")
+                    .POST(HttpRequest.BodyPublishers.ofString(ndjson))
+                    .build();
+        });
+        mix.put("candidatos.listar", () -> get(CANDIDATOS + "?tamanho=20"));
+        mix.put("candidatos.filtro", () -> get(CANDIDATOS + "/filtro?status=" + MassaCandidatos.status(aleatorio(1_000))
+                + "&experienciaMin=3&experienciaMax=10&tamanho=20"));
+        mix.put("candidatos.busca", () -> get(CANDIDATOS + "/busca?limite=20&q=" + MassaCandidatos.TERMOS_BUSCA[
+                aleatorio(MassaCandidatos.TERMOS_BUSCA.length)].replace(" ", "+")));
+        mix.put("candidatos.resumo", () -> get(CANDIDATOS + "/resumo"));
+        mix.put("candidatos.buscar-por-id", () -> get(CANDIDATOS + "/" + idExistente()));
+        mix.put("candidatos.buscar-por-status", () -> get(CANDIDATOS + "/status/" + MassaCandidatos.status(aleatorio(1_000))));
+        mix.put("candidatos.exportar", () -> get(CANDIDATOS + "/exportacao"));
+
+        mix.put("candidatos.atualizar", () -> {
+            long i = 1 + aleatorio(limiteLeitura - 1);
+            Map<String, Object> corpo = new LinkedHashMap<>(novoCandidato(i));
+            corpo.remove("senha");
+            return autenticada(CANDIDATOS + "/" + MassaCandidatos.id(i))
+                    .header("Content-Type", "application/json")
+                    .PUT(HttpRequest.BodyPublishers.ofString(json(corpo)))
+                    .build();
+        });
+        mix.put("candidatos.atualizar-parcial", () -> autenticada(CANDIDATOS + "/" + idExistente())
+                .header("Content-Type", "application/json")
+                .method("PATCH", HttpRequest.BodyPublishers.ofString(json(Map.of("experienciaAnos", aleatorio(25)))))
+                .build());
+        mix.put("candidatos.atualizar-senha", () -> autenticada(CANDIDATOS + "/" + idExistente() + "/senha")
+                .header("Content-Type", "application/json")
+                .method("PATCH", HttpRequest.BodyPublishers.ofString(json(Map.of("senhaAntiga", SENHA, "senhaNova", SENHA))))
+                .build());
+        mix.put("candidatos.deletar", () -> {
+            long i = proximoRemovido.getAndIncrement();
+            UUID id = i < quantidade ? MassaCandidatos.id(i) : UUID.randomUUID();
+            return autenticada(CANDIDATOS + "/" + id).DELETE().build();
+        });
+
+        List<GeradorCarga.Operacao> operacoes = new ArrayList<>();
+        mix.forEach((nome, requisicao) -> operacoes.add(new GeradorCarga.Operacao(nome, config.peso(nome), requisicao)));
+        return operacoes;
+    }
+
+    private Map<String, Object> novoCandidato(long i) {
+        Map<String, Object> corpo = new LinkedHashMap<>();
+        corpo.put("nome", "Candidato Carga " + i);
+        corpo.put("cpf", MassaCandidatos.cpf(i));
+        corpo.put("dataNascimento", LocalDate.of(1990, 1, 1).plusDays(i % 5_000).toString());
+        corpo.put("email", MassaCandidatos.email(i));
+        corpo.put("senha", SENHA);
+        corpo.put("celular", "11988887777");
+        corpo.put("areaInteresse", MassaCandidatos.area(i));
+        corpo.put("experienciaAnos", (int) (i % 25));
+        corpo.put("pretensaoSalarial", 5_000);
+        corpo.put("status", MassaCandidatos.status(i).name());
+        return corpo;
+    }
+
+    private UUID idExistente() {
+        return MassaCandidatos.id(1 + aleatorio(limiteLeitura - 1));
+    }
+
+    private static int aleatorio(long limite) {
+        return (int) ThreadLocalRandom.current().nextLong(limite);
+    }
+
+    private HttpRequest.Builder autenticada(String caminho) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + porta + caminho))
+                .timeout(Duration.ofSeconds(30))
+                .header("Authorization", autorizacao);
+    }
+
+    private HttpRequest get(String caminho) {
+        return autenticada(caminho).GET().build();
+    }
+
+    /** POST JSON sem credenciais (cadastro, login e criação são públicos). */
+    private HttpRequest postPublico(String caminho, String corpo) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + porta + caminho))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(corpo))
+                .build();
+    }
+
+    private String json(Object corpo) {
+        try {
+            return objectMapper.writeValueAsString(corpo);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
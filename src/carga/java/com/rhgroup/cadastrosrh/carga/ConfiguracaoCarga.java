@@ -0,0 +1,74 @@
+package com.rhgroup.cadastrosrh.carga;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Properties;
+
+/**
+ * Parâmetros da suíte de carga: {@code carga/limites.properties} com sobrescrita por {@code -Dcarga.<chave>}.
+ */
+final class ConfiguracaoCarga {
+
+    private static final String ARQUIVO = "carga/limites.properties";
+    private static final String PREFIXO = "carga.";
+
+    private final Properties valores = new Properties();
+
+    private ConfiguracaoCarga() {
+    }
+
+    static ConfiguracaoCarga carregar() {
+        ConfiguracaoCarga config = new ConfiguracaoCarga();
+        try (InputStream in = ConfiguracaoCarga.class.getClassLoader().getResourceAsStream(ARQUIVO)) {
+            if (in == null) {
+                throw new IllegalStateException(ARQUIVO + " não encontrado no classpath");
+            }
+            config.valores.load(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        System.getProperties().stringPropertyNames().stream()
+                .filter(chave -> chave.startsWith(PREFIXO))
+                .forEach(chave -> config.valores.setProperty(chave.substring(PREFIXO.length()),
+                        System.getProperty(chave)));
+        return config;
+    }
+
+    String texto(String chave) {
+        return obrigatorio(chave);
+    }
+
+    int inteiro(String chave) {
+        return Integer.parseInt(obrigatorio(chave));
+    }
+
+    double decimal(String chave) {
+        return Double.parseDouble(obrigatorio(chave));
+    }
+
+    Duration duracao(String chave) {
+        return Duration.parse(obrigatorio(chave));
+    }
+
+    int peso(String operacao) {
+        return Integer.parseInt(valores.getProperty(operacao + ".peso", "0").trim());
+    }
+
+    long p50Ms(String operacao) {
+        return Long.parseLong(obrigatorio(operacao + ".p50-ms"));
+    }
+
+    long p99Ms(String operacao) {
+        return Long.parseLong(obrigatorio(operacao + ".p99-ms"));
+    }
+
+    private String obrigatorio(String chave) {
+        String valor = valores.getProperty(chave);
+        if (valor == null || valor.isBlank()) {
+            throw new IllegalStateException("Parâmetro de carga ausente: " + chave);
+        }
+        return valor.trim();
+    }
+}
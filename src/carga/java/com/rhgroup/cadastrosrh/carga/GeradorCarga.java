@@ -0,0 +1,152 @@
+package com.rhgroup.cadastrosrh.carga;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Gerador de carga em laço fechado: {@code concorrencia} clientes sorteiam uma operação pelo peso,
+ * esperam a resposta e sorteiam a próxima. Latências vão para um histograma HdrHistogram por operação
+ * (em microssegundos); o período de aquecimento é executado mas não registrado.
+ */
+final class GeradorCarga {
+
+    record Operacao(String nome, int peso, Supplier<HttpRequest> requisicao) {
+    }
+
+    record Resultado(String operacao, Histogram latencias, long erros, double vazao) {
+
+        long requisicoes() {
+            return latencias.getTotalCount();
+        }
+
+        double taxaErro() {
+            return requisicoes() == 0 ? 0 : (double) erros / requisicoes();
+        }
+
+        double percentilMs(double percentil) {
+            return latencias.getValueAtPercentile(percentil) / 1000.0;
+        }
+    }
+
+    private final HttpClient cliente;
+    private final List<Operacao> operacoes;
+    private final int pesoTotal;
+
+    GeradorCarga(HttpClient cliente, List<Operacao> operacoes) {
+        this.cliente = cliente;
+        this.operacoes = operacoes.stream().filter(o -> o.peso() > 0).toList();
+        this.pesoTotal = this.operacoes.stream().mapToInt(Operacao::peso).sum();
+        if (pesoTotal == 0) {
+            throw new IllegalArgumentException("Nenhuma operação com peso positivo no mix");
+        }
+    }
+
+    Map<String, Resultado> executar(int concorrencia, Duration aquecimento, Duration duracao) throws InterruptedException {
+        Map<String, Histogram> latencias = new LinkedHashMap<>();
+        Map<String, LongAdder> erros = new LinkedHashMap<>();
+        for (Operacao o : operacoes) {
+            latencias.put(o.nome(), new ConcurrentHistogram(3));
+            erros.put(o.nome(), new LongAdder());
+        }
+
+        long inicioMedicao = System.nanoTime() + aquecimento.toNanos();
+        long fim = inicioMedicao + duracao.toNanos();
+
+        ExecutorService clientes = Executors.newFixedThreadPool(concorrencia);
+        for (int i = 0; i < concorrencia; i++) {
+            clientes.execute(() -> {
+                long agora = System.nanoTime();
+                while (agora < fim && !Thread.currentThread().isInterrupted()) {
+                    Operacao operacao = sortear();
+                    boolean ok;
+                    long inicio = System.nanoTime();
+                    try {
+                        int status = cliente.send(operacao.requisicao().get(), HttpResponse.BodyHandlers.discarding())
+                                .statusCode();
+                        ok = status / 100 == 2 || status == 304;
+                    } catch (IOException e) {
+                        ok = false;
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    agora = System.nanoTime();
+                    if (inicio >= inicioMedicao && agora <= fim) {
+                        latencias.get(operacao.nome()).recordValue(TimeUnit.NANOSECONDS.toMicros(agora - inicio));
+                        if (!ok) erros.get(operacao.nome()).increment();
+                    }
+                }
+            });
+        }
+        clientes.shutdown();
+        if (!clientes.awaitTermination(aquecimento.plus(duracao).plusMinutes(2).toMillis(), TimeUnit.MILLISECONDS)) {
+            clientes.shutdownNow();
+        }
+
+        double segundos = duracao.toMillis() / 1000.0;
+        Map<String, Resultado> resultados = new LinkedHashMap<>();
+        latencias.forEach((nome, h) -> resultados.put(nome,
+                new Resultado(nome, h, erros.get(nome).sum(), h.getTotalCount() / segundos)));
+        return resultados;
+    }
+
+    private Operacao sortear() {
+        int sorteio = ThreadLocalRandom.current().nextInt(pesoTotal);
+        for (Operacao o : operacoes) {
+            sorteio -= o.peso();
+            if (sorteio < 0) return o;
+        }
+        throw new IllegalStateException();
+    }
+
+    /**
+     * Grava {@code resumo.csv} (uma linha por operação) e a distribuição completa de cada uma em
+     * {@code <operacao>.hgrm}, no formato do HdrHistogram, em milissegundos.
+     */
+    static String relatorio(Map<String, Resultado> resultados, Path diretorio) throws IOException {
+        Files.createDirectories(diretorio);
+        List<String> csv = new ArrayList<>();
+        csv.add("operacao,requisicoes,erros,vazao_rps,p50_ms,p90_ms,p99_ms,p999_ms,max_ms");
+        StringBuilder tabela = new StringBuilder(String.format(Locale.ROOT,
+                "%-30s %10s %7s %9s %9s %9s %9s %9s %9s%n",
+                "operacao", "requisicoes", "erros", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms"));
+
+        for (Resultado r : resultados.values()) {
+            double max = r.latencias().getMaxValue() / 1000.0;
+            csv.add(String.format(Locale.ROOT, "%s,%d,%d,%.1f,%.2f,%.2f,%.2f,%.2f,%.2f",
+                    r.operacao(), r.requisicoes(), r.erros(), r.vazao(),
+                    r.percentilMs(50), r.percentilMs(90), r.percentilMs(99), r.percentilMs(99.9), max));
+            tabela.append(String.format(Locale.ROOT, "%-30s %10d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    r.operacao(), r.requisicoes(), r.erros(), r.vazao(),
+                    r.percentilMs(50), r.percentilMs(90), r.percentilMs(99), r.percentilMs(99.9), max));
+
+            try (PrintStream saida = new PrintStream(
+                    Files.newOutputStream(diretorio.resolve(r.operacao() + ".hgrm")), false, StandardCharsets.UTF_8)) {
+                r.latencias().outputPercentileDistribution(saida, 1000.0);
+            }
+        }
+        Files.write(diretorio.resolve("resumo.csv"), csv, StandardCharsets.UTF_8);
+        return tabela.toString();
+    }
+}
@@ -0,0 +1,105 @@
+package com.rhgroup.cadastrosrh.carga;
+
+import com.rhgroup.cadastrosrh.model.StatusCandidato;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Massa determinística de candidatos, inserida direto por JDBC em batch (sem JPA nem BCrypt por linha).
+ * <p>
+ * O candidato {@code i} tem id, e-mail e CPF derivados de {@code i}, e todos compartilham o mesmo hash
+ * de senha, de modo que o gerador de carga consegue montar qualquer requisição sem consultar o banco.
+ */
+final class MassaCandidatos {
+
+    static final String[] AREAS = {
+            "Desenvolvimento backend em Java e Spring Boot",
+            "Front-end com React e TypeScript",
+            "Análise de dados, SQL e Power BI",
+            "Infraestrutura em nuvem, Kubernetes e observabilidade",
+            "Qualidade de software e automação de testes",
+            "Gestão de projetos ágeis e produto",
+            "Desenvolvimento mobile Android e iOS",
+            "Segurança da informação e resposta a incidentes"
+    };
+    static final String[] TERMOS_BUSCA = {
+            "java", "react", "dados sql", "kubernetes", "testes", "projetos ageis", "mobile", "seguranca"
+    };
+
+    private static final StatusCandidato[] STATUS = StatusCandidato.values();
+    private static final int TAMANHO_BATCH = 5_000;
+    private static final LocalDateTime INICIO = LocalDateTime.of(2023, 1, 1, 0, 0);
+
+    private static final String INSERT = """
+            INSERT INTO candidatos (id, nome, cpf, data_nascimento, email, senha_hash, celular, area_interesse,
+                                    experiencia_anos, pretensao_salarial, status, criado_em, atualizado_em)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private MassaCandidatos() {
+    }
+
+    static UUID id(long i) {
+        return new UUID(0xCA46AL, i);
+    }
+
+    static String email(long i) {
+        return "carga" + i + "@exemplo.com";
+    }
+
+    static String cpf(long i) {
+        return String.format("%011d", i);
+    }
+
+    static String area(long i) {
+        return AREAS[(int) (i % AREAS.length)];
+    }
+
+    static StatusCandidato status(long i) {
+        return STATUS[(int) (i % STATUS.length)];
+    }
+
+    /**
+     * Insere os candidatos {@code 0..quantidade-1} em batches de {@value #TAMANHO_BATCH} linhas.
+     */
+    static void inserir(JdbcTemplate jdbc, int quantidade, String senhaHash) {
+        for (int inicio = 0; inicio < quantidade; inicio += TAMANHO_BATCH) {
+            int base = inicio;
+            int tamanho = Math.min(TAMANHO_BATCH, quantidade - inicio);
+            jdbc.batchUpdate(INSERT, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int j) throws SQLException {
+                    long i = base + j;
+                    Timestamp criadoEm = Timestamp.valueOf(INICIO.plusSeconds(i * 37));
+                    ps.setObject(1, id(i));
+                    ps.setString(2, "Candidato Carga " + i);
+                    ps.setString(3, cpf(i));
+                    ps.setDate(4, Date.valueOf(LocalDate.of(1970, 1, 1).plusDays(i % 15_000)));
+                    ps.setString(5, email(i));
+                    ps.setString(6, senhaHash);
+                    ps.setString(7, "11" + String.format("%09d", i % 1_000_000_000));
+                    ps.setString(8, area(i));
+                    ps.setInt(9, (int) (i % 25));
+                    ps.setBigDecimal(10, BigDecimal.valueOf(2_000 + (i % 400) * 50L));
+                    ps.setString(11, status(i).name());
+                    ps.setTimestamp(12, criadoEm);
+                    ps.setTimestamp(13, criadoEm);
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return tamanho;
+                }
+            });
+        }
+    }
+}
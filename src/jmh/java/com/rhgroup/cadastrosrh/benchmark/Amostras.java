@@ -0,0 +1,56 @@
+package com.rhgroup.cadastrosrh.benchmark;
+
+import com.rhgroup.cadastrosrh.dto.CandidatoCreateDTO;
+import com.rhgroup.cadastrosrh.model.Candidato;
+import com.rhgroup.cadastrosrh.model.StatusCandidato;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Dados sintéticos, determinísticos, usados pelos benchmarks.
+ */
+final class Amostras {
+
+    private static final StatusCandidato[] STATUS = StatusCandidato.values();
+
+    private Amostras() {
+    }
+
+    static Candidato candidato(int i) {
+        LocalDateTime criadoEm = LocalDateTime.of(2024, 1, 1, 8, 0).plusMinutes(i);
+        return Candidato.builder()
+                .id(new UUID(0x5EEDL, i))
+                .nome("Candidato " + i)
+                .cpf(String.format("%011d", i))
+                .dataNascimento(LocalDate.of(1980, 1, 1).plusDays(i % 10_000))
+                .email("candidato" + i + "@exemplo.com")
+                .senhaHash("$2a$10$abcdefghijklmnopqrstuuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ012")
+                .celular("1199999" + String.format("%04d", i % 10_000))
+                .areaInteresse("Desenvolvimento backend em Java e Spring, com experiência em APIs REST")
+                .experienciaAnos(i % 30)
+                .pretensaoSalarial(BigDecimal.valueOf(3_000 + (i % 200) * 50L, 0).setScale(2))
+                .status(STATUS[i % STATUS.length])
+                .criadoEm(criadoEm)
+                .atualizadoEm(criadoEm)
+                .build();
+    }
+
+    static CandidatoCreateDTO criacao(int i) {
+        Candidato c = candidato(i);
+        return CandidatoCreateDTO.builder()
+                .nome(c.getNome())
+                .cpf(c.getCpf())
+                .dataNascimento(c.getDataNascimento())
+                .email(c.getEmail())
+                .senha("senha-" + i)
+                .celular(c.getCelular())
+                .areaInteresse(c.getAreaInteresse())
+                .experienciaAnos(c.getExperienciaAnos())
+                .pretensaoSalarial(c.getPretensaoSalarial())
+                .status(c.getStatus())
+                .build();
+    }
+}
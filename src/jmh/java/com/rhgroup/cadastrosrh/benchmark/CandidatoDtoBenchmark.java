@@ -0,0 +1,81 @@
+package com.rhgroup.cadastrosrh.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rhgroup.cadastrosrh.dto.CandidatoCreateDTO;
+import com.rhgroup.cadastrosrh.dto.CandidatoResponseDTO;
+import com.rhgroup.cadastrosrh.model.Candidato;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.BeanUtils;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Conversões entre entidade e DTOs e serialização JSON das listagens.
+ * <p>
+ * {@code fromEntity_beanUtils} reproduz a cópia por reflexão usada antes das projeções,
+ * como referência para o construtor explícito.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CandidatoDtoBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int tamanho;
+
+    private Candidato candidato;
+    private CandidatoCreateDTO criacao;
+    private List<CandidatoResponseDTO> lista;
+    private ObjectMapper objectMapper;
+
+    @Setup
+    public void setUp() {
+        candidato = Amostras.candidato(42);
+        criacao = Amostras.criacao(42);
+        lista = IntStream.range(0, tamanho)
+                .mapToObj(Amostras::candidato)
+                .map(CandidatoResponseDTO::fromEntity)
+                .toList();
+        // Mesma configuração do ObjectMapper do Spring Boot (JavaTimeModule, datas em ISO-8601).
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    }
+
+    @Benchmark
+    public CandidatoResponseDTO fromEntity() {
+        return CandidatoResponseDTO.fromEntity(candidato);
+    }
+
+    @Benchmark
+    public CandidatoResponseDTO fromEntity_beanUtils() {
+        CandidatoResponseDTO dto = new CandidatoResponseDTO();
+        BeanUtils.copyProperties(candidato, dto, "cpf");
+        return dto;
+    }
+
+    @Benchmark
+    public Candidato toEntity() {
+        return criacao.toEntity("$2a$10$hash");
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public byte[] serializarLista() throws Exception {
+        return objectMapper.writeValueAsBytes(lista);
+    }
+}
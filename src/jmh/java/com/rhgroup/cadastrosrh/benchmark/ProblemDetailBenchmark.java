@@ -0,0 +1,59 @@
+package com.rhgroup.cadastrosrh.benchmark;
+
+import com.rhgroup.cadastrosrh.dto.CandidatoCreateDTO;
+import com.rhgroup.cadastrosrh.exception.GlobalExceptionHandler;
+import com.rhgroup.cadastrosrh.exception.NotFoundException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.ProblemDetail;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Montagem dos {@link ProblemDetail} pelo {@link GlobalExceptionHandler}, incluindo a criação da exceção
+ * (o preenchimento do stack trace costuma dominar o custo).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProblemDetailBenchmark {
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+
+    private MockHttpServletRequest request;
+    private BeanPropertyBindingResult errosValidacao;
+
+    @Setup
+    public void setUp() {
+        request = new MockHttpServletRequest("POST", "/candidatos");
+        errosValidacao = new BeanPropertyBindingResult(new CandidatoCreateDTO(), "candidatoCreateDTO");
+        errosValidacao.rejectValue("nome", "NotBlank", "não deve estar em branco");
+        errosValidacao.rejectValue("email", "Email", "deve ser um endereço de e-mail bem formado");
+        errosValidacao.rejectValue("senha", "Size", "tamanho deve ser entre 6 e 2147483647");
+    }
+
+    @Benchmark
+    public ProblemDetail notFound() {
+        return handler.handleNotFound(new NotFoundException("Candidato não encontrado"), request);
+    }
+
+    @Benchmark
+    public ProblemDetail validacao() {
+        return handler.handleValidation(new MethodArgumentNotValidException((MethodParameter) null, errosValidacao), request);
+    }
+}
@@ -0,0 +1,54 @@
+package com.rhgroup.cadastrosrh.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Publica {@code http.server.requests.consultas{method,uri}}: quantos comandos SQL cada requisição executou.
+ * <p>
+ * Fica antes da cadeia de segurança para incluir as consultas da autenticação. A {@code uri} é o padrão
+ * do mapeamento (como em {@code http.server.requests}), para não criar uma série por id.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ConsultasPorRequisicaoFilter extends OncePerRequestFilter {
+
+    private static final double[] FAIXAS = {1, 2, 3, 5, 10, 20, 50, 100};
+
+    private final MeterRegistry registry;
+
+    public ConsultasPorRequisicaoFilter(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        ContadorConsultas.iniciar();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            int consultas = ContadorConsultas.encerrar();
+            Object padrao = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            DistributionSummary.builder("http.server.requests.consultas")
+                    .description("Comandos SQL executados por requisição")
+                    .baseUnit("consultas")
+                    .serviceLevelObjectives(FAIXAS)
+                    .tag("method", request.getMethod())
+                    .tag("uri", padrao != null ? padrao.toString() : "UNKNOWN")
+                    .register(registry)
+                    .record(consultas);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.rhgroup.cadastrosrh.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Conta os comandos SQL que o Hibernate prepara na thread da requisição corrente.
+ * <p>
+ * Registrado como {@code hibernate.session_factory.statement_inspector}; o escopo de contagem é aberto e
+ * fechado por {@link ConsultasPorRequisicaoFilter}. Fora desse escopo (jobs, eventos) não conta nada.
+ */
+public class ContadorConsultas implements StatementInspector {
+
+    private static final ThreadLocal<int[]> ATUAL = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        int[] contador = ATUAL.get();
+        if (contador != null) {
+            contador[0]++;
+        }
+        return sql;
+    }
+
+    static void iniciar() {
+        ATUAL.set(new int[1]);
+    }
+
+    static int encerrar() {
+        int[] contador = ATUAL.get();
+        ATUAL.remove();
+        return contador == null ? 0 : contador[0];
+    }
+}
@@ -0,0 +1,66 @@
+package com.rhgroup.cadastrosrh.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * "Ler o que acabou de escrever" com réplica: depois de uma escrita bem-sucedida (POST, PUT, PATCH, DELETE
+ * com status < 400), as requisições do mesmo usuário leem do primário por {@code janela}, tempo que cobre o
+ * atraso normal de replicação.
+ * <p>
+ * O usuário é o autenticado (httpBasic ou Bearer) ou, sem autenticação, o IP; por isso o filtro roda depois
+ * da cadeia de segurança (ordem padrão). As chaves ficam num cache limitado que expira com a janela.
+ */
+public class LeituraPropriaFilter extends OncePerRequestFilter {
+
+    private static final Set<String> SEGUROS = Set.of(
+            HttpMethod.GET.name(), HttpMethod.HEAD.name(), HttpMethod.OPTIONS.name());
+
+    private final Cache<String, Boolean> escritasRecentes;
+
+    public LeituraPropriaFilter(Duration janela, long chavesMaximas) {
+        this.escritasRecentes = Caffeine.newBuilder()
+                .maximumSize(chavesMaximas)
+                .expireAfterWrite(janela)
+                .build();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String chave = chave(request);
+        if (escritasRecentes.getIfPresent(chave) != null) {
+            try (RoteamentoDataSource.Escopo ignored = RoteamentoDataSource.forcarPrimario()) {
+                chain.doFilter(request, response);
+            }
+        } else {
+            chain.doFilter(request, response);
+        }
+
+        if (!SEGUROS.contains(request.getMethod()) && response.getStatus() < 400) {
+            escritasRecentes.put(chave, Boolean.TRUE);
+        }
+    }
+
+    private static String chave(HttpServletRequest request) {
+        Authentication autenticacao = SecurityContextHolder.getContext().getAuthentication();
+        if (autenticacao != null && autenticacao.isAuthenticated()
+                && !(autenticacao instanceof AnonymousAuthenticationToken)) {
+            return "usuario:" + autenticacao.getName();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+}
@@ -0,0 +1,23 @@
+package com.rhgroup.cadastrosrh.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Métricas que não vêm prontas do Actuator.
+ * <p>
+ * O restante é configuração em {@code application.yml}: {@code @Timed} nos serviços
+ * ({@code management.observations.annotations}), {@code spring.data.repository.invocations},
+ * estatísticas do Hibernate ({@code hibernate.*}), pool Hikari ({@code hikaricp.*}) e o scrape Prometheus.
+ */
+@Configuration
+public class MetricasConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer contadorConsultasCustomizer() {
+        ContadorConsultas contador = new ContadorConsultas();
+        return propriedades -> propriedades.put(AvailableSettings.STATEMENT_INSPECTOR, contador);
+    }
+}
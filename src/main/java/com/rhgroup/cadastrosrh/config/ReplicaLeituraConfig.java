@@ -0,0 +1,81 @@
+package com.rhgroup.cadastrosrh.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Réplica de leitura, ligada só quando {@code cadastrosrh.datasource.replica.url} está configurada; sem ela a
+ * aplicação usa o DataSource do Spring Boot, como sempre.
+ * <p>
+ * O primário continua vindo de {@code spring.datasource.*} (incluindo {@code hikari}) e é o único que o Flyway
+ * migra. A réplica tem pool próprio em {@code cadastrosrh.datasource.replica.hikari}. O DataSource usado pelo
+ * JPA é o {@link RoteamentoDataSource} atrás de um {@link LazyConnectionDataSourceProxy}.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "cadastrosrh.datasource.replica", name = "url")
+public class ReplicaLeituraConfig {
+
+    @Bean
+    @FlywayDataSource
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primarioDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primario");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("cadastrosrh.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(
+            DataSourceProperties primario,
+            @Value("${cadastrosrh.datasource.replica.url}") String url,
+            @Value("${cadastrosrh.datasource.replica.username:${spring.datasource.username:}}") String usuario,
+            @Value("${cadastrosrh.datasource.replica.password:${spring.datasource.password:}}") String senha) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(primario.getDriverClassName())
+                .url(url)
+                .username(usuario)
+                .password(senha)
+                .build();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primarioDataSource") DataSource primario,
+                                 @Qualifier("replicaDataSource") DataSource replica,
+                                 MeterRegistry registry) {
+        RoteamentoDataSource roteamento = new RoteamentoDataSource(registry);
+        roteamento.setTargetDataSources(Map.of(
+                RoteamentoDataSource.Destino.PRIMARIO, primario,
+                RoteamentoDataSource.Destino.REPLICA, replica));
+        roteamento.setDefaultTargetDataSource(primario);
+        roteamento.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(roteamento);
+    }
+
+    @Bean
+    public LeituraPropriaFilter leituraPropriaFilter(
+            @Value("${cadastrosrh.datasource.replica.leitura-propria:5s}") Duration janela,
+            @Value("${cadastrosrh.datasource.replica.leitura-propria-chaves:100000}") long chavesMaximas) {
+        return new LeituraPropriaFilter(janela, chavesMaximas);
+    }
+}
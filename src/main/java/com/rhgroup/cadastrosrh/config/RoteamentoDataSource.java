@@ -0,0 +1,81 @@
+package com.rhgroup.cadastrosrh.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Locale;
+import java.util.function.Supplier;
+
+/**
+ * Envia transações somente leitura para a réplica e o resto para o primário.
+ * <p>
+ * O flag vem dos métodos de serviço marcados com {@code @SomenteLeitura}; chamados de dentro de uma transação
+ * de escrita, eles participam dela e ficam no primário. A decisão é tomada no primeiro comando, e não no início
+ * da transação, porque a fonte é embrulhada num {@link LazyConnectionDataSourceProxy} (o flag só existe depois
+ * do begin).
+ * <p>
+ * {@link #forcarPrimario()} e {@link #noPrimario} mandam as leituras da thread para o primário: usados na
+ * janela de "ler o que acabou de escrever" ({@link LeituraPropriaFilter}) e por quem não pode aceitar atraso
+ * de replicação (ex.: carga de cache). Publica {@code datasource.roteamento{destino}}.
+ */
+public class RoteamentoDataSource extends AbstractRoutingDataSource {
+
+    public enum Destino { PRIMARIO, REPLICA }
+
+    private static final ThreadLocal<Boolean> PRIMARIO_FORCADO = new ThreadLocal<>();
+
+    private final Counter primario;
+    private final Counter replica;
+
+    public RoteamentoDataSource(MeterRegistry registry) {
+        this.primario = contador(registry, Destino.PRIMARIO);
+        this.replica = contador(registry, Destino.REPLICA);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly() && !primarioForcado()) {
+            replica.increment();
+            return Destino.REPLICA;
+        }
+        primario.increment();
+        return Destino.PRIMARIO;
+    }
+
+    public static boolean primarioForcado() {
+        return PRIMARIO_FORCADO.get() != null;
+    }
+
+    /**
+     * Leituras da thread vão ao primário até o escopo ser fechado; escopos aninhados são permitidos.
+     */
+    public static Escopo forcarPrimario() {
+        Boolean anterior = PRIMARIO_FORCADO.get();
+        PRIMARIO_FORCADO.set(Boolean.TRUE);
+        return () -> {
+            if (anterior == null) PRIMARIO_FORCADO.remove();
+        };
+    }
+
+    public static <T> T noPrimario(Supplier<T> leitura) {
+        try (Escopo ignored = forcarPrimario()) {
+            return leitura.get();
+        }
+    }
+
+    private static Counter contador(MeterRegistry registry, Destino destino) {
+        return Counter.builder("datasource.roteamento")
+                .description("Conexões físicas obtidas por destino")
+                .tag("destino", destino.name().toLowerCase(Locale.ROOT))
+                .register(registry);
+    }
+
+    @FunctionalInterface
+    public interface Escopo extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
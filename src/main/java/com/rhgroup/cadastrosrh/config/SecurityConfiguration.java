@@ -1,25 +1,81 @@
 package com.rhgroup.cadastrosrh.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rhgroup.cadastrosrh.security.CandidatoAuthenticationProvider;
+import com.rhgroup.cadastrosrh.security.CredenciaisCache;
+import com.rhgroup.cadastrosrh.security.EmissorTokens;
+import com.rhgroup.cadastrosrh.security.ExecutorPasswordEncoder;
+import com.rhgroup.cadastrosrh.security.LimitadorTentativasLogin;
+import com.rhgroup.cadastrosrh.security.LimiteTentativasLoginFilter;
+import com.rhgroup.cadastrosrh.security.SenhaEncoders;
+import com.rhgroup.cadastrosrh.security.SenhaHashExecutor;
+import com.rhgroup.cadastrosrh.security.TokenAutenticacaoFilter;
+import com.rhgroup.cadastrosrh.security.UserDetailsServiceImpl;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.actuate.health.HealthEndpoint;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.Customizer;
-import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.annotation.web.configurers.HeadersConfigurer;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.crypto.factory.PasswordEncoderFactories;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.www.BasicAuthenticationFilter;
 
 @Configuration
 @EnableWebSecurity // Adicionar esta anotação pode ajudar o Spring a registrar o filtro
 public class SecurityConfiguration {
 
+    /**
+     * Cadeia própria do Actuator, avaliada antes da cadeia da API. O health é público; o resto
+     * (métricas, scrape Prometheus) exige o usuário técnico de {@code cadastrosrh.actuator.*},
+     * que não é candidato e não passa pelo provider da API. Sem senha configurada, só o health responde.
+     */
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    @Order(1)
+    public SecurityFilterChain actuatorFilterChain(HttpSecurity http,
+                                                   @Value("${cadastrosrh.actuator.usuario:metricas}") String usuario,
+                                                   @Value("${cadastrosrh.actuator.senha:}") String senha) throws Exception {
+        InMemoryUserDetailsManager usuarios = new InMemoryUserDetailsManager();
+        if (!senha.isBlank()) {
+            usuarios.createUser(User.withUsername(usuario).password(senha).roles("ACTUATOR").build());
+        }
+        DaoAuthenticationProvider provider = new DaoAuthenticationProvider(usuarios);
+        // Senha no formato do DelegatingPasswordEncoder: {bcrypt}..., {pbkdf2}..., {noop}...
+        provider.setPasswordEncoder(PasswordEncoderFactories.createDelegatingPasswordEncoder());
+
+        http
+                .securityMatcher(EndpointRequest.toAnyEndpoint())
+                .csrf(AbstractHttpConfigurer::disable)
+                .authorizeHttpRequests(auth -> auth
+                        .requestMatchers(EndpointRequest.to(HealthEndpoint.class)).permitAll()
+                        .anyRequest().hasRole("ACTUATOR"))
+                .sessionManagement(s -> s.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .authenticationManager(new ProviderManager(provider))
+                .httpBasic(Customizer.withDefaults());
+
+        return http.build();
+    }
+
+    @Bean
+    public SecurityFilterChain securityFilterChain(HttpSecurity http,
+                                                   LimitadorTentativasLogin limitador,
+                                                   CredenciaisCache credenciaisCache,
+                                                   EmissorTokens emissorTokens,
+                                                   AuthenticationManager authenticationManager,
+                                                   ObjectMapper objectMapper) throws Exception {
         http
                 // 1. Desabilita CSRF de forma idiomática
                 .csrf(AbstractHttpConfigurer::disable)
@@ -45,18 +101,42 @@ public class SecurityConfiguration {
                 .headers(headers -> headers.frameOptions(HeadersConfigurer.FrameOptionsConfig::disable))
 
                 // Configuração básica HTTP
-                .httpBasic(Customizer.withDefaults());
+                .authenticationManager(authenticationManager)
+                .httpBasic(Customizer.withDefaults())
+
+                // Bearer emitido pelo /auth/login: conferido só pelo HMAC, sem banco nem BCrypt.
+                .addFilterBefore(new TokenAutenticacaoFilter(emissorTokens, objectMapper),
+                        BasicAuthenticationFilter.class)
+
+                // Limite de tentativas por conta e IP antes do BCrypt (httpBasic e /auth/login).
+                // Instanciado aqui, e não como @Component, para não ser registrado também como filtro do servlet.
+                .addFilterBefore(new LimiteTentativasLoginFilter(limitador, credenciaisCache, objectMapper),
+                        BasicAuthenticationFilter.class);
 
         return http.build();
     }
 
+    /**
+     * Gerenciador da API (httpBasic e {@code /auth/login}). O provider não é exposto como bean: um
+     * {@code AuthenticationProvider} global faria o Spring Security avisar na subida que o
+     * {@code UserDetailsService} não será usado.
+     */
     @Bean
-    public AuthenticationManager authenticationManager(AuthenticationConfiguration configuration) throws Exception {
-        return configuration.getAuthenticationManager();
+    public AuthenticationManager authenticationManager(UserDetailsServiceImpl userDetailsService,
+                                                       PasswordEncoder passwordEncoder,
+                                                       CredenciaisCache credenciaisCache) {
+        CandidatoAuthenticationProvider provider =
+                new CandidatoAuthenticationProvider(userDetailsService, passwordEncoder, credenciaisCache);
+        // Login bem-sucedido com hash antigo (sem prefixo, outro algoritmo ou custo menor) regrava o hash.
+        provider.setUserDetailsPasswordService(userDetailsService);
+        return new ProviderManager(provider);
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(SenhaHashExecutor senhaHashExecutor,
+                                           @Value("${cadastrosrh.seguranca.senha.algoritmo:bcrypt}") String algoritmo,
+                                           @Value("${cadastrosrh.seguranca.senha.custo-bcrypt:10}") int custoBcrypt) {
+        // O hash roda no pool dedicado, nunca direto nas threads do Tomcat.
+        return new ExecutorPasswordEncoder(SenhaEncoders.delegante(algoritmo, custoBcrypt), senhaHashExecutor);
     }
 }
\ No newline at end of file
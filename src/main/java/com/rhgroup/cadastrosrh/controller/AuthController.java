@@ -1,16 +1,26 @@
 package com.rhgroup.cadastrosrh.controller;
 
+import com.rhgroup.cadastrosrh.dto.TokenDTO;
+import com.rhgroup.cadastrosrh.exception.ConflitoUnicidadeException;
 import com.rhgroup.cadastrosrh.model.Candidato;
 import com.rhgroup.cadastrosrh.model.StatusCandidato;
 import com.rhgroup.cadastrosrh.repository.CandidatoRepository;
+import com.rhgroup.cadastrosrh.security.EmissorTokens;
+import com.rhgroup.cadastrosrh.service.FiltroUnicidadeCandidato;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/v1/auth")
@@ -19,20 +29,28 @@ public class AuthController {
     private final CandidatoRepository repository;
     private final AuthenticationManager authenticationManager;
     private final PasswordEncoder passwordEncoder;
+    private final FiltroUnicidadeCandidato unicidade;
+    private final EmissorTokens emissorTokens;
 
-    public AuthController(CandidatoRepository repository, AuthenticationManager authenticationManager, PasswordEncoder passwordEncoder) {
+    public AuthController(CandidatoRepository repository, AuthenticationManager authenticationManager,
+                          PasswordEncoder passwordEncoder, FiltroUnicidadeCandidato unicidade,
+                          EmissorTokens emissorTokens) {
         this.repository = repository;
         this.authenticationManager = authenticationManager;
         this.passwordEncoder = passwordEncoder;
+        this.unicidade = unicidade;
+        this.emissorTokens = emissorTokens;
     }
 
     public record RegisterRequest(String nome, String email, String senha) {}
     public record LoginRequest(String email, String senha) {}
+    public record RefreshRequest(String tokenRenovacao) {}
 
     @PostMapping("/register")
     public ResponseEntity<String> register(@RequestBody RegisterRequest request) {
-        if (repository.existsByEmail(request.email())) {
-            return ResponseEntity.badRequest().body("Email já cadastrado!");
+        if (unicidade.existeEmail(request.email())) {
+            // Mesmo 409 da constraint UNIQUE, que cobre o que a pré-checagem não vê.
+            throw new ConflitoUnicidadeException("E-mail já cadastrado");
         }
 
         Candidato candidato = Candidato.builder()
@@ -47,15 +65,43 @@ public class AuthController {
                 .status(StatusCandidato.ATIVO)
                 .build();
 
-        repository.save(candidato);
+        try {
+            repository.save(candidato);
+        } catch (DataIntegrityViolationException e) {
+            throw ConflitoUnicidadeException.de(e).orElseThrow(() -> e);
+        }
+        unicidade.registrar(candidato.getEmail(), candidato.getCpf());
         return ResponseEntity.ok("Usuário cadastrado com sucesso!");
     }
 
+    /**
+     * Único ponto que paga o BCrypt: devolve um token de acesso curto para {@code Authorization: Bearer}
+     * e um de renovação para o {@code /refresh}.
+     */
     @PostMapping("/login")
-    public ResponseEntity<String> login(@RequestBody LoginRequest request) {
+    public ResponseEntity<TokenDTO> login(@RequestBody LoginRequest request) {
         UsernamePasswordAuthenticationToken authToken =
                 new UsernamePasswordAuthenticationToken(request.email(), request.senha());
-        authenticationManager.authenticate(authToken);
-        return ResponseEntity.ok("Login bem-sucedido!");
+        Authentication autenticacao = authenticationManager.authenticate(authToken);
+        // Só para esta requisição (nada é salvo em sessão): o limite de tentativas devolve a reservada.
+        SecurityContext contexto = SecurityContextHolder.createEmptyContext();
+        contexto.setAuthentication(autenticacao);
+        SecurityContextHolder.setContext(contexto);
+        String email = autenticacao.getName();
+        int versao = repository.findTokenVersaoByEmail(email)
+                .orElseThrow(() -> new BadCredentialsException("Usuário não encontrado"));
+        return ResponseEntity.ok(emissorTokens.emitir(email, versao));
+    }
+
+    /**
+     * Troca um token de renovação válido por um novo par, desde que a senha não tenha mudado desde a emissão.
+     */
+    @PostMapping("/refresh")
+    public ResponseEntity<TokenDTO> refresh(@RequestBody RefreshRequest request) {
+        EmissorTokens.Token token = Optional.ofNullable(request.tokenRenovacao())
+                .flatMap(t -> emissorTokens.validar(t, EmissorTokens.RENOVACAO))
+                .filter(t -> repository.findTokenVersaoByEmail(t.email()).filter(v -> v == t.versao()).isPresent())
+                .orElseThrow(() -> new BadCredentialsException("Token de renovação inválido ou revogado"));
+        return ResponseEntity.ok(emissorTokens.emitir(token.email(), token.versao()));
     }
 }
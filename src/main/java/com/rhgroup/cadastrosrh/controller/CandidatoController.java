@@ -5,12 +5,31 @@ import com.rhgroup.cadastrosrh.dto.CandidatoResponseDTO;
 import com.rhgroup.cadastrosrh.dto.CandidatoUpdateDTO;
 import com.rhgroup.cadastrosrh.dto.CandidatoPatchDTO;
 import com.rhgroup.cadastrosrh.dto.CandidatoSenhaDTO;
+import com.rhgroup.cadastrosrh.dto.ImportacaoResultadoDTO;
+import com.rhgroup.cadastrosrh.dto.FiltroCandidatoDTO;
+import com.rhgroup.cadastrosrh.dto.MudancaStatusLoteDTO;
+import com.rhgroup.cadastrosrh.dto.MudancaStatusResultadoDTO;
+import com.rhgroup.cadastrosrh.dto.OrdenacaoCandidato;
+import com.rhgroup.cadastrosrh.dto.PaginaCursorDTO;
+import com.rhgroup.cadastrosrh.dto.ResultadoBuscaDTO;
+import com.rhgroup.cadastrosrh.dto.ResumoStatusDTO;
+import com.rhgroup.cadastrosrh.dto.VersaoListaDTO;
 import com.rhgroup.cadastrosrh.model.StatusCandidato;
 import com.rhgroup.cadastrosrh.service.CandidatoService;
+import com.rhgroup.cadastrosrh.service.ExportacaoCandidatoService;
+import com.rhgroup.cadastrosrh.service.ImportacaoCandidatoService;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.List;
 import java.util.UUID;
 
@@ -19,9 +38,15 @@ import java.util.UUID;
 public class CandidatoController {
 
     private final CandidatoService service;
+    private final ExportacaoCandidatoService exportacaoService;
+    private final ImportacaoCandidatoService importacaoService;
 
-    public CandidatoController(CandidatoService service) {
+    public CandidatoController(CandidatoService service,
+                               ExportacaoCandidatoService exportacaoService,
+                               ImportacaoCandidatoService importacaoService) {
         this.service = service;
+        this.exportacaoService = exportacaoService;
+        this.importacaoService = importacaoService;
     }
 
     @PostMapping
@@ -30,19 +55,77 @@ public class CandidatoController {
         return ResponseEntity.status(HttpStatus.CREATED).body(novo);
     }
 
+    @PostMapping(value = "/importacao", consumes = "text/csv")
+    public ResponseEntity<ImportacaoResultadoDTO> importarCsv(InputStream corpo) throws IOException {
+        return ResponseEntity.ok(importacaoService.importarCsv(corpo));
+    }
+
+    @PostMapping(value = "/importacao", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<ImportacaoResultadoDTO> importarNdjson(InputStream corpo) throws IOException {
+        return ResponseEntity.ok(importacaoService.importarNdjson(corpo));
+    }
+
     @GetMapping
-    public ResponseEntity<List<CandidatoResponseDTO>> listar() {
-        return ResponseEntity.ok(service.listarTodos());
+    public ResponseEntity<PaginaCursorDTO<CandidatoResponseDTO>> listar(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer tamanho,
+            @RequestParam(defaultValue = "CRIADO_EM") OrdenacaoCandidato ordenacao) {
+        return ResponseEntity.ok(service.listar(cursor, tamanho, ordenacao));
     }
 
+    @GetMapping("/resumo")
+    public ResponseEntity<ResumoStatusDTO> resumoPorStatus() {
+        return ResponseEntity.ok(service.resumoPorStatus());
+    }
+
+    @GetMapping("/filtro")
+    public ResponseEntity<PaginaCursorDTO<CandidatoResponseDTO>> filtrar(
+            FiltroCandidatoDTO filtro,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer tamanho) {
+        return ResponseEntity.ok(service.filtrar(filtro, cursor, tamanho));
+    }
+
+    @GetMapping("/busca")
+    public ResponseEntity<List<ResultadoBuscaDTO>> buscarTexto(
+            @RequestParam("q") String consulta,
+            @RequestParam(required = false) Integer limite) {
+        return ResponseEntity.ok(service.buscarTexto(consulta, limite));
+    }
+
+    @GetMapping(value = "/exportacao", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportar(
+            @RequestParam(required = false) StatusCandidato status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime atualizadoDe,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime atualizadoAte) {
+        StreamingResponseBody corpo = saida ->
+                exportacaoService.exportarNdjson(saida, status, atualizadoDe, atualizadoAte);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(corpo);
+    }
+
+    // GETs condicionais: com If-None-Match igual ao ETag atual responde 304 sem serializar o corpo.
+
     @GetMapping("/{id}")
-    public ResponseEntity<CandidatoResponseDTO> buscarPorId(@PathVariable UUID id) {
-        return ResponseEntity.ok(service.buscarPorId(id));
+    public ResponseEntity<CandidatoResponseDTO> buscarPorId(@PathVariable UUID id, WebRequest request) {
+        CandidatoResponseDTO candidato = service.buscarPorId(id);
+        String etag = etag(id.toString(), candidato.getAtualizadoEm());
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag).body(candidato);
     }
 
     @GetMapping("/status/{status}")
-    public ResponseEntity<List<CandidatoResponseDTO>> buscarPorStatus(@PathVariable StatusCandidato status) {
-        return ResponseEntity.ok(service.buscarPorStatus(status));
+    public ResponseEntity<List<CandidatoResponseDTO>> buscarPorStatus(@PathVariable StatusCandidato status,
+                                                                      WebRequest request) {
+        VersaoListaDTO versao = service.versaoPorStatus(status);
+        String etag = etag(status.name() + "-" + versao.total(), versao.ultimaAtualizacao());
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag).body(service.buscarPorStatus(status));
     }
 
     @PutMapping("/{id}")
@@ -61,6 +144,11 @@ public class CandidatoController {
         return ResponseEntity.ok(atualizado);
     }
 
+    @PatchMapping("/status")
+    public ResponseEntity<MudancaStatusResultadoDTO> mudarStatusEmLote(@RequestBody MudancaStatusLoteDTO dto) {
+        return ResponseEntity.ok(service.mudarStatusEmLote(dto));
+    }
+
     @PatchMapping("/{id}/senha")
     public ResponseEntity<Void> atualizarSenha(
             @PathVariable UUID id,
@@ -74,4 +162,10 @@ public class CandidatoController {
         service.deletar(id);
         return ResponseEntity.noContent().build();
     }
-}
\ No newline at end of file
+
+    private static String etag(String chave, LocalDateTime atualizadoEm) {
+        long versao = atualizadoEm == null ? 0
+                : atualizadoEm.toEpochSecond(ZoneOffset.UTC) * 1_000_000_000L + atualizadoEm.getNano();
+        return "\"" + chave + "-" + Long.toHexString(versao) + "\"";
+    }
+}
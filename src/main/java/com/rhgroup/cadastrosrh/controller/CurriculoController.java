@@ -0,0 +1,134 @@
+package com.rhgroup.cadastrosrh.controller;
+
+import com.rhgroup.cadastrosrh.dto.CurriculoDTO;
+import com.rhgroup.cadastrosrh.service.CurriculoService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestPart;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/candidatos/{id}/curriculo")
+public class CurriculoController {
+
+    // Atributos do Tomcat para sendfile: o conector NIO envia o arquivo com FileChannel.transferTo
+    // direto para o socket, sem passar o conteúdo pelo heap.
+    private static final String SENDFILE_SUPORTADO = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_ARQUIVO = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_INICIO = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_FIM = "org.apache.tomcat.sendfile.end";
+
+    private final CurriculoService service;
+
+    public CurriculoController(CurriculoService service) {
+        this.service = service;
+    }
+
+    @PutMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<CurriculoDTO> enviar(@PathVariable UUID id, @RequestPart("arquivo") MultipartFile arquivo) {
+        return ResponseEntity.ok(service.enviar(id, arquivo));
+    }
+
+    /**
+     * Download com GET condicional (ETag/Last-Modified), uma faixa via {@code Range} (206/416) e
+     * {@code If-Range}. Pedidos com várias faixas recebem o arquivo inteiro, como a RFC 9110 permite.
+     */
+    @GetMapping
+    public void baixar(@PathVariable UUID id, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        CurriculoDTO curriculo = service.buscar(id);
+        Path arquivo = service.arquivo(curriculo);
+        long tamanho = Files.size(arquivo);
+        // Conteúdo endereçado por hash: o próprio SHA-256 é um ETag forte.
+        String etag = "\"" + (curriculo.sha256() != null ? curriculo.sha256() : curriculo.chave()) + "\"";
+        long ultimaModificacao = curriculo.atualizadoEm().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().cachePrivate().getHeaderValue());
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        if (new ServletWebRequest(request, response).checkNotModified(etag, ultimaModificacao)) {
+            return;
+        }
+
+        long inicio = 0;
+        long fim = tamanho - 1;
+        List<HttpRange> faixas = faixas(request, etag);
+        if (faixas.size() == 1) {
+            HttpRange faixa = faixas.get(0);
+            inicio = faixa.getRangeStart(tamanho);
+            fim = faixa.getRangeEnd(tamanho);
+            if (inicio >= tamanho || fim < inicio) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + tamanho);
+                response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                return;
+            }
+            response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + inicio + "-" + fim + "/" + tamanho);
+        }
+
+        long quantidade = fim - inicio + 1;
+        response.setContentType(curriculo.contentType());
+        response.setContentLengthLong(quantidade);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename(curriculo.nome(), StandardCharsets.UTF_8).build().toString());
+        if (HttpMethod.HEAD.matches(request.getMethod()) || quantidade == 0) {
+            return;
+        }
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPORTADO))) {
+            request.setAttribute(SENDFILE_ARQUIVO, arquivo.toString());
+            request.setAttribute(SENDFILE_INICIO, inicio);
+            request.setAttribute(SENDFILE_FIM, fim + 1);
+            return;
+        }
+        try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.READ)) {
+            WritableByteChannel saida = Channels.newChannel(response.getOutputStream());
+            long enviados = 0;
+            while (enviados < quantidade) {
+                enviados += canal.transferTo(inicio + enviados, quantidade - enviados, saida);
+            }
+        }
+    }
+
+    private static List<HttpRange> faixas(HttpServletRequest request, String etag) {
+        String range = request.getHeader(HttpHeaders.RANGE);
+        if (range == null) {
+            return List.of();
+        }
+        // If-Range com outro validador: o cliente tem uma versão antiga, então vai o arquivo inteiro.
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange != null && !ifRange.equals(etag)) {
+            return List.of();
+        }
+        try {
+            return HttpRange.parseRanges(range);
+        } catch (IllegalArgumentException e) {
+            return List.of();
+        }
+    }
+}
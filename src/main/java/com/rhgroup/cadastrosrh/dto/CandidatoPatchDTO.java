@@ -1,5 +1,6 @@
 package com.rhgroup.cadastrosrh.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.rhgroup.cadastrosrh.model.StatusCandidato;
 import lombok.Getter;
 import lombok.Setter;
@@ -14,4 +15,10 @@ public class CandidatoPatchDTO {
     private Integer experienciaAnos;
     private BigDecimal pretensaoSalarial;
     private StatusCandidato status;
+
+    @JsonIgnore
+    public boolean isVazio() {
+        return nome == null && celular == null && areaInteresse == null
+                && experienciaAnos == null && pretensaoSalarial == null && status == null;
+    }
 }
@@ -3,8 +3,8 @@ package com.rhgroup.cadastrosrh.dto;
 import com.rhgroup.cadastrosrh.model.Candidato;
 import com.rhgroup.cadastrosrh.model.StatusCandidato;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
-import org.springframework.beans.BeanUtils;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -12,6 +12,7 @@ import java.util.UUID;
 
 @Getter
 @Setter
+@NoArgsConstructor
 public class CandidatoResponseDTO {
     private UUID id;
     private String nome;
@@ -26,11 +27,30 @@ public class CandidatoResponseDTO {
     private LocalDateTime criadoEm;
     private LocalDateTime atualizadoEm;
 
+    /**
+     * Usado pelas projeções JPQL ({@code select new ...}): só as colunas da resposta saem do banco.
+     * O CPF nunca é exposto, por isso não faz parte da projeção.
+     */
+    public CandidatoResponseDTO(UUID id, String nome, LocalDate dataNascimento, String email, String celular,
+                                String areaInteresse, Integer experienciaAnos, BigDecimal pretensaoSalarial,
+                                StatusCandidato status, LocalDateTime criadoEm, LocalDateTime atualizadoEm) {
+        this.id = id;
+        this.nome = nome;
+        this.dataNascimento = dataNascimento;
+        this.email = email;
+        this.celular = celular;
+        this.areaInteresse = areaInteresse;
+        this.experienciaAnos = experienciaAnos;
+        this.pretensaoSalarial = pretensaoSalarial;
+        this.status = status;
+        this.criadoEm = criadoEm;
+        this.atualizadoEm = atualizadoEm;
+    }
+
     public static CandidatoResponseDTO fromEntity(Candidato c) {
         if (c == null) return null;
-        var dto = new CandidatoResponseDTO();
-        BeanUtils.copyProperties(c, dto);
-        dto.setCpf(null);
-        return dto;
+        return new CandidatoResponseDTO(c.getId(), c.getNome(), c.getDataNascimento(), c.getEmail(), c.getCelular(),
+                c.getAreaInteresse(), c.getExperienciaAnos(), c.getPretensaoSalarial(), c.getStatus(),
+                c.getCriadoEm(), c.getAtualizadoEm());
     }
 }
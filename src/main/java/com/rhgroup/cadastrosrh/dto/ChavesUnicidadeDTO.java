@@ -0,0 +1,4 @@
+package com.rhgroup.cadastrosrh.dto;
+
+public record ChavesUnicidadeDTO(String email, String cpf) {
+}
@@ -0,0 +1,6 @@
+package com.rhgroup.cadastrosrh.dto;
+
+import com.rhgroup.cadastrosrh.model.StatusCandidato;
+
+public record ContagemStatusDTO(StatusCandidato status, long total) {
+}
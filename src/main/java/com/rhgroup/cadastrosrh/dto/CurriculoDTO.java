@@ -0,0 +1,19 @@
+package com.rhgroup.cadastrosrh.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import java.time.LocalDateTime;
+
+/**
+ * Metadados do currículo de um candidato. A {@code chave} localiza o arquivo no armazenamento
+ * (coluna {@code curriculo_url}) e não sai na resposta; o {@code sha256} do conteúdo sai, para
+ * o cliente conferir o download ou evitar reenviar o mesmo arquivo.
+ */
+public record CurriculoDTO(@JsonIgnore String chave,
+                           String nome,
+                           String contentType,
+                           Long tamanhoBytes,
+                           LocalDateTime atualizadoEm,
+                           String storage,
+                           String sha256) {
+}
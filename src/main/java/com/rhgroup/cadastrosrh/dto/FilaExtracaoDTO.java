@@ -0,0 +1,9 @@
+package com.rhgroup.cadastrosrh.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Tamanho da fila de extração de currículos e o envio pendente mais antigo ({@code null} com a fila vazia).
+ */
+public record FilaExtracaoDTO(long pendentes, LocalDateTime maisAntigo) {
+}
@@ -0,0 +1,32 @@
+package com.rhgroup.cadastrosrh.dto;
+
+import com.rhgroup.cadastrosrh.model.StatusCandidato;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Critérios de GET /candidatos/filtro. Todos opcionais; faixas são inclusivas,
+ * exceto {@code criadoAte}, que é exclusivo.
+ */
+@Getter
+@Setter
+public class FiltroCandidatoDTO {
+    private StatusCandidato status;
+    private Integer experienciaMin;
+    private Integer experienciaMax;
+    private BigDecimal pretensaoMin;
+    private BigDecimal pretensaoMax;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate nascidoDe;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate nascidoAte;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime criadoDe;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime criadoAte;
+}
@@ -0,0 +1,7 @@
+package com.rhgroup.cadastrosrh.dto;
+
+/**
+ * Linha rejeitada na importação em lote. {@code linha} segue a numeração do arquivo (cabeçalho incluso).
+ */
+public record ImportacaoErroDTO(long linha, String mensagem) {
+}
@@ -0,0 +1,9 @@
+package com.rhgroup.cadastrosrh.dto;
+
+import java.util.List;
+
+/**
+ * Relatório da importação em lote. A lista de erros é truncada; {@code rejeitados} traz o total real.
+ */
+public record ImportacaoResultadoDTO(long totalLinhas, long importados, long rejeitados, List<ImportacaoErroDTO> erros) {
+}
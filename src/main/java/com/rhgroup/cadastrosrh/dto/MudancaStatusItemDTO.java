@@ -0,0 +1,11 @@
+package com.rhgroup.cadastrosrh.dto;
+
+import com.rhgroup.cadastrosrh.model.StatusCandidato;
+
+import java.util.UUID;
+
+/**
+ * Desfecho de um candidato na mudança de status em lote; {@code statusAnterior} é nulo se ele não existe.
+ */
+public record MudancaStatusItemDTO(UUID id, ResultadoMudancaStatus resultado, StatusCandidato statusAnterior) {
+}
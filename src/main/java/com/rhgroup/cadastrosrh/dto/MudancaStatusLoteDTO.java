@@ -0,0 +1,20 @@
+package com.rhgroup.cadastrosrh.dto;
+
+import com.rhgroup.cadastrosrh.model.StatusCandidato;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Corpo de PATCH /candidatos/status: os candidatos vêm de {@code ids} ou de {@code filtro}
+ * (mesmos critérios de GET /candidatos/filtro), nunca dos dois.
+ */
+@Getter
+@Setter
+public class MudancaStatusLoteDTO {
+    private List<UUID> ids;
+    private FiltroCandidatoDTO filtro;
+    private StatusCandidato status;
+}
@@ -0,0 +1,12 @@
+package com.rhgroup.cadastrosrh.dto;
+
+import com.rhgroup.cadastrosrh.model.StatusCandidato;
+
+import java.util.List;
+
+/**
+ * Relatório da mudança de status em lote, com um item por candidato na ordem do pedido.
+ */
+public record MudancaStatusResultadoDTO(StatusCandidato status, long alterados, long inalterados,
+                                        long naoEncontrados, List<MudancaStatusItemDTO> resultados) {
+}
@@ -0,0 +1,10 @@
+package com.rhgroup.cadastrosrh.dto;
+
+/**
+ * Ordenações estáveis suportadas pela listagem paginada por cursor.
+ * Todas usam o {@code id} como critério de desempate.
+ */
+public enum OrdenacaoCandidato {
+    CRIADO_EM,
+    NOME
+}
@@ -0,0 +1,10 @@
+package com.rhgroup.cadastrosrh.dto;
+
+import java.util.List;
+
+/**
+ * Página de resultados paginada por cursor (keyset).
+ * {@code proximoCursor} é nulo quando não há mais registros.
+ */
+public record PaginaCursorDTO<T>(List<T> itens, int tamanho, String proximoCursor) {
+}
@@ -0,0 +1,6 @@
+package com.rhgroup.cadastrosrh.dto;
+
+import java.util.UUID;
+
+public record ResultadoBuscaDTO(UUID id, String nome, String areaInteresse, double relevancia) {
+}
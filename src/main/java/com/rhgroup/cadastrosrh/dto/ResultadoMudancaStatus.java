@@ -0,0 +1,7 @@
+package com.rhgroup.cadastrosrh.dto;
+
+public enum ResultadoMudancaStatus {
+    ALTERADO,
+    JA_NO_STATUS,
+    NAO_ENCONTRADO
+}
@@ -0,0 +1,13 @@
+package com.rhgroup.cadastrosrh.dto;
+
+import com.rhgroup.cadastrosrh.model.StatusCandidato;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Funil de candidatos: quantidade em cada status. {@code reconciliadoEm} indica a última
+ * conferência dos contadores contra o banco.
+ */
+public record ResumoStatusDTO(Map<StatusCandidato, Long> porStatus, long total, LocalDateTime reconciliadoEm) {
+}
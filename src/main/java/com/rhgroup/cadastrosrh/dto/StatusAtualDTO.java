@@ -0,0 +1,8 @@
+package com.rhgroup.cadastrosrh.dto;
+
+import com.rhgroup.cadastrosrh.model.StatusCandidato;
+
+import java.util.UUID;
+
+public record StatusAtualDTO(UUID id, StatusCandidato status) {
+}
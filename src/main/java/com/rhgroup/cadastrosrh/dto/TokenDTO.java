@@ -0,0 +1,13 @@
+package com.rhgroup.cadastrosrh.dto;
+
+/**
+ * Resposta do login e da renovação: {@code tokenAcesso} vai em {@code Authorization: Bearer ...};
+ * {@code tokenRenovacao} só no {@code POST /api/v1/auth/refresh}.
+ */
+public record TokenDTO(
+        String tokenAcesso,
+        String tokenRenovacao,
+        String tipo,
+        long expiraEmSegundos
+) {
+}
@@ -0,0 +1,9 @@
+package com.rhgroup.cadastrosrh.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Versão de uma listagem: muda sempre que um item entra, sai ou é atualizado.
+ */
+public record VersaoListaDTO(long total, LocalDateTime ultimaAtualizacao) {
+}
@@ -1,11 +1,35 @@
 package com.rhgroup.cadastrosrh.exception;
 
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.ResponseStatus;
 
+import java.sql.SQLException;
+import java.util.Locale;
+import java.util.Optional;
+
 @ResponseStatus(HttpStatus.CONFLICT)
 public class ConflitoUnicidadeException extends RuntimeException {
+
+    // SQLState de violação de UNIQUE, igual no PostgreSQL e no H2.
+    private static final String UNIQUE_VIOLATION = "23505";
+
     public ConflitoUnicidadeException(String mensagem) {
         super(mensagem);
     }
-}
\ No newline at end of file
+
+    /**
+     * Traduz a violação de UNIQUE de e-mail ou CPF; outras violações de integridade ficam como estão.
+     */
+    public static Optional<ConflitoUnicidadeException> de(DataIntegrityViolationException e) {
+        for (Throwable causa = e; causa != null; causa = causa.getCause()) {
+            if (causa instanceof SQLException sql && UNIQUE_VIOLATION.equals(sql.getSQLState())) {
+                String mensagem = String.valueOf(sql.getMessage()).toLowerCase(Locale.ROOT);
+                if (mensagem.contains("cpf")) return Optional.of(new ConflitoUnicidadeException("CPF já cadastrado"));
+                if (mensagem.contains("email")) return Optional.of(new ConflitoUnicidadeException("E-mail já cadastrado"));
+                return Optional.of(new ConflitoUnicidadeException("E-mail ou CPF já cadastrado"));
+            }
+        }
+        return Optional.empty();
+    }
+}
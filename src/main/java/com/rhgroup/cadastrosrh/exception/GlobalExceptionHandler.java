@@ -1,13 +1,18 @@
 package com.rhgroup.cadastrosrh.exception;
 
 import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.dao.DataAccessResourceFailureException;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
 
 import java.util.LinkedHashMap;
 import java.util.Map;
@@ -37,6 +42,15 @@ public class GlobalExceptionHandler {
     return pd;
   }
 
+  @ExceptionHandler(RequisicaoInvalidaException.class)
+  public ProblemDetail handleBadRequest(RequisicaoInvalidaException ex, HttpServletRequest req) {
+    ProblemDetail pd = ProblemDetail.forStatus(HttpStatus.BAD_REQUEST);
+    pd.setTitle("Requisição inválida");
+    pd.setDetail(ex.getMessage());
+    pd.setProperty("path", req.getRequestURI());
+    return pd;
+  }
+
   @ExceptionHandler(ConflitoUnicidadeException.class)
   public ProblemDetail handleConflict(ConflitoUnicidadeException ex, HttpServletRequest req) {
     ProblemDetail pd = ProblemDetail.forStatus(HttpStatus.CONFLICT);
@@ -55,6 +69,52 @@ public class GlobalExceptionHandler {
     return pd;
   }
 
+  @ExceptionHandler(ServicoIndisponivelException.class)
+  public ResponseEntity<ProblemDetail> handleUnavailable(ServicoIndisponivelException ex, HttpServletRequest req) {
+    ProblemDetail pd = ProblemDetail.forStatus(HttpStatus.SERVICE_UNAVAILABLE);
+    pd.setTitle("Serviço sobrecarregado");
+    pd.setDetail(ex.getMessage());
+    pd.setProperty("path", req.getRequestURI());
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getTentarNovamenteEmSegundos()))
+            .body(pd);
+  }
+
+  @ExceptionHandler(TipoArquivoNaoSuportadoException.class)
+  public ProblemDetail handleUnsupportedFile(TipoArquivoNaoSuportadoException ex, HttpServletRequest req) {
+    ProblemDetail pd = ProblemDetail.forStatus(HttpStatus.UNSUPPORTED_MEDIA_TYPE);
+    pd.setTitle("Tipo de arquivo não suportado");
+    pd.setDetail(ex.getMessage());
+    pd.setProperty("path", req.getRequestURI());
+    return pd;
+  }
+
+  @ExceptionHandler(MaxUploadSizeExceededException.class)
+  public ProblemDetail handleUploadTooLarge(MaxUploadSizeExceededException ex, HttpServletRequest req) {
+    ProblemDetail pd = ProblemDetail.forStatus(HttpStatus.PAYLOAD_TOO_LARGE);
+    pd.setTitle("Arquivo muito grande");
+    pd.setDetail(ex.getMaxUploadSize() > 0
+            ? "O arquivo excede o limite de " + ex.getMaxUploadSize() + " bytes."
+            : "O arquivo excede o limite permitido.");
+    pd.setProperty("path", req.getRequestURI());
+    return pd;
+  }
+
+  /**
+   * Pool de conexões esgotado (espera acima do connection-timeout do Hikari) ou banco fora do ar:
+   * responde rápido com 503 em vez de segurar a requisição.
+   */
+  @ExceptionHandler({CannotCreateTransactionException.class, DataAccessResourceFailureException.class})
+  public ResponseEntity<ProblemDetail> handleDatabaseUnavailable(RuntimeException ex, HttpServletRequest req) {
+    ProblemDetail pd = ProblemDetail.forStatus(HttpStatus.SERVICE_UNAVAILABLE);
+    pd.setTitle("Serviço sobrecarregado");
+    pd.setDetail("Nenhuma conexão com o banco de dados disponível no momento.");
+    pd.setProperty("path", req.getRequestURI());
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, "1")
+            .body(pd);
+  }
+
   private Map<String, Object> toError(FieldError fe) {
     Map<String, Object> m = new LinkedHashMap<>();
     m.put("field", fe.getField());
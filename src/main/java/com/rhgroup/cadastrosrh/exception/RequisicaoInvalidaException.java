@@ -0,0 +1,11 @@
+package com.rhgroup.cadastrosrh.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class RequisicaoInvalidaException extends RuntimeException {
+    public RequisicaoInvalidaException(String mensagem) {
+        super(mensagem);
+    }
+}
@@ -0,0 +1,19 @@
+package com.rhgroup.cadastrosrh.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class ServicoIndisponivelException extends RuntimeException {
+
+    private final long tentarNovamenteEmSegundos;
+
+    public ServicoIndisponivelException(String mensagem, long tentarNovamenteEmSegundos) {
+        super(mensagem);
+        this.tentarNovamenteEmSegundos = tentarNovamenteEmSegundos;
+    }
+
+    public long getTentarNovamenteEmSegundos() {
+        return tentarNovamenteEmSegundos;
+    }
+}
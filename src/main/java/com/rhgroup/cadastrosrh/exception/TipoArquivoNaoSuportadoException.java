@@ -0,0 +1,11 @@
+package com.rhgroup.cadastrosrh.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.UNSUPPORTED_MEDIA_TYPE)
+public class TipoArquivoNaoSuportadoException extends RuntimeException {
+    public TipoArquivoNaoSuportadoException(String mensagem) {
+        super(mensagem);
+    }
+}
@@ -3,6 +3,7 @@ package com.rhgroup.cadastrosrh.model;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -16,10 +17,18 @@ import java.util.UUID;
 @AllArgsConstructor
 @Builder(toBuilder = true)
 @Entity
+// UPDATEs gerados pelo dirty checking (PUT, senha, currículo) levam só as colunas alteradas,
+// sem regravar area_interesse e o resto da linha a cada escrita.
+@DynamicUpdate
 @Table(name = "candidatos",
         indexes = {
-                @Index(name = "idx_candidatos_nome", columnList = "nome"),
-                @Index(name = "idx_candidatos_status", columnList = "status")
+                @Index(name = "idx_candidatos_nome_id", columnList = "nome, id"),
+                @Index(name = "idx_candidatos_criado_em_id", columnList = "criado_em, id"),
+                @Index(name = "idx_candidatos_status_criado_em_id", columnList = "status, criado_em, id"),
+                @Index(name = "idx_candidatos_status_experiencia", columnList = "status, experiencia_anos"),
+                @Index(name = "idx_candidatos_status_pretensao", columnList = "status, pretensao_salarial"),
+                @Index(name = "idx_candidatos_data_nascimento", columnList = "data_nascimento"),
+                @Index(name = "idx_candidatos_curriculo_hash", columnList = "curriculo_hash")
         })
 public class Candidato {
 
@@ -40,9 +49,15 @@ public class Candidato {
     private String email;
 
     @JsonIgnore
-    @Column(name = "senha_hash", length = 60, nullable = false)
+    @Column(name = "senha_hash", length = 255, nullable = false)
     private String senhaHash;
 
+    // Incrementada na troca de senha: tokens emitidos com versão menor deixam de valer.
+    @JsonIgnore
+    @Builder.Default
+    @Column(name = "token_versao", nullable = false)
+    private int tokenVersao = 0;
+
     @Column(length = 20)
     private String celular;
 
@@ -78,6 +93,10 @@ public class Candidato {
     @Column(name = "curriculo_storage", length = 10)
     private String curriculoStorage;
 
+    // SHA-256 (hex) do conteúdo; candidatos com o mesmo hash compartilham o mesmo arquivo.
+    @Column(name = "curriculo_hash", length = 64)
+    private String curriculoHash;
+
     @Column(name = "criado_em", nullable = false, updatable = false)
     private LocalDateTime criadoEm;
 
@@ -0,0 +1,52 @@
+package com.rhgroup.cadastrosrh.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Fila persistente da extração de texto dos currículos: uma linha por candidato, reaproveitada a cada envio.
+ * O hash identifica qual arquivo a tarefa extrai; um envio novo durante a extração troca o hash e a
+ * conclusão da tarefa antiga deixa de valer.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "curriculo_extracoes",
+        indexes = @Index(name = "idx_curriculo_extracoes_fila", columnList = "situacao, proxima_tentativa_em"))
+public class CurriculoExtracao {
+
+    @Id
+    @Column(name = "candidato_id")
+    private UUID candidatoId;
+
+    @Column(name = "curriculo_hash", length = 64, nullable = false)
+    private String curriculoHash;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private SituacaoExtracao situacao;
+
+    @Column(nullable = false)
+    private int tentativas;
+
+    @Column(name = "enfileirado_em", nullable = false)
+    private LocalDateTime enfileiradoEm;
+
+    @Column(name = "proxima_tentativa_em", nullable = false)
+    private LocalDateTime proximaTentativaEm;
+
+    @Column(name = "iniciado_em")
+    private LocalDateTime iniciadoEm;
+
+    @Column(name = "concluido_em")
+    private LocalDateTime concluidoEm;
+
+    @Column(length = 500)
+    private String erro;
+}
@@ -0,0 +1,34 @@
+package com.rhgroup.cadastrosrh.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Texto extraído do currículo atual do candidato, usado pela busca textual.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "curriculo_textos")
+public class CurriculoTexto {
+
+    public static final int TAMANHO_MAXIMO = 100_000;
+
+    @Id
+    @Column(name = "candidato_id")
+    private UUID candidatoId;
+
+    @Column(name = "curriculo_hash", length = 64, nullable = false)
+    private String curriculoHash;
+
+    @Column(nullable = false, length = TAMANHO_MAXIMO)
+    private String texto;
+
+    @Column(name = "extraido_em", nullable = false)
+    private LocalDateTime extraidoEm;
+}
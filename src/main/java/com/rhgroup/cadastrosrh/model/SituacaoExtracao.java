@@ -0,0 +1,10 @@
+package com.rhgroup.cadastrosrh.model;
+
+public enum SituacaoExtracao {
+    PENDENTE,
+    PROCESSANDO,
+    CONCLUIDA,
+    // Tipo sem extrator (DOC/DOCX) ou PDF protegido por senha.
+    IGNORADA,
+    FALHOU
+}
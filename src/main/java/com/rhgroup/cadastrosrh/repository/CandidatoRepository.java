@@ -1,18 +1,171 @@
 package com.rhgroup.cadastrosrh.repository;
 
+import com.rhgroup.cadastrosrh.dto.CandidatoResponseDTO;
+import com.rhgroup.cadastrosrh.dto.ChavesUnicidadeDTO;
+import com.rhgroup.cadastrosrh.dto.ContagemStatusDTO;
+import com.rhgroup.cadastrosrh.dto.CurriculoDTO;
+import com.rhgroup.cadastrosrh.dto.StatusAtualDTO;
+import com.rhgroup.cadastrosrh.dto.VersaoListaDTO;
 import com.rhgroup.cadastrosrh.model.Candidato;
 import com.rhgroup.cadastrosrh.model.StatusCandidato;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
-public interface CandidatoRepository extends JpaRepository<Candidato, UUID> {
+public interface CandidatoRepository extends JpaRepository<Candidato, UUID>, CandidatoRepositoryCustom {
+
+    /**
+     * Projeção das leituras: só as colunas da resposta, direto no DTO.
+     * Fica de fora o hash da senha, o CPF e os metadados do currículo; nada entra no contexto de persistência.
+     */
+    String PROJECAO_RESPOSTA = """
+            select new com.rhgroup.cadastrosrh.dto.CandidatoResponseDTO(
+                c.id, c.nome, c.dataNascimento, c.email, c.celular, c.areaInteresse,
+                c.experienciaAnos, c.pretensaoSalarial, c.status, c.criadoEm, c.atualizadoEm)
+            from Candidato c
+            """;
+
     boolean existsByCpf(String cpf);
     boolean existsByEmail(String email);
     Optional<Candidato> findByEmail(String email);
     List<Candidato> findByStatus(StatusCandidato status);
+
+    @Query(PROJECAO_RESPOSTA + "where c.id = :id")
+    Optional<CandidatoResponseDTO> findRespostaById(UUID id);
+
+    @Query("""
+            select new com.rhgroup.cadastrosrh.dto.CurriculoDTO(
+                c.curriculoUrl, c.curriculoNome, c.curriculoContentType, c.curriculoTamanhoBytes,
+                c.curriculoAtualizadoEm, c.curriculoStorage, c.curriculoHash)
+            from Candidato c where c.id = :id
+            """)
+    Optional<CurriculoDTO> findCurriculoById(UUID id);
+
+    // Mudança de status em lote: lê o status atual travando as linhas até o fim da transação,
+    // para que o status anterior (contadores, resposta) seja o que o UPDATE de fato substitui.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select new com.rhgroup.cadastrosrh.dto.StatusAtualDTO(c.id, c.status) from Candidato c where c.id in :ids")
+    List<StatusAtualDTO> travarStatus(Collection<UUID> ids);
+
+    // Envio de currículo: trava a linha até o fim da transação, para que envios simultâneos do mesmo
+    // candidato se enfileirem e cada um leia o arquivo que de fato substitui.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select c from Candidato c where c.id = :id")
+    Optional<Candidato> travarPorId(UUID id);
+
+    // UPDATE direto não passa pelo @PreUpdate, então atualizadoEm vai explícito (ETags dependem dele).
+    @Modifying
+    @Query("update Candidato c set c.status = :status, c.atualizadoEm = :agora where c.id in :ids")
+    int atualizarStatus(Collection<UUID> ids, StatusCandidato status, LocalDateTime agora);
+
+    // Versão atual dos tokens do candidato, conferida na renovação.
+    @Query("select c.tokenVersao from Candidato c where c.email = :email")
+    Optional<Integer> findTokenVersaoByEmail(String email);
+
+    // Rehash da senha no login: condicional ao hash verificado, para não desfazer uma troca de senha concorrente.
+    @Modifying
+    @Query("update Candidato c set c.senhaHash = :novo where c.email = :email and c.senhaHash = :atual")
+    int atualizarSenhaHash(String email, String atual, String novo);
+
+    // Contagem de referências de um arquivo de currículo (índice idx_candidatos_curriculo_hash).
+    boolean existsByCurriculoHash(String curriculoHash);
+
+    @Query(PROJECAO_RESPOSTA + "where c.status = :status")
+    List<CandidatoResponseDTO> findRespostasByStatus(StatusCandidato status);
+
+    // Usada no ETag de /status/{status}: só agrega, não lê nenhuma linha para a aplicação.
+    @Query("""
+            select new com.rhgroup.cadastrosrh.dto.VersaoListaDTO(count(c), max(c.atualizadoEm))
+            from Candidato c where c.status = :status
+            """)
+    VersaoListaDTO findVersaoPorStatus(StatusCandidato status);
+
+    @Query("""
+            select new com.rhgroup.cadastrosrh.dto.ContagemStatusDTO(c.status, count(c))
+            from Candidato c group by c.status
+            """)
+    List<ContagemStatusDTO> contarPorStatus();
+
+    // Paginação keyset: o Pageable só limita a janela (sem OFFSET, sem COUNT).
+
+    @Query(PROJECAO_RESPOSTA + "order by c.criadoEm asc, c.id asc")
+    List<CandidatoResponseDTO> findPrimeirosPorCriadoEm(Pageable janela);
+
+    @Query(PROJECAO_RESPOSTA + """
+            where c.criadoEm > :criadoEm or (c.criadoEm = :criadoEm and c.id > :id)
+            order by c.criadoEm asc, c.id asc
+            """)
+    List<CandidatoResponseDTO> findProximosPorCriadoEm(LocalDateTime criadoEm, UUID id, Pageable janela);
+
+    @Query(PROJECAO_RESPOSTA + "order by c.nome asc, c.id asc")
+    List<CandidatoResponseDTO> findPrimeirosPorNome(Pageable janela);
+
+    @Query(PROJECAO_RESPOSTA + """
+            where c.nome > :nome or (c.nome = :nome and c.id > :id)
+            order by c.nome asc, c.id asc
+            """)
+    List<CandidatoResponseDTO> findProximosPorNome(String nome, UUID id, Pageable janela);
+
+    // Exportação: cursor do JDBC com fetch size. Precisa ser consumido dentro de uma transação e fechado ao final.
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(PROJECAO_RESPOSTA + """
+            where (:status is null or c.status = :status)
+              and (:atualizadoDe is null or c.atualizadoEm >= :atualizadoDe)
+              and (:atualizadoAte is null or c.atualizadoEm < :atualizadoAte)
+            """)
+    Stream<CandidatoResponseDTO> streamParaExportacao(StatusCandidato status, LocalDateTime atualizadoDe, LocalDateTime atualizadoAte);
+
+    // Carga do filtro de unicidade (e-mail e CPF), pelo mesmo cursor da exportação.
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select new com.rhgroup.cadastrosrh.dto.ChavesUnicidadeDTO(c.email, c.cpf) from Candidato c")
+    Stream<ChavesUnicidadeDTO> streamChavesUnicidade();
+
+    // Somente PostgreSQL: depende das colunas geradas busca_documento (V4) e curriculo_textos.documento (V7).
+    // Os índices GIN pré-filtram quem tem algum termo em algum dos dois; a exigência de todos os termos
+    // vale sobre o documento combinado, como no índice em memória.
+    @Query(nativeQuery = true, value = """
+            with consulta as (
+                select q, cast(replace(cast(q as text), '&', '|') as tsquery) as qualquer
+                from websearch_to_tsquery('portuguese', f_unaccent(:consulta)) q
+            ), com_algum_termo as (
+                select c.id from candidatos c, consulta where c.busca_documento @@ consulta.qualquer
+                union
+                select t.candidato_id from curriculo_textos t, consulta where t.documento @@ consulta.qualquer
+            )
+            select c.id as "id", c.nome as "nome", c.area_interesse as "areaInteresse",
+                   cast(ts_rank(d.documento, consulta.q) as double precision) as "relevancia"
+            from com_algum_termo a
+            join candidatos c on c.id = a.id
+            left join curriculo_textos t on t.candidato_id = c.id
+            cross join consulta
+            cross join lateral (
+                select c.busca_documento || coalesce(t.documento, cast('' as tsvector)) as documento
+            ) d
+            where d.documento @@ consulta.q
+            order by 4 desc, c.id
+            limit :limite
+            """)
+    List<ResultadoBuscaProjecao> buscarTextoCompleto(String consulta, int limite);
+
+    @Query("select c.email from Candidato c where c.email in :emails")
+    Set<String> findEmailsExistentes(Collection<String> emails);
+
+    @Query("select c.cpf from Candidato c where c.cpf in :cpfs")
+    Set<String> findCpfsExistentes(Collection<String> cpfs);
 }
@@ -0,0 +1,33 @@
+package com.rhgroup.cadastrosrh.repository;
+
+import com.rhgroup.cadastrosrh.dto.CandidatoPatchDTO;
+import com.rhgroup.cadastrosrh.dto.CandidatoResponseDTO;
+import com.rhgroup.cadastrosrh.model.Candidato;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Consultas de {@link CandidatoRepository} montadas com Criteria API.
+ */
+public interface CandidatoRepositoryCustom {
+
+    /**
+     * Aplica a especificação e projeta direto em {@link CandidatoResponseDTO},
+     * ordenando por {@code criadoEm, id} e lendo no máximo {@code limite} linhas.
+     */
+    List<CandidatoResponseDTO> filtrar(Specification<Candidato> especificacao, int limite);
+
+    /**
+     * Só os ids que atendem à especificação, em ordem de id, no máximo {@code limite}.
+     */
+    List<UUID> filtrarIds(Specification<Candidato> especificacao, int limite);
+
+    /**
+     * Um único UPDATE com só os campos não nulos do patch (e {@code atualizadoEm}), sem carregar a entidade.
+     * Devolve o número de linhas afetadas: zero quando o id não existe.
+     */
+    int atualizarParcial(UUID id, CandidatoPatchDTO patch, LocalDateTime agora);
+}
@@ -0,0 +1,83 @@
+package com.rhgroup.cadastrosrh.repository;
+
+import com.rhgroup.cadastrosrh.dto.CandidatoPatchDTO;
+import com.rhgroup.cadastrosrh.dto.CandidatoResponseDTO;
+import com.rhgroup.cadastrosrh.model.Candidato;
+import com.rhgroup.cadastrosrh.model.StatusCandidato;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+class CandidatoRepositoryImpl implements CandidatoRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<CandidatoResponseDTO> filtrar(Specification<Candidato> especificacao, int limite) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<CandidatoResponseDTO> query = cb.createQuery(CandidatoResponseDTO.class);
+        Root<Candidato> c = query.from(Candidato.class);
+
+        query.select(cb.construct(CandidatoResponseDTO.class,
+                c.get("id"), c.get("nome"), c.get("dataNascimento"), c.get("email"), c.get("celular"),
+                c.get("areaInteresse"), c.get("experienciaAnos"), c.get("pretensaoSalarial"), c.get("status"),
+                c.get("criadoEm"), c.get("atualizadoEm")));
+        Predicate restricao = especificacao.toPredicate(c, query, cb);
+        if (restricao != null) {
+            query.where(restricao);
+        }
+        query.orderBy(cb.asc(c.get("criadoEm")), cb.asc(c.get("id")));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limite)
+                .getResultList();
+    }
+
+    @Override
+    public List<UUID> filtrarIds(Specification<Candidato> especificacao, int limite) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<UUID> query = cb.createQuery(UUID.class);
+        Root<Candidato> c = query.from(Candidato.class);
+
+        query.select(c.get("id"));
+        Predicate restricao = especificacao.toPredicate(c, query, cb);
+        if (restricao != null) {
+            query.where(restricao);
+        }
+        query.orderBy(cb.asc(c.get("id")));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limite)
+                .getResultList();
+    }
+
+    // UPDATE direto não passa pelo @PreUpdate, então atualizadoEm vai explícito (ETags dependem dele).
+    @Override
+    public int atualizarParcial(UUID id, CandidatoPatchDTO patch, LocalDateTime agora) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Candidato> update = cb.createCriteriaUpdate(Candidato.class);
+        Root<Candidato> c = update.from(Candidato.class);
+
+        if (patch.getNome() != null) update.set(c.<String>get("nome"), patch.getNome());
+        if (patch.getCelular() != null) update.set(c.<String>get("celular"), patch.getCelular());
+        if (patch.getAreaInteresse() != null) update.set(c.<String>get("areaInteresse"), patch.getAreaInteresse());
+        if (patch.getExperienciaAnos() != null) update.set(c.<Integer>get("experienciaAnos"), patch.getExperienciaAnos());
+        if (patch.getPretensaoSalarial() != null) update.set(c.<BigDecimal>get("pretensaoSalarial"), patch.getPretensaoSalarial());
+        if (patch.getStatus() != null) update.set(c.<StatusCandidato>get("status"), patch.getStatus());
+        update.set(c.<LocalDateTime>get("atualizadoEm"), agora);
+        update.where(cb.equal(c.get("id"), id));
+
+        return entityManager.createQuery(update).executeUpdate();
+    }
+}
@@ -0,0 +1,65 @@
+package com.rhgroup.cadastrosrh.repository;
+
+import com.rhgroup.cadastrosrh.model.Candidato;
+import com.rhgroup.cadastrosrh.model.StatusCandidato;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Critérios combináveis do filtro de candidatos. Critério sem valor não restringe nada
+ * (predicado {@code null}), então a consulta final só contém as colunas realmente filtradas.
+ */
+public final class CandidatoSpecifications {
+
+    private CandidatoSpecifications() {
+    }
+
+    public static Specification<Candidato> comStatus(StatusCandidato status) {
+        return (root, query, cb) -> status == null ? null : cb.equal(root.get("status"), status);
+    }
+
+    public static Specification<Candidato> experienciaEntre(Integer min, Integer max) {
+        return (root, query, cb) -> entre(cb, root.get("experienciaAnos"), min, max);
+    }
+
+    public static Specification<Candidato> pretensaoEntre(BigDecimal min, BigDecimal max) {
+        return (root, query, cb) -> entre(cb, root.get("pretensaoSalarial"), min, max);
+    }
+
+    public static Specification<Candidato> nascidoEntre(LocalDate de, LocalDate ate) {
+        return (root, query, cb) -> entre(cb, root.get("dataNascimento"), de, ate);
+    }
+
+    public static Specification<Candidato> criadoEntre(LocalDateTime de, LocalDateTime ateExclusivo) {
+        return (root, query, cb) -> {
+            if (de == null && ateExclusivo == null) return null;
+            if (ateExclusivo == null) return cb.greaterThanOrEqualTo(root.get("criadoEm"), de);
+            if (de == null) return cb.lessThan(root.get("criadoEm"), ateExclusivo);
+            return cb.and(cb.greaterThanOrEqualTo(root.get("criadoEm"), de),
+                    cb.lessThan(root.get("criadoEm"), ateExclusivo));
+        };
+    }
+
+    /**
+     * Continuação keyset na ordem {@code criadoEm, id}.
+     */
+    public static Specification<Candidato> aposCriadoEm(LocalDateTime criadoEm, UUID id) {
+        return (root, query, cb) -> criadoEm == null ? null : cb.or(
+                cb.greaterThan(root.get("criadoEm"), criadoEm),
+                cb.and(cb.equal(root.get("criadoEm"), criadoEm), cb.greaterThan(root.get("id"), id)));
+    }
+
+    private static <T extends Comparable<? super T>> Predicate entre(CriteriaBuilder cb, Path<T> campo, T min, T max) {
+        if (min == null && max == null) return null;
+        if (max == null) return cb.greaterThanOrEqualTo(campo, min);
+        if (min == null) return cb.lessThanOrEqualTo(campo, max);
+        return cb.between(campo, min, max);
+    }
+}
@@ -0,0 +1,74 @@
+package com.rhgroup.cadastrosrh.repository;
+
+import com.rhgroup.cadastrosrh.dto.FilaExtracaoDTO;
+import com.rhgroup.cadastrosrh.model.CurriculoExtracao;
+import com.rhgroup.cadastrosrh.model.SituacaoExtracao;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Fila de extração. As transições são {@code update}s condicionais: quem consegue mudar a linha de
+ * PENDENTE para PROCESSANDO fica com a tarefa, mesmo com várias instâncias consumindo a mesma fila,
+ * e a conclusão só vale para o hash que foi assumido.
+ */
+public interface CurriculoExtracaoRepository extends JpaRepository<CurriculoExtracao, UUID> {
+
+    @Query("""
+            select e.candidatoId from CurriculoExtracao e
+            where e.situacao = com.rhgroup.cadastrosrh.model.SituacaoExtracao.PENDENTE
+              and e.proximaTentativaEm <= :agora
+            order by e.proximaTentativaEm
+            """)
+    List<UUID> findProntas(LocalDateTime agora, Pageable limite);
+
+    @Modifying
+    @Query("""
+            update CurriculoExtracao e
+            set e.situacao = com.rhgroup.cadastrosrh.model.SituacaoExtracao.PROCESSANDO,
+                e.tentativas = e.tentativas + 1, e.iniciadoEm = :agora
+            where e.candidatoId = :id and e.situacao = com.rhgroup.cadastrosrh.model.SituacaoExtracao.PENDENTE
+            """)
+    int assumir(UUID id, LocalDateTime agora);
+
+    @Modifying
+    @Query("""
+            update CurriculoExtracao e
+            set e.situacao = :situacao, e.concluidoEm = :agora, e.erro = :erro
+            where e.candidatoId = :id and e.curriculoHash = :hash
+              and e.situacao = com.rhgroup.cadastrosrh.model.SituacaoExtracao.PROCESSANDO
+            """)
+    int concluir(UUID id, String hash, SituacaoExtracao situacao, String erro, LocalDateTime agora);
+
+    @Modifying
+    @Query("""
+            update CurriculoExtracao e
+            set e.situacao = com.rhgroup.cadastrosrh.model.SituacaoExtracao.PENDENTE,
+                e.proximaTentativaEm = :proxima, e.erro = :erro
+            where e.candidatoId = :id and e.curriculoHash = :hash
+              and e.situacao = com.rhgroup.cadastrosrh.model.SituacaoExtracao.PROCESSANDO
+            """)
+    int reagendar(UUID id, String hash, LocalDateTime proxima, String erro);
+
+    // Tarefas de um worker que caiu no meio da extração voltam para a fila.
+    @Modifying
+    @Query("""
+            update CurriculoExtracao e
+            set e.situacao = com.rhgroup.cadastrosrh.model.SituacaoExtracao.PENDENTE, e.proximaTentativaEm = :agora
+            where e.situacao = com.rhgroup.cadastrosrh.model.SituacaoExtracao.PROCESSANDO
+              and e.iniciadoEm < :iniciadasAntesDe
+            """)
+    int devolverTravadas(LocalDateTime iniciadasAntesDe, LocalDateTime agora);
+
+    @Query("""
+            select new com.rhgroup.cadastrosrh.dto.FilaExtracaoDTO(count(e), min(e.enfileiradoEm))
+            from CurriculoExtracao e
+            where e.situacao = com.rhgroup.cadastrosrh.model.SituacaoExtracao.PENDENTE
+            """)
+    FilaExtracaoDTO resumirFila();
+}
@@ -0,0 +1,22 @@
+package com.rhgroup.cadastrosrh.repository;
+
+import com.rhgroup.cadastrosrh.model.CurriculoTexto;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.util.UUID;
+import java.util.stream.Stream;
+
+public interface CurriculoTextoRepository extends JpaRepository<CurriculoTexto, UUID> {
+
+    // Carga do índice em memória: instâncias fora do contexto de persistência, lidas por cursor.
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "100"))
+    @Query("""
+            select new com.rhgroup.cadastrosrh.model.CurriculoTexto(t.candidatoId, t.curriculoHash, t.texto, t.extraidoEm)
+            from CurriculoTexto t
+            """)
+    Stream<CurriculoTexto> streamTodos();
+}
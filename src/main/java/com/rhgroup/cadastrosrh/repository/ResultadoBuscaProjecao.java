@@ -0,0 +1,13 @@
+package com.rhgroup.cadastrosrh.repository;
+
+import java.util.UUID;
+
+/**
+ * Linha da busca textual nativa do PostgreSQL.
+ */
+public interface ResultadoBuscaProjecao {
+    UUID getId();
+    String getNome();
+    String getAreaInteresse();
+    Double getRelevancia();
+}
@@ -0,0 +1,67 @@
+package com.rhgroup.cadastrosrh.security;
+
+import org.springframework.security.crypto.bcrypt.BCrypt;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.function.Consumer;
+import java.util.function.IntToLongFunction;
+
+/**
+ * Mede o BCrypt na máquina atual e sugere {@code cadastrosrh.seguranca.senha.custo-bcrypt}: o maior custo
+ * cujo hash fica dentro do tempo alvo (padrão 250 ms). Rode no mesmo tipo de host da produção:
+ * <pre>
+ * java -cp target/cadastrosrh-0.0.1-SNAPSHOT.jar \
+ *      -Dloader.main=com.rhgroup.cadastrosrh.security.CalibracaoCustoSenha \
+ *      org.springframework.boot.loader.launch.PropertiesLauncher 250
+ * </pre>
+ * Cada ponto de custo dobra o tempo; a latência do login e o CPU de cada tentativa acompanham.
+ */
+public final class CalibracaoCustoSenha {
+
+    static final int CUSTO_MINIMO = 4;
+    static final int CUSTO_MAXIMO = 20;
+    private static final int AMOSTRAS = 3;
+
+    private CalibracaoCustoSenha() {
+    }
+
+    public static void main(String[] args) {
+        Duration alvo = Duration.ofMillis(args.length > 0 ? Long.parseLong(args[0]) : 250);
+        System.out.printf("Calibrando BCrypt para até %d ms por hash (%d núcleos)%n",
+                alvo.toMillis(), Runtime.getRuntime().availableProcessors());
+
+        int custo = calibrar(alvo, CalibracaoCustoSenha::medir, System.out::println);
+
+        System.out.println();
+        System.out.println("cadastrosrh.seguranca.senha.custo-bcrypt=" + custo);
+    }
+
+    /**
+     * Sobe o custo a partir de {@value #CUSTO_MINIMO} até o primeiro que passar do alvo.
+     */
+    static int calibrar(Duration alvo, IntToLongFunction medirNanos, Consumer<String> saida) {
+        int escolhido = CUSTO_MINIMO;
+        for (int custo = CUSTO_MINIMO; custo <= CUSTO_MAXIMO; custo++) {
+            long nanos = medirNanos.applyAsLong(custo);
+            saida.accept(String.format("custo %2d: %8.1f ms", custo, nanos / 1_000_000.0));
+            if (nanos > alvo.toNanos()) break;
+            escolhido = custo;
+        }
+        return escolhido;
+    }
+
+    // Mediana de algumas execuções, depois de uma de aquecimento.
+    private static long medir(int custo) {
+        String sal = BCrypt.gensalt(custo);
+        BCrypt.hashpw("calibracao", sal);
+        long[] tempos = new long[AMOSTRAS];
+        for (int i = 0; i < AMOSTRAS; i++) {
+            long inicio = System.nanoTime();
+            BCrypt.hashpw("calibracao", sal);
+            tempos[i] = System.nanoTime() - inicio;
+        }
+        Arrays.sort(tempos);
+        return tempos[AMOSTRAS / 2];
+    }
+}
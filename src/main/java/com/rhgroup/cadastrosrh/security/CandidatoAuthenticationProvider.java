@@ -0,0 +1,40 @@
+package com.rhgroup.cadastrosrh.security;
+
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * {@link DaoAuthenticationProvider} que pula o BCrypt quando a mesma credencial
+ * já foi verificada recentemente contra o mesmo hash (ver {@link CredenciaisCache}).
+ */
+public class CandidatoAuthenticationProvider extends DaoAuthenticationProvider {
+
+    private final CredenciaisCache credenciaisCache;
+
+    public CandidatoAuthenticationProvider(UserDetailsService userDetailsService,
+                                           PasswordEncoder passwordEncoder,
+                                           CredenciaisCache credenciaisCache) {
+        super(userDetailsService);
+        setPasswordEncoder(passwordEncoder);
+        this.credenciaisCache = credenciaisCache;
+    }
+
+    @Override
+    protected void additionalAuthenticationChecks(UserDetails userDetails,
+                                                  UsernamePasswordAuthenticationToken authentication)
+            throws AuthenticationException {
+        Object credenciais = authentication.getCredentials();
+        if (credenciais != null && credenciaisCache.credencialVerificada(
+                userDetails.getUsername(), credenciais.toString(), userDetails.getPassword())) {
+            return;
+        }
+
+        super.additionalAuthenticationChecks(userDetails, authentication);
+        credenciaisCache.registrarCredencialVerificada(
+                userDetails.getUsername(), credenciais.toString(), userDetails.getPassword());
+    }
+}
@@ -0,0 +1,104 @@
+package com.rhgroup.cadastrosrh.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * Caches de autenticação do httpBasic.
+ * <ul>
+ *     <li><b>principais</b>: e-mail → hash da senha, evita o {@code findByEmail} a cada requisição;</li>
+ *     <li><b>credenciais verificadas</b>: e-mail → HMAC(senha informada + hash armazenado), evita repetir o BCrypt
+ *     enquanto o cliente reenviar a mesma credencial. A senha em texto nunca é guardada e a chave do HMAC
+ *     é aleatória por processo.</li>
+ * </ul>
+ * Ambos são limitados em tamanho e TTL, e precisam ser invalidados quando a senha muda ou o candidato é removido.
+ */
+@Component
+public class CredenciaisCache {
+
+    private static final String ALGORITMO_HMAC = "HmacSHA256";
+
+    private final Cache<String, PrincipalEmCache> principais;
+    private final Cache<String, byte[]> credenciaisVerificadas;
+    private final SecretKeySpec chave;
+
+    public CredenciaisCache(
+            @Value("${cadastrosrh.seguranca.cache.tamanho-maximo:10000}") long tamanhoMaximo,
+            @Value("${cadastrosrh.seguranca.cache.principais-ttl:5m}") Duration ttlPrincipais,
+            @Value("${cadastrosrh.seguranca.cache.credenciais-ttl:2m}") Duration ttlCredenciais) {
+        this.principais = Caffeine.newBuilder()
+                .maximumSize(tamanhoMaximo)
+                .expireAfterWrite(ttlPrincipais)
+                .build();
+        this.credenciaisVerificadas = Caffeine.newBuilder()
+                .maximumSize(tamanhoMaximo)
+                .expireAfterWrite(ttlCredenciais)
+                .build();
+
+        byte[] segredo = new byte[32];
+        new SecureRandom().nextBytes(segredo);
+        this.chave = new SecretKeySpec(segredo, ALGORITMO_HMAC);
+    }
+
+    /**
+     * Devolve o principal em cache ou o carrega; carregamentos que retornam {@code null} não são guardados.
+     */
+    public PrincipalEmCache principal(String email, Function<String, PrincipalEmCache> carregar) {
+        return principais.get(email, carregar);
+    }
+
+    public boolean credencialVerificada(String email, String senha, String senhaHash) {
+        byte[] esperado = credenciaisVerificadas.getIfPresent(email);
+        return esperado != null && MessageDigest.isEqual(esperado, assinar(email, senha, senhaHash));
+    }
+
+    /**
+     * Se a credencial já foi verificada contra o hash em cache, sem carregar nada: a autenticação
+     * não vai chegar ao BCrypt.
+     */
+    public boolean credencialEmCache(String email, String senha) {
+        PrincipalEmCache principal = principais.getIfPresent(email);
+        return principal != null && credencialVerificada(email, senha, principal.senhaHash());
+    }
+
+    public void registrarCredencialVerificada(String email, String senha, String senhaHash) {
+        credenciaisVerificadas.put(email, assinar(email, senha, senhaHash));
+    }
+
+    public void invalidar(String email) {
+        principais.invalidate(email);
+        credenciaisVerificadas.invalidate(email);
+    }
+
+    private byte[] assinar(String email, String senha, String senhaHash) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITMO_HMAC);
+            mac.init(chave);
+            mac.update(email.getBytes(StandardCharsets.UTF_8));
+            mac.update((byte) 0);
+            mac.update(senha.getBytes(StandardCharsets.UTF_8));
+            mac.update((byte) 0);
+            return mac.doFinal(senhaHash.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC indisponível", e);
+        }
+    }
+
+    /**
+     * Snapshot imutável do usuário. O {@code User} do Spring Security não pode ser cacheado diretamente
+     * porque o {@code ProviderManager} apaga a senha dele após a autenticação.
+     */
+    public record PrincipalEmCache(String email, String senhaHash) {
+    }
+}
@@ -0,0 +1,166 @@
+package com.rhgroup.cadastrosrh.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.rhgroup.cadastrosrh.dto.TokenDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * Emite e confere os tokens do {@code /api/v1/auth/login}: JWT compactos assinados com HMAC-SHA256 (HS256),
+ * de modo que uma requisição autenticada custa um HMAC em vez de {@code findByEmail} + BCrypt.
+ * <ul>
+ *     <li><b>acesso</b>: curto ({@code validade-acesso}); conferido só aqui, sem banco;</li>
+ *     <li><b>renovação</b>: longo; o {@code /auth/refresh} ainda compara a versão com {@code token_versao} no banco.</li>
+ * </ul>
+ * A troca de senha incrementa {@code token_versao}: a renovação passa a falhar em qualquer instância e,
+ * nesta, {@link #revogar} recusa na hora os tokens de acesso anteriores. Nas demais eles expiram sozinhos.
+ * <p>
+ * O segredo vem de {@code cadastrosrh.seguranca.token.segredo} (Base64, 32 bytes ou mais) e precisa ser o mesmo
+ * em todas as instâncias. Sem ele, é gerado um por processo e os tokens não sobrevivem a um restart.
+ */
+@Component
+public class EmissorTokens {
+
+    public static final String ACESSO = "acesso";
+    public static final String RENOVACAO = "renovacao";
+
+    private static final Logger log = LoggerFactory.getLogger(EmissorTokens.class);
+    private static final String ALGORITMO_HMAC = "HmacSHA256";
+    private static final int SEGREDO_MINIMO = 32;
+    private static final Base64.Encoder BASE64 = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder BASE64_DECODER = Base64.getUrlDecoder();
+    private static final String CABECALHO =
+            BASE64.encodeToString("{\"alg\":\"HS256\",\"typ\":\"JWT\"}".getBytes(StandardCharsets.UTF_8));
+
+    private final SecretKeySpec chave;
+    private final Duration validadeAcesso;
+    private final Duration validadeRenovacao;
+    private final ObjectMapper objectMapper;
+    private final Clock relogio;
+    // e-mail -> menor versão ainda aceita; basta durar a validade de um token de acesso.
+    private final Cache<String, Integer> revogacoes;
+
+    @Autowired
+    public EmissorTokens(@Value("${cadastrosrh.seguranca.token.segredo:}") String segredo,
+                         @Value("${cadastrosrh.seguranca.token.validade-acesso:15m}") Duration validadeAcesso,
+                         @Value("${cadastrosrh.seguranca.token.validade-renovacao:7d}") Duration validadeRenovacao,
+                         ObjectMapper objectMapper) {
+        this(decodificarSegredo(segredo), validadeAcesso, validadeRenovacao, objectMapper, Clock.systemUTC());
+    }
+
+    EmissorTokens(byte[] segredo, Duration validadeAcesso, Duration validadeRenovacao,
+                  ObjectMapper objectMapper, Clock relogio) {
+        if (segredo.length < SEGREDO_MINIMO) {
+            throw new IllegalArgumentException("cadastrosrh.seguranca.token.segredo precisa ter ao menos "
+                    + SEGREDO_MINIMO + " bytes");
+        }
+        this.chave = new SecretKeySpec(segredo, ALGORITMO_HMAC);
+        this.validadeAcesso = validadeAcesso;
+        this.validadeRenovacao = validadeRenovacao;
+        this.objectMapper = objectMapper;
+        this.relogio = relogio;
+        this.revogacoes = Caffeine.newBuilder()
+                .expireAfterWrite(validadeAcesso)
+                .build();
+    }
+
+    public TokenDTO emitir(String email, int versao) {
+        long agora = relogio.instant().getEpochSecond();
+        return new TokenDTO(
+                assinar(new Claims(email, versao, ACESSO, agora, agora + validadeAcesso.toSeconds())),
+                assinar(new Claims(email, versao, RENOVACAO, agora, agora + validadeRenovacao.toSeconds())),
+                "Bearer",
+                validadeAcesso.toSeconds());
+    }
+
+    /**
+     * Confere assinatura, tipo, expiração e, para tokens de acesso, as revogações locais.
+     */
+    public Optional<Token> validar(String token, String tipo) {
+        int ponto1 = token.indexOf('.');
+        int ponto2 = token.indexOf('.', ponto1 + 1);
+        if (ponto1 < 0 || ponto2 < 0 || token.indexOf('.', ponto2 + 1) >= 0) {
+            return Optional.empty();
+        }
+        try {
+            byte[] assinatura = BASE64_DECODER.decode(token.substring(ponto2 + 1));
+            if (!token.startsWith(CABECALHO + ".")
+                    || !MessageDigest.isEqual(assinatura, hmac(token.substring(0, ponto2)))) {
+                return Optional.empty();
+            }
+            Claims claims = objectMapper.readValue(BASE64_DECODER.decode(token.substring(ponto1 + 1, ponto2)),
+                    Claims.class);
+            if (claims.sub() == null || !tipo.equals(claims.tipo())
+                    || claims.exp() <= relogio.instant().getEpochSecond()) {
+                return Optional.empty();
+            }
+            if (ACESSO.equals(tipo)) {
+                Integer minima = revogacoes.getIfPresent(claims.sub());
+                if (minima != null && claims.ver() < minima) return Optional.empty();
+            }
+            return Optional.of(new Token(claims.sub(), claims.ver()));
+        } catch (IOException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Recusa, nesta instância, os tokens de acesso do e-mail com versão menor que {@code versaoMinima}.
+     */
+    public void revogar(String email, int versaoMinima) {
+        revogacoes.asMap().merge(email, versaoMinima, Math::max);
+    }
+
+    private String assinar(Claims claims) {
+        try {
+            String conteudo = CABECALHO + "." + BASE64.encodeToString(objectMapper.writeValueAsBytes(claims));
+            return conteudo + "." + BASE64.encodeToString(hmac(conteudo));
+        } catch (IOException e) {
+            throw new IllegalStateException("Falha ao serializar o token", e);
+        }
+    }
+
+    private byte[] hmac(String conteudo) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITMO_HMAC);
+            mac.init(chave);
+            return mac.doFinal(conteudo.getBytes(StandardCharsets.US_ASCII));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC indisponível", e);
+        }
+    }
+
+    private static byte[] decodificarSegredo(String segredo) {
+        if (!segredo.isBlank()) {
+            return Base64.getDecoder().decode(segredo.strip());
+        }
+        log.warn("cadastrosrh.seguranca.token.segredo não configurado: usando um segredo aleatório; "
+                + "tokens não valem em outras instâncias nem após reiniciar");
+        byte[] aleatorio = new byte[SEGREDO_MINIMO];
+        new SecureRandom().nextBytes(aleatorio);
+        return aleatorio;
+    }
+
+    public record Token(String email, int versao) {
+    }
+
+    record Claims(String sub, int ver, String tipo, long iat, long exp) {
+    }
+}
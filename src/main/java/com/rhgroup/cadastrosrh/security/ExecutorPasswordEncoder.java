@@ -0,0 +1,34 @@
+package com.rhgroup.cadastrosrh.security;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Encaminha {@code encode}/{@code matches} para o {@link SenhaHashExecutor}, de modo que
+ * todos os pontos que usam o {@code PasswordEncoder} (cadastro, troca de senha, login)
+ * passem pelo mesmo pool limitado.
+ */
+public class ExecutorPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final SenhaHashExecutor executor;
+
+    public ExecutorPasswordEncoder(PasswordEncoder delegate, SenhaHashExecutor executor) {
+        this.delegate = delegate;
+        this.executor = executor;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return executor.executar(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return executor.executar(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+}
@@ -0,0 +1,150 @@
+package com.rhgroup.cadastrosrh.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Limite de tentativas de autenticação por conta (e-mail) e por IP, para que uma rajada de
+ * credential stuffing não ocupe o pool do BCrypt.
+ * <p>
+ * Cada chave é um token bucket no formato GCRA: guarda só o "instante teórico de chegada" num
+ * {@link AtomicLong}, atualizado por CAS, sem lock. As chaves ficam num cache Caffeine limitado em
+ * tamanho e descartadas depois de {@code ociosidade} sem uso (tempo suficiente para o balde encher).
+ * <p>
+ * A tentativa é reservada antes da autenticação e devolvida quando ela dá certo, então só falhas
+ * consomem o limite; rajadas concorrentes não passam todas antes de a primeira falhar.
+ */
+@Component
+public class LimitadorTentativasLogin {
+
+    private final Cache<String, AtomicLong> chegadas;
+    private final Regra porConta;
+    private final Regra porIp;
+    private final LongSupplier relogio;
+    private final Counter bloqueiosConta;
+    private final Counter bloqueiosIp;
+
+    @Autowired
+    public LimitadorTentativasLogin(@Value("${cadastrosrh.seguranca.tentativas.conta.por-minuto:10}") int contaPorMinuto,
+                                    @Value("${cadastrosrh.seguranca.tentativas.conta.rajada:5}") int contaRajada,
+                                    @Value("${cadastrosrh.seguranca.tentativas.ip.por-minuto:60}") int ipPorMinuto,
+                                    @Value("${cadastrosrh.seguranca.tentativas.ip.rajada:20}") int ipRajada,
+                                    @Value("${cadastrosrh.seguranca.tentativas.chaves-maximas:100000}") long chavesMaximas,
+                                    @Value("${cadastrosrh.seguranca.tentativas.ociosidade:10m}") Duration ociosidade,
+                                    MeterRegistry registry) {
+        this(Regra.porMinuto(contaPorMinuto, contaRajada), Regra.porMinuto(ipPorMinuto, ipRajada),
+                chavesMaximas, ociosidade, registry, System::nanoTime);
+    }
+
+    LimitadorTentativasLogin(Regra porConta, Regra porIp, long chavesMaximas, Duration ociosidade,
+                             MeterRegistry registry, LongSupplier relogio) {
+        this.porConta = porConta;
+        this.porIp = porIp;
+        this.relogio = relogio;
+        this.chegadas = Caffeine.newBuilder()
+                .maximumSize(chavesMaximas)
+                .expireAfterAccess(ociosidade)
+                .build();
+        this.bloqueiosConta = bloqueios(registry, "conta");
+        this.bloqueiosIp = bloqueios(registry, "ip");
+    }
+
+    /**
+     * Reserva uma tentativa no IP e, se informado, no e-mail.
+     *
+     * @return {@code 0} se liberada; senão, os segundos até a próxima tentativa possível (nada fica reservado)
+     */
+    public long reservar(String email, String ip) {
+        long agora = relogio.getAsLong();
+        long espera = consumir(chaveIp(ip), porIp, agora);
+        if (espera > 0) {
+            bloqueiosIp.increment();
+            return segundos(espera);
+        }
+        if (email != null) {
+            espera = consumir(chaveConta(email), porConta, agora);
+            if (espera > 0) {
+                devolver(chaveIp(ip), porIp, agora);
+                bloqueiosConta.increment();
+                return segundos(espera);
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Devolve a tentativa reservada por {@link #reservar} (autenticação bem-sucedida).
+     */
+    public void devolver(String email, String ip) {
+        long agora = relogio.getAsLong();
+        devolver(chaveIp(ip), porIp, agora);
+        if (email != null) {
+            devolver(chaveConta(email), porConta, agora);
+        }
+    }
+
+    private long consumir(String chave, Regra regra, long agora) {
+        AtomicLong chegada = chegadas.get(chave, k -> new AtomicLong(agora));
+        while (true) {
+            long atual = chegada.get();
+            long base = atual - agora > 0 ? atual : agora;
+            long espera = base - regra.tolerancia() - agora;
+            if (espera > 0) return espera;
+            if (chegada.compareAndSet(atual, base + regra.intervalo())) return 0;
+        }
+    }
+
+    private void devolver(String chave, Regra regra, long agora) {
+        AtomicLong chegada = chegadas.getIfPresent(chave);
+        if (chegada == null) return;
+        while (true) {
+            long atual = chegada.get();
+            if (atual - agora <= 0) return;
+            long novo = atual - regra.intervalo();
+            if (novo - agora < 0) novo = agora;
+            if (chegada.compareAndSet(atual, novo)) return;
+        }
+    }
+
+    private static String chaveConta(String email) {
+        return "conta:" + email.strip().toLowerCase(Locale.ROOT);
+    }
+
+    private static String chaveIp(String ip) {
+        return "ip:" + ip;
+    }
+
+    private static long segundos(long nanos) {
+        return Math.max(1, TimeUnit.NANOSECONDS.toSeconds(nanos + TimeUnit.SECONDS.toNanos(1) - 1));
+    }
+
+    private static Counter bloqueios(MeterRegistry registry, String chave) {
+        return Counter.builder("seguranca.tentativas.bloqueadas")
+                .description("Autenticações recusadas com 429 antes do BCrypt")
+                .tag("chave", chave)
+                .register(registry);
+    }
+
+    // Intervalo entre tentativas em regime e tolerância de rajada, em nanos.
+    record Regra(long intervalo, long tolerancia) {
+
+        /**
+         * {@code tentativas} por minuto em regime, com até {@code rajada} seguidas.
+         */
+        static Regra porMinuto(int tentativas, int rajada) {
+            long intervalo = TimeUnit.MINUTES.toNanos(1) / tentativas;
+            return new Regra(intervalo, intervalo * (Math.max(1, rajada) - 1));
+        }
+    }
+}
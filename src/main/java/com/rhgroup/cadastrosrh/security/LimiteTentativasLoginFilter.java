@@ -0,0 +1,194 @@
+package com.rhgroup.cadastrosrh.security;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.SequenceInputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Aplica o {@link LimitadorTentativasLogin} antes do {@code BasicAuthenticationFilter} e do
+ * {@code POST /api/v1/auth/login}, recusando com 429 e {@code Retry-After} antes de qualquer BCrypt.
+ * <p>
+ * Credenciais Basic já verificadas e em cache ({@link CredenciaisCache}) passam direto: não custam hash.
+ * No login, o e-mail é lido do corpo JSON (só os primeiros {@value #CORPO_MAXIMO} bytes), que é
+ * devolvido intacto ao controller.
+ * <p>
+ * A tentativa só é devolvida se a requisição terminou autenticada com o e-mail tentado (o
+ * {@code SecurityContext} depois da cadeia); um 400/404/409 de negócio com credenciais corretas
+ * não conta como falha de login.
+ */
+public class LimiteTentativasLoginFilter extends OncePerRequestFilter {
+
+    static final String LOGIN = "/api/v1/auth/login";
+    private static final int CORPO_MAXIMO = 8 * 1024;
+    private static final String BASIC = "Basic ";
+
+    private final LimitadorTentativasLogin limitador;
+    private final CredenciaisCache credenciaisCache;
+    private final ObjectMapper objectMapper;
+
+    public LimiteTentativasLoginFilter(LimitadorTentativasLogin limitador, CredenciaisCache credenciaisCache,
+                                       ObjectMapper objectMapper) {
+        this.limitador = limitador;
+        this.credenciaisCache = credenciaisCache;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        HttpServletRequest requisicao = request;
+        String email;
+        String autorizacao = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (autorizacao != null && autorizacao.regionMatches(true, 0, BASIC, 0, BASIC.length())) {
+            String[] credencial = decodificarBasic(autorizacao.substring(BASIC.length()).strip());
+            if (credencial == null || credenciaisCache.credencialEmCache(credencial[0], credencial[1])) {
+                chain.doFilter(request, response);
+                return;
+            }
+            email = credencial[0];
+        } else if (HttpMethod.POST.matches(request.getMethod())
+                && (request.getContextPath() + LOGIN).equals(request.getRequestURI())) {
+            byte[] inicio = request.getInputStream().readNBytes(CORPO_MAXIMO);
+            requisicao = new CorpoRelido(request, inicio);
+            email = lerEmail(inicio);
+        } else {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        String ip = request.getRemoteAddr();
+        long espera = limitador.reservar(email, ip);
+        if (espera > 0) {
+            recusar(request, response, espera);
+            return;
+        }
+        chain.doFilter(requisicao, response);
+        if (autenticou(email)) {
+            limitador.devolver(email, ip);
+        }
+    }
+
+    private static boolean autenticou(String email) {
+        Authentication autenticacao = SecurityContextHolder.getContext().getAuthentication();
+        return email != null && autenticacao != null && autenticacao.isAuthenticated()
+                && !(autenticacao instanceof AnonymousAuthenticationToken)
+                && email.strip().equalsIgnoreCase(autenticacao.getName());
+    }
+
+    private void recusar(HttpServletRequest request, HttpServletResponse response, long segundos) throws IOException {
+        ProblemDetail pd = ProblemDetail.forStatus(HttpStatus.TOO_MANY_REQUESTS);
+        pd.setTitle("Muitas tentativas");
+        pd.setDetail("Muitas tentativas de autenticação. Tente novamente em " + segundos + " s.");
+        pd.setProperty("path", request.getRequestURI());
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(segundos));
+        response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(), pd);
+    }
+
+    // Formato inválido segue adiante: o BasicAuthenticationFilter responde como sempre.
+    private static String[] decodificarBasic(String token) {
+        try {
+            String decodificado = new String(Base64.getDecoder().decode(token), StandardCharsets.UTF_8);
+            int separador = decodificado.indexOf(':');
+            return separador < 0 ? null
+                    : new String[]{decodificado.substring(0, separador), decodificado.substring(separador + 1)};
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    // Sem e-mail legível o limite vale só por IP.
+    private String lerEmail(byte[] corpo) {
+        try {
+            JsonNode email = objectMapper.readTree(corpo).path("email");
+            return email.isTextual() ? email.asText() : null;
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Devolve ao controller os bytes já lidos seguidos do resto do corpo original.
+     */
+    private static final class CorpoRelido extends HttpServletRequestWrapper {
+
+        private final InputStream corpo;
+
+        CorpoRelido(HttpServletRequest request, byte[] inicio) throws IOException {
+            super(request);
+            this.corpo = new SequenceInputStream(new ByteArrayInputStream(inicio), request.getInputStream());
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            return new ServletInputStream() {
+                private boolean terminado;
+
+                @Override
+                public int read() throws IOException {
+                    int b = corpo.read();
+                    terminado = b < 0;
+                    return b;
+                }
+
+                @Override
+                public int read(byte[] destino, int deslocamento, int tamanho) throws IOException {
+                    int lidos = corpo.read(destino, deslocamento, tamanho);
+                    terminado = lidos < 0;
+                    return lidos;
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return terminado;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    throw new IllegalStateException(
+                            "O corpo relido do login não suporta leitura não bloqueante (ReadListener)");
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String charset = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(getInputStream(),
+                    charset != null ? Charset.forName(charset) : StandardCharsets.UTF_8));
+        }
+    }
+}
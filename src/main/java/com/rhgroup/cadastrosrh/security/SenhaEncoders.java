@@ -0,0 +1,40 @@
+package com.rhgroup.cadastrosrh.security;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Encoder de senhas dos candidatos: grava com o prefixo do algoritmo ({@code {bcrypt}...}) e confere
+ * qualquer um dos suportados, de modo que trocar o algoritmo ou o custo não exige reset de senha.
+ * <p>
+ * {@code upgradeEncoding} fica verdadeiro para hashes de outro algoritmo, sem prefixo (BCrypt gravado antes
+ * do V8) ou com custo BCrypt menor que o configurado; o provider regrava esses hashes no próximo login.
+ */
+public final class SenhaEncoders {
+
+    public static final String BCRYPT = "bcrypt";
+    public static final String PBKDF2 = "pbkdf2";
+
+    private SenhaEncoders() {
+    }
+
+    public static PasswordEncoder delegante(String algoritmo, int custoBcrypt) {
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        encoders.put(BCRYPT, new BCryptPasswordEncoder(custoBcrypt));
+        encoders.put(PBKDF2, Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_8());
+        if (!encoders.containsKey(algoritmo)) {
+            throw new IllegalArgumentException("Algoritmo de senha desconhecido: " + algoritmo
+                    + " (suportados: " + BCRYPT + ", " + PBKDF2 + ")");
+        }
+
+        DelegatingPasswordEncoder delegante = new DelegatingPasswordEncoder(algoritmo, encoders);
+        // Hashes anteriores ao prefixo: BCrypt puro, de qualquer custo.
+        delegante.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder());
+        return delegante;
+    }
+}
@@ -0,0 +1,164 @@
+package com.rhgroup.cadastrosrh.security;
+
+import com.rhgroup.cadastrosrh.exception.ServicoIndisponivelException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Pool dedicado e limitado para o trabalho de CPU do BCrypt.
+ * <p>
+ * Cadastros e logins deixam de consumir CPU nas threads do Tomcat sem limite: o hash roda em
+ * {@code threads} workers com fila de {@code fila} posições. Com a fila cheia a requisição falha
+ * na hora com 503, em vez de degradar a latência de todos os outros endpoints.
+ */
+@Component
+public class SenhaHashExecutor implements DisposableBean {
+
+    private static final ThreadLocal<Boolean> THREAD_DO_POOL = ThreadLocal.withInitial(() -> false);
+    private static final long PAUSA_INICIAL_MS = 5;
+    private static final long PAUSA_MAXIMA_MS = 200;
+
+    private final ThreadPoolExecutor executor;
+    private final Duration esperaMaxima;
+    private final Timer duracao;
+    private final Timer espera;
+    private final Counter rejeicoes;
+
+    public SenhaHashExecutor(@Value("${cadastrosrh.senha-hash.threads:0}") int threads,
+                             @Value("${cadastrosrh.senha-hash.fila:100}") int fila,
+                             @Value("${cadastrosrh.senha-hash.espera-maxima:5s}") Duration esperaMaxima,
+                             MeterRegistry registry) {
+        int tamanho = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.executor = new ThreadPoolExecutor(tamanho, tamanho, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(fila), new FabricaThreads(), new ThreadPoolExecutor.AbortPolicy());
+        this.esperaMaxima = esperaMaxima;
+
+        this.duracao = Timer.builder("senha.hash.duracao")
+                .description("Tempo de CPU de cada hash/verificação de senha")
+                .publishPercentiles(0.5, 0.99)
+                .register(registry);
+        this.espera = Timer.builder("senha.hash.espera")
+                .description("Tempo na fila até um worker assumir a tarefa")
+                .publishPercentiles(0.5, 0.99)
+                .register(registry);
+        this.rejeicoes = Counter.builder("senha.hash.rejeitadas")
+                .description("Tarefas recusadas com a fila cheia")
+                .register(registry);
+        Gauge.builder("senha.hash.fila", executor, e -> e.getQueue().size())
+                .description("Tarefas aguardando um worker")
+                .register(registry);
+        Gauge.builder("senha.hash.ativas", executor, ThreadPoolExecutor::getActiveCount)
+                .register(registry);
+    }
+
+    public int paralelismo() {
+        return executor.getMaximumPoolSize();
+    }
+
+    /**
+     * Enfileira a tarefa; lança {@link ServicoIndisponivelException} imediatamente se a fila estiver cheia.
+     */
+    public <T> CompletableFuture<T> submeter(Supplier<T> tarefa) {
+        try {
+            return enfileirar(tarefa);
+        } catch (RejectedExecutionException e) {
+            rejeicoes.increment();
+            throw sobrecarga();
+        }
+    }
+
+    /**
+     * Como {@link #submeter}, mas com a fila cheia espera uma posição (backoff exponencial até
+     * {@value #PAUSA_MAXIMA_MS} ms) em vez de falhar. Para trabalho em lote, como a importação, que não pode
+     * parar no meio do arquivo por causa de um pico de logins.
+     */
+    public <T> CompletableFuture<T> submeterAguardandoVaga(Supplier<T> tarefa) {
+        long pausa = PAUSA_INICIAL_MS;
+        while (true) {
+            try {
+                return enfileirar(tarefa);
+            } catch (RejectedExecutionException e) {
+                try {
+                    TimeUnit.MILLISECONDS.sleep(pausa);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    throw sobrecarga();
+                }
+                pausa = Math.min(pausa * 2, PAUSA_MAXIMA_MS);
+            }
+        }
+    }
+
+    private <T> CompletableFuture<T> enfileirar(Supplier<T> tarefa) {
+        long enfileiradaEm = System.nanoTime();
+        return CompletableFuture.supplyAsync(() -> {
+            espera.record(System.nanoTime() - enfileiradaEm, TimeUnit.NANOSECONDS);
+            return duracao.record(tarefa);
+        }, executor);
+    }
+
+    /**
+     * Executa a tarefa no pool e aguarda o resultado. Chamadas feitas de dentro do próprio pool
+     * rodam direto, para que tarefas aninhadas não disputem as mesmas threads.
+     */
+    public <T> T executar(Supplier<T> tarefa) {
+        if (THREAD_DO_POOL.get()) {
+            return tarefa.get();
+        }
+        CompletableFuture<T> futuro = submeter(tarefa);
+        try {
+            return futuro.get(esperaMaxima.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            futuro.cancel(false);
+            throw sobrecarga();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw sobrecarga();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    private ServicoIndisponivelException sobrecarga() {
+        return new ServicoIndisponivelException(
+                "Muitas operações de senha em andamento. Tente novamente em instantes.",
+                Math.max(1, esperaMaxima.toSeconds()));
+    }
+
+    private static final class FabricaThreads implements ThreadFactory {
+        private final AtomicInteger sequencia = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread thread = new Thread(() -> {
+                THREAD_DO_POOL.set(true);
+                r.run();
+            }, "senha-hash-" + sequencia.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
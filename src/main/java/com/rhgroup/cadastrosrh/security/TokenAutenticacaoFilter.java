@@ -0,0 +1,76 @@
+package com.rhgroup.cadastrosrh.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.context.SecurityContextHolderStrategy;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Autentica {@code Authorization: Bearer <token de acesso>} só com o {@link EmissorTokens}: sem banco e sem BCrypt.
+ * Token inválido, expirado ou revogado responde 401 na hora; requisições sem Bearer seguem para o httpBasic.
+ */
+public class TokenAutenticacaoFilter extends OncePerRequestFilter {
+
+    private static final String BEARER = "Bearer ";
+    private static final List<GrantedAuthority> AUTORIDADES = List.of(new SimpleGrantedAuthority("ROLE_USER"));
+
+    private final EmissorTokens emissorTokens;
+    private final ObjectMapper objectMapper;
+    private final SecurityContextHolderStrategy contextos = SecurityContextHolder.getContextHolderStrategy();
+
+    public TokenAutenticacaoFilter(EmissorTokens emissorTokens, ObjectMapper objectMapper) {
+        this.emissorTokens = emissorTokens;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String autorizacao = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (autorizacao == null || !autorizacao.regionMatches(true, 0, BEARER, 0, BEARER.length())) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        var token = emissorTokens.validar(autorizacao.substring(BEARER.length()).strip(), EmissorTokens.ACESSO);
+        if (token.isEmpty()) {
+            recusar(request, response);
+            return;
+        }
+
+        SecurityContext contexto = contextos.createEmptyContext();
+        contexto.setAuthentication(UsernamePasswordAuthenticationToken.authenticated(
+                token.get().email(), null, AUTORIDADES));
+        contextos.setContext(contexto);
+        chain.doFilter(request, response);
+    }
+
+    private void recusar(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        ProblemDetail pd = ProblemDetail.forStatus(HttpStatus.UNAUTHORIZED);
+        pd.setTitle("Token inválido");
+        pd.setDetail("Token de acesso inválido, expirado ou revogado.");
+        pd.setProperty("path", request.getRequestURI());
+
+        response.setStatus(HttpStatus.UNAUTHORIZED.value());
+        response.setHeader(HttpHeaders.WWW_AUTHENTICATE, "Bearer error=\"invalid_token\"");
+        response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(), pd);
+    }
+}
@@ -1,30 +1,54 @@
 package com.rhgroup.cadastrosrh.security;
 
 import com.rhgroup.cadastrosrh.repository.CandidatoRepository;
+import com.rhgroup.cadastrosrh.security.CredenciaisCache.PrincipalEmCache;
+import jakarta.transaction.Transactional;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
 @Service
-public class UserDetailsServiceImpl implements UserDetailsService {
+public class UserDetailsServiceImpl implements UserDetailsService, UserDetailsPasswordService {
 
     private final CandidatoRepository repository;
+    private final CredenciaisCache credenciaisCache;
 
-    public UserDetailsServiceImpl(CandidatoRepository repository) {
+    public UserDetailsServiceImpl(CandidatoRepository repository, CredenciaisCache credenciaisCache) {
         this.repository = repository;
+        this.credenciaisCache = credenciaisCache;
     }
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        var candidato = repository.findByEmail(username)
-                .orElseThrow(() -> new UsernameNotFoundException("Usuário não encontrado: " + username));
+        PrincipalEmCache principal = credenciaisCache.principal(username, email -> repository.findByEmail(email)
+                .map(c -> new PrincipalEmCache(c.getEmail(), c.getSenhaHash()))
+                .orElse(null));
+        if (principal == null) {
+            throw new UsernameNotFoundException("Usuário não encontrado: " + username);
+        }
 
         return User.builder()
-                .username(candidato.getEmail())
-                .password(candidato.getSenhaHash())
+                .username(principal.email())
+                .password(principal.senhaHash())
                 .roles("USER")
                 .build();
     }
+
+    /**
+     * Rehash no login: grava o hash novo só se o armazenado ainda for o que acabou de ser verificado,
+     * para não sobrescrever uma troca de senha concorrente.
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        int atualizados = repository.atualizarSenhaHash(user.getUsername(), user.getPassword(), newPassword);
+        credenciaisCache.invalidar(user.getUsername());
+        if (atualizados == 0) {
+            return user;
+        }
+        return User.withUserDetails(user).password(newPassword).build();
+    }
 }
@@ -0,0 +1,48 @@
+package com.rhgroup.cadastrosrh.service;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.Consumer;
+
+/**
+ * Adia efeitos colaterais em memória (caches, índices) para depois do commit,
+ * para que nenhum leitor enxergue dados de uma transação que ainda pode sofrer rollback.
+ * Fora de transação, a ação roda imediatamente.
+ */
+public final class AposCommit {
+
+    private AposCommit() {
+    }
+
+    public static void executar(Runnable acao) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            acao.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                acao.run();
+            }
+        });
+    }
+
+    /**
+     * Roda quando a transação corrente termina, com {@code true} se houve commit; serve para liberar
+     * recursos fora do banco (ex.: arquivo reservado por um envio) nos dois desfechos.
+     * Fora de transação, a ação roda imediatamente como confirmada.
+     */
+    public static void aoConcluir(Consumer<Boolean> acao) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            acao.accept(true);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                acao.accept(status == STATUS_COMMITTED);
+            }
+        });
+    }
+}
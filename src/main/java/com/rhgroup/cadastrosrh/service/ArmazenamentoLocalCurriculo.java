@@ -0,0 +1,118 @@
+package com.rhgroup.cadastrosrh.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Arquivos de currículo em um diretório local ({@code cadastrosrh.curriculo.diretorio}), endereçados
+ * pelo SHA-256 do conteúdo ({@code sha256/<2 primeiros>/<hash>}): arquivos iguais são gravados uma vez só.
+ * <p>
+ * O envio é copiado por stream para um temporário enquanto o hash é calculado; depois o temporário vira
+ * o blob (rename atômico) ou é descartado, se o blob já existe. Quem decide quando um blob pode ser
+ * removido é o {@link CurriculoService}, que conta as referências no banco.
+ */
+@Component
+public class ArmazenamentoLocalCurriculo {
+
+    public static final String TIPO = "LOCAL";
+
+    private static final Logger log = LoggerFactory.getLogger(ArmazenamentoLocalCurriculo.class);
+
+    private final Path raiz;
+
+    public ArmazenamentoLocalCurriculo(@Value("${cadastrosrh.curriculo.diretorio:dados/curriculos}") Path raiz) {
+        this.raiz = raiz.toAbsolutePath().normalize();
+    }
+
+    public static String chave(String hash) {
+        return "sha256/" + hash.substring(0, 2) + "/" + hash;
+    }
+
+    /**
+     * Copia o envio para um temporário no mesmo volume dos blobs, calculando o SHA-256 no caminho;
+     * o multipart nunca é carregado inteiro em memória.
+     */
+    public Recebido receber(MultipartFile arquivo) throws IOException {
+        Path temporarios = raiz.resolve("tmp");
+        Files.createDirectories(temporarios);
+        Path temporario = Files.createTempFile(temporarios, "envio-", ".tmp");
+        MessageDigest sha256 = sha256();
+        try (InputStream in = arquivo.getInputStream();
+             OutputStream out = new DigestOutputStream(Files.newOutputStream(temporario), sha256)) {
+            long tamanho = in.transferTo(out);
+            return new Recebido(temporario, HexFormat.of().formatHex(sha256.digest()), tamanho);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temporario);
+            throw e;
+        }
+    }
+
+    /**
+     * Transforma o temporário no blob do seu hash, ou o descarta se o blob já existe.
+     * Deve ser chamado sob a trava do hash, para não correr com a remoção do mesmo blob.
+     *
+     * @return {@code true} se o blob foi criado agora
+     */
+    public boolean publicar(Recebido recebido) throws IOException {
+        Path destino = resolver(chave(recebido.hash()));
+        if (Files.exists(destino)) {
+            descartar(recebido);
+            return false;
+        }
+        Files.createDirectories(destino.getParent());
+        Files.move(recebido.temporario(), destino, StandardCopyOption.ATOMIC_MOVE);
+        return true;
+    }
+
+    public void descartar(Recebido recebido) {
+        try {
+            Files.deleteIfExists(recebido.temporario());
+        } catch (IOException e) {
+            log.warn("Não foi possível remover o temporário {}", recebido.temporario(), e);
+        }
+    }
+
+    public Path resolver(String chave) {
+        Path caminho = raiz.resolve(chave).normalize();
+        if (!caminho.startsWith(raiz)) {
+            throw new IllegalArgumentException("Chave de armazenamento inválida: " + chave);
+        }
+        return caminho;
+    }
+
+    public void remover(String chave) {
+        try {
+            Files.deleteIfExists(resolver(chave));
+        } catch (IOException e) {
+            log.warn("Não foi possível remover o currículo {}", chave, e);
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Envio já copiado para {@code temporario}, ainda não publicado.
+     */
+    public record Recebido(Path temporario, String hash, long tamanho) {
+    }
+}
@@ -0,0 +1,29 @@
+package com.rhgroup.cadastrosrh.service;
+
+import com.rhgroup.cadastrosrh.dto.ResultadoBuscaDTO;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Busca textual ranqueada sobre {@code nome}, {@code areaInteresse} e o texto do currículo, sem acentos e com
+ * regras do português. Todos os termos da consulta precisam aparecer; o nome pesa mais que a área de interesse,
+ * e esta mais que o currículo.
+ * <p>
+ * No perfil {@code postgres} a busca usa o índice GIN do banco; nos demais, um índice invertido em memória.
+ * {@link #atualizar}, {@link #atualizarCurriculo} e {@link #remover} devem ser chamados após o commit da
+ * escrita correspondente.
+ */
+public interface BuscaCandidatoIndice {
+
+    List<ResultadoBuscaDTO> buscar(String consulta, int limite);
+
+    void atualizar(UUID id, String nome, String areaInteresse);
+
+    /**
+     * Troca o texto de currículo do candidato; {@code null} tira o currículo da busca.
+     */
+    void atualizarCurriculo(UUID id, String texto);
+
+    void remover(UUID id);
+}
@@ -0,0 +1,321 @@
+package com.rhgroup.cadastrosrh.service;
+
+import com.rhgroup.cadastrosrh.dto.CandidatoResponseDTO;
+import com.rhgroup.cadastrosrh.dto.ResultadoBuscaDTO;
+import com.rhgroup.cadastrosrh.model.CurriculoTexto;
+import com.rhgroup.cadastrosrh.repository.CandidatoRepository;
+import com.rhgroup.cadastrosrh.repository.CurriculoTextoRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Índice invertido em memória com ranqueamento BM25, usado quando o banco não oferece busca textual (H2).
+ * <p>
+ * É carregado por stream quando a aplicação sobe e mantido pelas escritas após o commit. Escritas que
+ * chegam durante a carga prevalecem sobre a linha lida do banco.
+ * <p>
+ * O texto do currículo entra no mesmo documento com o menor peso, e cada termo dele conta no máximo
+ * {@value #TF_MAXIMO_CURRICULO} vezes, para que repetir uma palavra no arquivo não domine o ranking.
+ */
+@Component
+@Profile("!postgres")
+public class BuscaCandidatoIndiceMemoria implements BuscaCandidatoIndice {
+
+    private static final Logger log = LoggerFactory.getLogger(BuscaCandidatoIndiceMemoria.class);
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int PESO_NOME = 4;
+    private static final int PESO_AREA = 2;
+    private static final int PESO_CURRICULO = 1;
+    private static final int TF_MAXIMO_CURRICULO = 3;
+
+    private static final Pattern MARCAS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARADORES = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Set<String> STOPWORDS = Set.of(
+            "da", "das", "de", "do", "dos", "em", "na", "nas", "no", "nos", "um", "uma",
+            "com", "para", "por", "ou", "que", "se", "as", "os", "ao", "aos");
+
+    private final CandidatoRepository repository;
+    private final CurriculoTextoRepository textos;
+    private final TransactionTemplate transacaoLeitura;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Map<UUID, Integer>> postings = new HashMap<>();
+    private final Map<UUID, Documento> documentos = new HashMap<>();
+    // Termos do currículo por candidato, somados ao documento sempre que ele é (re)indexado.
+    private final Map<UUID, Map<String, Integer>> curriculos = new HashMap<>();
+    private long somaComprimentos;
+    private Set<UUID> alteradosDuranteCarga;
+    private Set<UUID> curriculosAlteradosDuranteCarga;
+
+    public BuscaCandidatoIndiceMemoria(CandidatoRepository repository,
+                                       CurriculoTextoRepository textos,
+                                       PlatformTransactionManager transactionManager) {
+        this.repository = repository;
+        this.textos = textos;
+        this.transacaoLeitura = new TransactionTemplate(transactionManager);
+        this.transacaoLeitura.setReadOnly(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void carregar() {
+        long inicio = System.nanoTime();
+        Long total = transacaoLeitura.execute(status -> {
+            try (Stream<CandidatoResponseDTO> linhas = repository.streamParaExportacao(null, null, null)) {
+                return carregar(linhas);
+            }
+        });
+        Long comCurriculo = transacaoLeitura.execute(status -> {
+            try (Stream<CurriculoTexto> linhas = textos.streamTodos()) {
+                return carregarCurriculos(linhas);
+            }
+        });
+        log.info("Índice de busca carregado: {} candidatos ({} com currículo) em {} ms",
+                total, comCurriculo, (System.nanoTime() - inicio) / 1_000_000);
+    }
+
+    long carregarCurriculos(Stream<CurriculoTexto> linhas) {
+        lock.writeLock().lock();
+        try {
+            curriculosAlteradosDuranteCarga = new HashSet<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        long[] total = {0};
+        try {
+            linhas.forEach(t -> {
+                lock.writeLock().lock();
+                try {
+                    if (!curriculosAlteradosDuranteCarga.contains(t.getCandidatoId())) {
+                        atualizarCurriculoInterno(t.getCandidatoId(), t.getTexto());
+                        total[0]++;
+                    }
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            });
+        } finally {
+            lock.writeLock().lock();
+            try {
+                curriculosAlteradosDuranteCarga = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+        return total[0];
+    }
+
+    long carregar(Stream<CandidatoResponseDTO> linhas) {
+        lock.writeLock().lock();
+        try {
+            alteradosDuranteCarga = new HashSet<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        long[] total = {0};
+        try {
+            linhas.forEach(c -> {
+                lock.writeLock().lock();
+                try {
+                    if (!alteradosDuranteCarga.contains(c.getId())) {
+                        removerInterno(c.getId());
+                        indexarInterno(c.getId(), c.getNome(), c.getAreaInteresse());
+                        total[0]++;
+                    }
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            });
+        } finally {
+            lock.writeLock().lock();
+            try {
+                alteradosDuranteCarga = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+        return total[0];
+    }
+
+    @Override
+    public void atualizar(UUID id, String nome, String areaInteresse) {
+        lock.writeLock().lock();
+        try {
+            marcarAlterado(id);
+            removerInterno(id);
+            indexarInterno(id, nome, areaInteresse);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void atualizarCurriculo(UUID id, String texto) {
+        lock.writeLock().lock();
+        try {
+            if (curriculosAlteradosDuranteCarga != null) curriculosAlteradosDuranteCarga.add(id);
+            atualizarCurriculoInterno(id, texto);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remover(UUID id) {
+        lock.writeLock().lock();
+        try {
+            marcarAlterado(id);
+            if (curriculosAlteradosDuranteCarga != null) curriculosAlteradosDuranteCarga.add(id);
+            removerInterno(id);
+            curriculos.remove(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<ResultadoBuscaDTO> buscar(String consulta, int limite) {
+        List<String> termos = new ArrayList<>(new LinkedHashSet<>(termos(consulta)));
+        if (termos.isEmpty()) return List.of();
+
+        lock.readLock().lock();
+        try {
+            List<Map<UUID, Integer>> listas = new ArrayList<>(termos.size());
+            for (String termo : termos) {
+                Map<UUID, Integer> lista = postings.get(termo);
+                if (lista == null) return List.of();
+                listas.add(lista);
+            }
+            // Percorre a lista mais curta e exige os demais termos por lookup.
+            listas.sort(Comparator.comparingInt(Map::size));
+
+            int n = documentos.size();
+            double mediaComprimento = (double) somaComprimentos / n;
+            double[] idf = listas.stream()
+                    .mapToDouble(l -> Math.log(1 + (n - l.size() + 0.5) / (l.size() + 0.5)))
+                    .toArray();
+
+            Comparator<ResultadoBuscaDTO> ordem = Comparator.comparingDouble(ResultadoBuscaDTO::relevancia)
+                    .thenComparing(ResultadoBuscaDTO::id, Comparator.reverseOrder());
+            PriorityQueue<ResultadoBuscaDTO> melhores = new PriorityQueue<>(limite + 1, ordem);
+
+            for (UUID id : listas.get(0).keySet()) {
+                Documento doc = documentos.get(id);
+                double pontos = 0;
+                boolean todos = true;
+                for (int i = 0; i < listas.size() && todos; i++) {
+                    Integer tf = listas.get(i).get(id);
+                    if (tf == null) {
+                        todos = false;
+                    } else {
+                        double normalizacao = K1 * (1 - B + B * doc.comprimento() / mediaComprimento);
+                        pontos += idf[i] * tf * (K1 + 1) / (tf + normalizacao);
+                    }
+                }
+                if (!todos) continue;
+
+                melhores.add(new ResultadoBuscaDTO(id, doc.nome(), doc.areaInteresse(), pontos));
+                if (melhores.size() > limite) melhores.poll();
+            }
+
+            List<ResultadoBuscaDTO> resultado = new ArrayList<>(melhores);
+            resultado.sort(ordem.reversed());
+            return resultado;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void marcarAlterado(UUID id) {
+        if (alteradosDuranteCarga != null) alteradosDuranteCarga.add(id);
+    }
+
+    private void atualizarCurriculoInterno(UUID id, String texto) {
+        Map<String, Integer> frequencias = new HashMap<>();
+        termos(texto).forEach(t -> frequencias.merge(t, 1, Integer::sum));
+        if (frequencias.isEmpty()) {
+            curriculos.remove(id);
+        } else {
+            frequencias.replaceAll((t, tf) -> Math.min(tf, TF_MAXIMO_CURRICULO) * PESO_CURRICULO);
+            curriculos.put(id, frequencias);
+        }
+        Documento doc = documentos.get(id);
+        if (doc != null) {
+            removerInterno(id);
+            indexarInterno(id, doc.nome(), doc.areaInteresse());
+        }
+    }
+
+    private void indexarInterno(UUID id, String nome, String areaInteresse) {
+        Map<String, Integer> frequencias = new HashMap<>();
+        termos(nome).forEach(t -> frequencias.merge(t, PESO_NOME, Integer::sum));
+        termos(areaInteresse).forEach(t -> frequencias.merge(t, PESO_AREA, Integer::sum));
+        curriculos.getOrDefault(id, Map.of()).forEach((t, tf) -> frequencias.merge(t, tf, Integer::sum));
+
+        int comprimento = frequencias.values().stream().mapToInt(Integer::intValue).sum();
+        frequencias.forEach((termo, tf) -> postings.computeIfAbsent(termo, k -> new HashMap<>()).put(id, tf));
+        documentos.put(id, new Documento(nome, areaInteresse, frequencias.keySet(), comprimento));
+        somaComprimentos += comprimento;
+    }
+
+    private void removerInterno(UUID id) {
+        Documento anterior = documentos.remove(id);
+        if (anterior == null) return;
+        somaComprimentos -= anterior.comprimento();
+        for (String termo : anterior.termos()) {
+            Map<UUID, Integer> lista = postings.get(termo);
+            lista.remove(id);
+            if (lista.isEmpty()) postings.remove(termo);
+        }
+    }
+
+    /**
+     * Minúsculas, sem acentos, sem stopwords e com o plural reduzido ao singular.
+     */
+    static List<String> termos(String texto) {
+        if (texto == null || texto.isBlank()) return List.of();
+        String semAcentos = MARCAS.matcher(Normalizer.normalize(texto, Normalizer.Form.NFD)).replaceAll("");
+        return Arrays.stream(SEPARADORES.split(semAcentos.toLowerCase(Locale.ROOT)))
+                .filter(t -> t.length() > 1 && !STOPWORDS.contains(t))
+                .map(BuscaCandidatoIndiceMemoria::singular)
+                .toList();
+    }
+
+    private static String singular(String termo) {
+        if (termo.length() <= 3) return termo;
+        if (termo.endsWith("oes") || termo.endsWith("aes")) return termo.substring(0, termo.length() - 3) + "ao";
+        if (termo.endsWith("res") || termo.endsWith("zes")) return termo.substring(0, termo.length() - 2);
+        if (termo.endsWith("ns")) return termo.substring(0, termo.length() - 2) + "m";
+        if (termo.endsWith("s") && !termo.endsWith("ss")) return termo.substring(0, termo.length() - 1);
+        return termo;
+    }
+
+    private record Documento(String nome, String areaInteresse, Set<String> termos, int comprimento) {
+    }
+}
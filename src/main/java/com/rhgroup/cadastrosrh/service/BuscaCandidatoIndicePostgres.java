@@ -0,0 +1,46 @@
+package com.rhgroup.cadastrosrh.service;
+
+import com.rhgroup.cadastrosrh.dto.ResultadoBuscaDTO;
+import com.rhgroup.cadastrosrh.repository.CandidatoRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Busca pelos índices GIN de {@code candidatos.busca_documento} (V4) e {@code curriculo_textos.documento} (V7).
+ * As colunas são geradas pelo próprio banco, então escritas não precisam de sincronização.
+ */
+@Component
+@Profile("postgres")
+public class BuscaCandidatoIndicePostgres implements BuscaCandidatoIndice {
+
+    private final CandidatoRepository repository;
+
+    public BuscaCandidatoIndicePostgres(CandidatoRepository repository) {
+        this.repository = repository;
+    }
+
+    @Override
+    public List<ResultadoBuscaDTO> buscar(String consulta, int limite) {
+        return repository.buscarTextoCompleto(consulta, limite).stream()
+                .map(l -> new ResultadoBuscaDTO(l.getId(), l.getNome(), l.getAreaInteresse(), l.getRelevancia()))
+                .toList();
+    }
+
+    @Override
+    public void atualizar(UUID id, String nome, String areaInteresse) {
+        // Mantido pela coluna gerada.
+    }
+
+    @Override
+    public void atualizarCurriculo(UUID id, String texto) {
+        // Mantido pela coluna gerada.
+    }
+
+    @Override
+    public void remover(UUID id) {
+        // Mantido pela coluna gerada.
+    }
+}
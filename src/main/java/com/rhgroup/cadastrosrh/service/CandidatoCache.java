@@ -0,0 +1,56 @@
+package com.rhgroup.cadastrosrh.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.rhgroup.cadastrosrh.dto.CandidatoResponseDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Cache local de {@code GET /candidatos/{id}}, limitado em tamanho e TTL.
+ * <p>
+ * Escritas não atualizam o cache: removem a entrada depois do commit (ver {@link AposCommit}),
+ * e a próxima leitura busca a linha já confirmada. Assim um rollback nunca fica visível.
+ * Hits, misses e evicções são publicados como {@code cache.*{cache=candidatos}}.
+ */
+@Component
+public class CandidatoCache {
+
+    private final Cache<UUID, CandidatoResponseDTO> porId;
+
+    public CandidatoCache(@Value("${cadastrosrh.cache.candidatos.tamanho-maximo:5000}") long tamanhoMaximo,
+                          @Value("${cadastrosrh.cache.candidatos.ttl:10m}") Duration ttl,
+                          MeterRegistry registry) {
+        this.porId = Caffeine.newBuilder()
+                .maximumSize(tamanhoMaximo)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(registry, porId, "candidatos");
+    }
+
+    /**
+     * Devolve a resposta em cache ou a carrega; carregamentos que retornam {@code null} não são guardados.
+     */
+    public CandidatoResponseDTO buscar(UUID id, Function<UUID, CandidatoResponseDTO> carregar) {
+        return porId.get(id, carregar);
+    }
+
+    /**
+     * Remove a entrada depois do commit da transação corrente (ou na hora, se não houver transação).
+     */
+    public void invalidarAposCommit(UUID id) {
+        AposCommit.executar(() -> porId.invalidate(id));
+    }
+
+    public void invalidarAposCommit(Collection<UUID> ids) {
+        AposCommit.executar(() -> porId.invalidateAll(ids));
+    }
+}
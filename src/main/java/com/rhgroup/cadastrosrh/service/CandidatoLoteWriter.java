@@ -0,0 +1,46 @@
+package com.rhgroup.cadastrosrh.service;
+
+import com.rhgroup.cadastrosrh.model.Candidato;
+import com.rhgroup.cadastrosrh.repository.CandidatoRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Persiste um lote de candidatos em uma transação própria.
+ * Com {@code hibernate.jdbc.batch_size} configurado e ids UUID gerados em memória,
+ * o flush vira INSERTs em batch JDBC, sem ida ao banco por linha.
+ */
+@Component
+public class CandidatoLoteWriter {
+
+    private final CandidatoRepository repository;
+    private final EntityManager entityManager;
+    private final BuscaCandidatoIndice indiceBusca;
+    private final ContadorStatusCandidato contadorStatus;
+    private final FiltroUnicidadeCandidato unicidade;
+
+    public CandidatoLoteWriter(CandidatoRepository repository, EntityManager entityManager,
+                               BuscaCandidatoIndice indiceBusca, ContadorStatusCandidato contadorStatus,
+                               FiltroUnicidadeCandidato unicidade) {
+        this.repository = repository;
+        this.entityManager = entityManager;
+        this.indiceBusca = indiceBusca;
+        this.contadorStatus = contadorStatus;
+        this.unicidade = unicidade;
+    }
+
+    @Transactional(Transactional.TxType.REQUIRES_NEW)
+    public void inserir(List<Candidato> lote) {
+        repository.saveAll(lote);
+        repository.flush();
+        entityManager.clear();
+        lote.forEach(c -> unicidade.registrar(c.getEmail(), c.getCpf()));
+        AposCommit.executar(() -> lote.forEach(c -> {
+            indiceBusca.atualizar(c.getId(), c.getNome(), c.getAreaInteresse());
+            contadorStatus.registrarCriacao(c.getStatus());
+        }));
+    }
+}
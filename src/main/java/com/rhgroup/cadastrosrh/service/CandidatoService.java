@@ -1,80 +1,196 @@
 package com.rhgroup.cadastrosrh.service;
 
+import com.rhgroup.cadastrosrh.config.RoteamentoDataSource;
 import com.rhgroup.cadastrosrh.dto.*;
+import com.rhgroup.cadastrosrh.exception.ConflitoUnicidadeException;
 import com.rhgroup.cadastrosrh.exception.NotFoundException;
+import com.rhgroup.cadastrosrh.exception.RequisicaoInvalidaException;
 import com.rhgroup.cadastrosrh.model.Candidato;
 import com.rhgroup.cadastrosrh.model.StatusCandidato;
 import com.rhgroup.cadastrosrh.repository.CandidatoRepository;
+import com.rhgroup.cadastrosrh.repository.CandidatoSpecifications;
+import com.rhgroup.cadastrosrh.security.CredenciaisCache;
+import com.rhgroup.cadastrosrh.security.EmissorTokens;
+import io.micrometer.core.annotation.Timed;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.beans.BeanUtils;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
-import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
+@Timed("candidatos.servico")
 @RequiredArgsConstructor
 public class CandidatoService {
 
     private static final String NOT_FOUND_MSG = "Candidato não encontrado";
+    private static final int TAMANHO_PAGINA_PADRAO = 20;
+    private static final int TAMANHO_PAGINA_MAXIMO = 100;
+    private static final int MAXIMO_STATUS_LOTE = 5000;
+    private static final int TAMANHO_LOTE_STATUS = 500;
 
     private final CandidatoRepository repository;
     private final PasswordEncoder passwordEncoder;
+    private final CredenciaisCache credenciaisCache;
+    private final CandidatoCache candidatoCache;
+    private final BuscaCandidatoIndice indiceBusca;
+    private final ContadorStatusCandidato contadorStatus;
+    private final CurriculoService curriculoService;
+    private final FiltroUnicidadeCandidato unicidade;
+    private final EmissorTokens emissorTokens;
 
     @Transactional
     public CandidatoResponseDTO criar(CandidatoCreateDTO dto) {
+        // Antes do BCrypt: duplicados não pagam o hash. O filtro evita o exists quando o valor é novo.
+        if (unicidade.existeCpf(dto.getCpf())) throw new ConflitoUnicidadeException("CPF já cadastrado");
+        if (unicidade.existeEmail(dto.getEmail())) throw new ConflitoUnicidadeException("E-mail já cadastrado");
+
         String senhaHash = passwordEncoder.encode(dto.getSenha());
         Candidato candidato = dto.toEntity(senhaHash);
-        repository.save(candidato);
+        try {
+            repository.save(candidato);
+            repository.flush();
+        } catch (DataIntegrityViolationException e) {
+            // Cadastro concorrente que passou pela pré-checagem: a constraint UNIQUE decide.
+            throw ConflitoUnicidadeException.de(e).orElseThrow(() -> e);
+        }
+        unicidade.registrar(candidato.getEmail(), candidato.getCpf());
+        reindexarAposCommit(candidato);
+        StatusCandidato status = candidato.getStatus();
+        AposCommit.executar(() -> contadorStatus.registrarCriacao(status));
         return CandidatoResponseDTO.fromEntity(candidato);
     }
 
-    @Transactional(Transactional.TxType.SUPPORTS)
-    public List<CandidatoResponseDTO> listarTodos() {
-        return repository.findAll().stream()
-                .map(CandidatoResponseDTO::fromEntity)
-                .toList();
+    @SomenteLeitura
+    public PaginaCursorDTO<CandidatoResponseDTO> listar(String cursor, Integer tamanho, OrdenacaoCandidato ordenacao) {
+        OrdenacaoCandidato ordem = ordenacao != null ? ordenacao : OrdenacaoCandidato.CRIADO_EM;
+        int limite = tamanho == null ? TAMANHO_PAGINA_PADRAO : Math.clamp(tamanho, 1, TAMANHO_PAGINA_MAXIMO);
+        // Busca um item a mais só para saber se existe próxima página.
+        Pageable janela = PageRequest.ofSize(limite + 1);
+
+        List<CandidatoResponseDTO> linhas;
+        if (cursor == null || cursor.isBlank()) {
+            linhas = ordem == OrdenacaoCandidato.NOME
+                    ? repository.findPrimeirosPorNome(janela)
+                    : repository.findPrimeirosPorCriadoEm(janela);
+        } else {
+            CursorCandidato posicao = CursorCandidato.decodificar(cursor, ordem);
+            linhas = ordem == OrdenacaoCandidato.NOME
+                    ? repository.findProximosPorNome(posicao.valor(), posicao.id(), janela)
+                    : repository.findProximosPorCriadoEm(posicao.criadoEm(), posicao.id(), janela);
+        }
+
+        return pagina(linhas, limite, ordem);
     }
 
-    @Transactional(Transactional.TxType.SUPPORTS)
+    @SomenteLeitura
+    public PaginaCursorDTO<CandidatoResponseDTO> filtrar(FiltroCandidatoDTO filtro, String cursor, Integer tamanho) {
+        Specification<Candidato> criterios = especificacao(filtro);
+        int limite = tamanho == null ? TAMANHO_PAGINA_PADRAO : Math.clamp(tamanho, 1, TAMANHO_PAGINA_MAXIMO);
+        CursorCandidato posicao = cursor == null || cursor.isBlank()
+                ? null
+                : CursorCandidato.decodificar(cursor, OrdenacaoCandidato.CRIADO_EM);
+
+        Specification<Candidato> especificacao = criterios.and(
+                CandidatoSpecifications.aposCriadoEm(
+                        posicao == null ? null : posicao.criadoEm(), posicao == null ? null : posicao.id()));
+
+        return pagina(repository.filtrar(especificacao, limite + 1), limite, OrdenacaoCandidato.CRIADO_EM);
+    }
+
+    @SomenteLeitura
     public CandidatoResponseDTO buscarPorId(UUID id) {
-        Candidato candidato = repository.findById(id)
-                .orElseThrow(() -> new NotFoundException(NOT_FOUND_MSG));
-        return CandidatoResponseDTO.fromEntity(candidato);
+        // A carga do cache lê do primário: uma linha atrasada na réplica ficaria em cache por todo o TTL.
+        CandidatoResponseDTO resposta = candidatoCache.buscar(id, chave ->
+                RoteamentoDataSource.noPrimario(() -> repository.findRespostaById(chave).orElse(null)));
+        if (resposta == null) throw new NotFoundException(NOT_FOUND_MSG);
+        return resposta;
     }
 
-    @Transactional(Transactional.TxType.SUPPORTS)
+    @SomenteLeitura
     public List<CandidatoResponseDTO> buscarPorStatus(StatusCandidato status) {
-        return repository.findByStatus(status).stream()
-                .map(CandidatoResponseDTO::fromEntity)
-                .collect(Collectors.toList());
+        return repository.findRespostasByStatus(status);
+    }
+
+    @SomenteLeitura
+    public List<ResultadoBuscaDTO> buscarTexto(String consulta, Integer limite) {
+        if (consulta == null || consulta.isBlank()) {
+            throw new RequisicaoInvalidaException("Informe o termo de busca");
+        }
+        int k = limite == null ? TAMANHO_PAGINA_PADRAO : Math.clamp(limite, 1, TAMANHO_PAGINA_MAXIMO);
+        return indiceBusca.buscar(consulta.strip(), k);
+    }
+
+    public ResumoStatusDTO resumoPorStatus() {
+        return contadorStatus.resumo();
+    }
+
+    @SomenteLeitura
+    public VersaoListaDTO versaoPorStatus(StatusCandidato status) {
+        return repository.findVersaoPorStatus(status);
     }
 
     @Transactional
     public CandidatoResponseDTO atualizar(UUID id, CandidatoUpdateDTO dto) {
         Candidato existente = repository.findById(id)
                 .orElseThrow(() -> new NotFoundException(NOT_FOUND_MSG));
+        StatusCandidato statusAnterior = existente.getStatus();
 
         BeanUtils.copyProperties(dto, existente, "id", "senhaHash", "criadoEm", "email", "cpf");
 
         repository.save(existente);
+        candidatoCache.invalidarAposCommit(id);
+        reindexarAposCommit(existente);
+        registrarMudancaAposCommit(statusAnterior, existente.getStatus());
         return CandidatoResponseDTO.fromEntity(existente);
     }
 
+    /**
+     * PATCH sem SELECT prévio: um UPDATE só com os campos enviados e uma leitura da projeção para a resposta.
+     * O status anterior só é lido (com a linha travada) quando o patch muda o status, por causa dos contadores.
+     */
     @Transactional
     public CandidatoResponseDTO atualizarParcial(UUID id, CandidatoPatchDTO dto) {
-        Candidato existente = repository.findById(id)
+        if (dto.isVazio()) {
+            return repository.findRespostaById(id).orElseThrow(() -> new NotFoundException(NOT_FOUND_MSG));
+        }
+        StatusCandidato statusAnterior = null;
+        if (dto.getStatus() != null) {
+            statusAnterior = repository.travarStatus(List.of(id)).stream()
+                    .findFirst()
+                    .map(StatusAtualDTO::status)
+                    .orElseThrow(() -> new NotFoundException(NOT_FOUND_MSG));
+        }
+        if (repository.atualizarParcial(id, dto, LocalDateTime.now()) == 0) {
+            throw new NotFoundException(NOT_FOUND_MSG);
+        }
+        CandidatoResponseDTO atualizado = repository.findRespostaById(id)
                 .orElseThrow(() -> new NotFoundException(NOT_FOUND_MSG));
-        if (dto.getNome() != null) existente.setNome(dto.getNome());
-        if (dto.getCelular() != null) existente.setCelular(dto.getCelular());
-        if (dto.getAreaInteresse() != null) existente.setAreaInteresse(dto.getAreaInteresse());
-        if (dto.getExperienciaAnos() != null) existente.setExperienciaAnos(dto.getExperienciaAnos());
-        if (dto.getPretensaoSalarial() != null) existente.setPretensaoSalarial(dto.getPretensaoSalarial());
-        if (dto.getStatus() != null) existente.setStatus(dto.getStatus());
-        repository.save(existente);
-        return CandidatoResponseDTO.fromEntity(existente);
+
+        candidatoCache.invalidarAposCommit(id);
+        if (dto.getNome() != null || dto.getAreaInteresse() != null) {
+            String nome = atualizado.getNome();
+            String areaInteresse = atualizado.getAreaInteresse();
+            AposCommit.executar(() -> indiceBusca.atualizar(id, nome, areaInteresse));
+        }
+        if (statusAnterior != null) {
+            registrarMudancaAposCommit(statusAnterior, dto.getStatus());
+        }
+        return atualizado;
     }
 
     @Transactional
@@ -82,6 +198,77 @@ public class CandidatoService {
         Candidato c = repository.findById(id)
                 .orElseThrow(() -> new NotFoundException(NOT_FOUND_MSG));
         repository.delete(c);
+        candidatoCache.invalidarAposCommit(id);
+        AposCommit.executar(() -> indiceBusca.remover(id));
+        AposCommit.executar(() -> contadorStatus.registrarRemocao(c.getStatus()));
+        AposCommit.executar(() -> credenciaisCache.invalidar(c.getEmail()));
+        curriculoService.liberarAposCommit(c.getCurriculoHash(), c.getCurriculoUrl());
+        unicidade.removerAposCommit(c.getEmail(), c.getCpf());
+    }
+
+    /**
+     * Aplica o status a vários candidatos com UPDATEs por lote em vez de carregar e salvar cada entidade:
+     * por lote de {@value #TAMANHO_LOTE_STATUS} ids, um SELECT que trava as linhas e um UPDATE só dos que mudam.
+     */
+    @Transactional
+    public MudancaStatusResultadoDTO mudarStatusEmLote(MudancaStatusLoteDTO dto) {
+        StatusCandidato alvo = dto.getStatus();
+        if (alvo == null) {
+            throw new RequisicaoInvalidaException("Informe o status de destino");
+        }
+        boolean porIds = dto.getIds() != null && !dto.getIds().isEmpty();
+        if (porIds == (dto.getFiltro() != null)) {
+            throw new RequisicaoInvalidaException("Informe a lista de ids ou um filtro, não ambos");
+        }
+
+        List<UUID> ids = porIds
+                ? dto.getIds().stream().distinct().toList()
+                : repository.filtrarIds(especificacaoNaoVazia(dto.getFiltro()), MAXIMO_STATUS_LOTE + 1);
+        if (ids.size() > MAXIMO_STATUS_LOTE) {
+            throw new RequisicaoInvalidaException(
+                    "Máximo de " + MAXIMO_STATUS_LOTE + " candidatos por mudança de status; refine o filtro");
+        }
+
+        LocalDateTime agora = LocalDateTime.now();
+        Map<UUID, StatusCandidato> anteriores = new HashMap<>();
+        List<UUID> alterados = new ArrayList<>();
+        // Mesma ordem de travamento em todos os lotes concorrentes, para não haver deadlock entre eles.
+        List<UUID> ordenados = ids.stream().sorted(Comparator.comparing(UUID::toString)).toList();
+        for (int i = 0; i < ordenados.size(); i += TAMANHO_LOTE_STATUS) {
+            List<UUID> lote = ordenados.subList(i, Math.min(i + TAMANHO_LOTE_STATUS, ordenados.size()));
+            List<UUID> mudar = new ArrayList<>();
+            for (StatusAtualDTO atual : repository.travarStatus(lote)) {
+                anteriores.put(atual.id(), atual.status());
+                if (atual.status() != alvo) mudar.add(atual.id());
+            }
+            if (!mudar.isEmpty()) {
+                repository.atualizarStatus(mudar, alvo, agora);
+                alterados.addAll(mudar);
+            }
+        }
+
+        List<MudancaStatusItemDTO> resultados = new ArrayList<>(ids.size());
+        Map<StatusCandidato, Long> saidas = new EnumMap<>(StatusCandidato.class);
+        long inalterados = 0;
+        for (UUID id : ids) {
+            StatusCandidato anterior = anteriores.get(id);
+            ResultadoMudancaStatus resultado;
+            if (anterior == null) {
+                resultado = ResultadoMudancaStatus.NAO_ENCONTRADO;
+            } else if (anterior == alvo) {
+                resultado = ResultadoMudancaStatus.JA_NO_STATUS;
+                inalterados++;
+            } else {
+                resultado = ResultadoMudancaStatus.ALTERADO;
+                saidas.merge(anterior, 1L, Long::sum);
+            }
+            resultados.add(new MudancaStatusItemDTO(id, resultado, anterior));
+        }
+
+        candidatoCache.invalidarAposCommit(alterados);
+        AposCommit.executar(() -> saidas.forEach((de, n) -> contadorStatus.registrarMudancas(de, alvo, n)));
+        return new MudancaStatusResultadoDTO(alvo, alterados.size(), inalterados,
+                ids.size() - anteriores.size(), resultados);
     }
 
     @Transactional
@@ -92,6 +279,70 @@ public class CandidatoService {
             throw new IllegalArgumentException("Senha antiga incorreta!");
         }
         c.setSenhaHash(passwordEncoder.encode(dto.getSenhaNova()));
+        // Revoga os tokens já emitidos: a renovação confere a versão no banco; o acesso, nesta instância, na hora.
+        int versaoTokens = c.getTokenVersao() + 1;
+        c.setTokenVersao(versaoTokens);
         repository.save(c);
+        candidatoCache.invalidarAposCommit(id);
+        AposCommit.executar(() -> credenciaisCache.invalidar(c.getEmail()));
+        AposCommit.executar(() -> emissorTokens.revogar(c.getEmail(), versaoTokens));
+    }
+
+    private static Specification<Candidato> especificacao(FiltroCandidatoDTO filtro) {
+        validarFaixa(filtro.getExperienciaMin(), filtro.getExperienciaMax(), "experiência");
+        validarFaixa(filtro.getPretensaoMin(), filtro.getPretensaoMax(), "pretensão salarial");
+        validarFaixa(filtro.getNascidoDe(), filtro.getNascidoAte(), "data de nascimento");
+        validarFaixa(filtro.getCriadoDe(), filtro.getCriadoAte(), "data de criação");
+
+        return Specification.allOf(
+                CandidatoSpecifications.comStatus(filtro.getStatus()),
+                CandidatoSpecifications.experienciaEntre(filtro.getExperienciaMin(), filtro.getExperienciaMax()),
+                CandidatoSpecifications.pretensaoEntre(filtro.getPretensaoMin(), filtro.getPretensaoMax()),
+                CandidatoSpecifications.nascidoEntre(filtro.getNascidoDe(), filtro.getNascidoAte()),
+                CandidatoSpecifications.criadoEntre(filtro.getCriadoDe(), filtro.getCriadoAte()));
+    }
+
+    // Um filtro vazio alcançaria todos os candidatos; numa escrita em lote isso é quase sempre engano.
+    private static Specification<Candidato> especificacaoNaoVazia(FiltroCandidatoDTO filtro) {
+        boolean vazio = Stream.of(filtro.getStatus(), filtro.getExperienciaMin(), filtro.getExperienciaMax(),
+                        filtro.getPretensaoMin(), filtro.getPretensaoMax(), filtro.getNascidoDe(),
+                        filtro.getNascidoAte(), filtro.getCriadoDe(), filtro.getCriadoAte())
+                .allMatch(Objects::isNull);
+        if (vazio) {
+            throw new RequisicaoInvalidaException("Informe ao menos um critério no filtro");
+        }
+        return especificacao(filtro);
+    }
+
+    private static <T extends Comparable<? super T>> void validarFaixa(T min, T max, String campo) {
+        if (min != null && max != null && min.compareTo(max) > 0) {
+            throw new RequisicaoInvalidaException("Faixa de " + campo + " inválida: mínimo maior que máximo");
+        }
+    }
+
+    private static PaginaCursorDTO<CandidatoResponseDTO> pagina(List<CandidatoResponseDTO> linhas, int limite,
+                                                                OrdenacaoCandidato ordem) {
+        boolean temMais = linhas.size() > limite;
+        List<CandidatoResponseDTO> pagina = temMais ? linhas.subList(0, limite) : linhas;
+        String proximoCursor = temMais ? cursorApos(pagina.get(pagina.size() - 1), ordem).codificar() : null;
+        return new PaginaCursorDTO<>(pagina, limite, proximoCursor);
+    }
+
+    private void registrarMudancaAposCommit(StatusCandidato de, StatusCandidato para) {
+        if (de != para) {
+            AposCommit.executar(() -> contadorStatus.registrarMudanca(de, para));
+        }
+    }
+
+    private void reindexarAposCommit(Candidato c) {
+        UUID id = c.getId();
+        String nome = c.getNome();
+        String areaInteresse = c.getAreaInteresse();
+        AposCommit.executar(() -> indiceBusca.atualizar(id, nome, areaInteresse));
+    }
+
+    private static CursorCandidato cursorApos(CandidatoResponseDTO ultimo, OrdenacaoCandidato ordem) {
+        String valor = ordem == OrdenacaoCandidato.NOME ? ultimo.getNome() : ultimo.getCriadoEm().toString();
+        return new CursorCandidato(ordem, valor, ultimo.getId());
     }
 }
\ No newline at end of file
@@ -0,0 +1,147 @@
+package com.rhgroup.cadastrosrh.service;
+
+import com.rhgroup.cadastrosrh.config.RoteamentoDataSource;
+import com.rhgroup.cadastrosrh.dto.ContagemStatusDTO;
+import com.rhgroup.cadastrosrh.dto.ResumoStatusDTO;
+import com.rhgroup.cadastrosrh.model.StatusCandidato;
+import com.rhgroup.cadastrosrh.repository.CandidatoRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Contadores de candidatos por status, mantidos em memória pelas escritas (após o commit)
+ * e reconciliados periodicamente com um {@code GROUP BY} no banco.
+ * <p>
+ * Uma escrita que chega durante a consulta pode ou não estar na contagem (depende de quando o commit
+ * aconteceu em relação ao snapshot), então somar a variação contaria algumas em dobro. Se alguma variação
+ * chegar durante a consulta, a contagem é descartada e repetida; persistindo a concorrência, fica para o
+ * próximo ciclo.
+ */
+@Component
+public class ContadorStatusCandidato {
+
+    private static final Logger log = LoggerFactory.getLogger(ContadorStatusCandidato.class);
+    private static final int TENTATIVAS_RECONCILIACAO = 3;
+
+    private final CandidatoRepository repository;
+    private final Map<StatusCandidato, AtomicLong> contadores = new EnumMap<>(StatusCandidato.class);
+    private final Counter divergencias;
+
+    // null fora da reconciliação; true se alguma variação chegou durante a consulta.
+    private Boolean variouDuranteReconciliacao;
+    private volatile LocalDateTime reconciliadoEm;
+
+    public ContadorStatusCandidato(CandidatoRepository repository, MeterRegistry registry) {
+        this.repository = repository;
+        for (StatusCandidato status : StatusCandidato.values()) {
+            AtomicLong contador = new AtomicLong();
+            contadores.put(status, contador);
+            Gauge.builder("candidatos.status", contador, AtomicLong::get)
+                    .tag("status", status.name())
+                    .register(registry);
+        }
+        this.divergencias = Counter.builder("candidatos.status.divergencias")
+                .description("Contadores corrigidos pela reconciliação")
+                .register(registry);
+    }
+
+    public void registrarCriacao(StatusCandidato status) {
+        variar(status, 1);
+    }
+
+    public void registrarRemocao(StatusCandidato status) {
+        variar(status, -1);
+    }
+
+    public void registrarMudanca(StatusCandidato de, StatusCandidato para) {
+        registrarMudancas(de, para, 1);
+    }
+
+    public void registrarMudancas(StatusCandidato de, StatusCandidato para, long quantidade) {
+        if (de == para) return;
+        variar(de, -quantidade);
+        variar(para, quantidade);
+    }
+
+    public ResumoStatusDTO resumo() {
+        Map<StatusCandidato, Long> porStatus = new EnumMap<>(StatusCandidato.class);
+        long total = 0;
+        for (Map.Entry<StatusCandidato, AtomicLong> e : contadores.entrySet()) {
+            long valor = e.getValue().get();
+            porStatus.put(e.getKey(), valor);
+            total += valor;
+        }
+        return new ResumoStatusDTO(porStatus, total, reconciliadoEm);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${cadastrosrh.contadores.reconciliacao:PT5M}",
+            initialDelayString = "${cadastrosrh.contadores.reconciliacao:PT5M}")
+    public void reconciliar() {
+        for (int tentativa = 1; tentativa <= TENTATIVAS_RECONCILIACAO; tentativa++) {
+            if (tentarReconciliar()) return;
+        }
+        log.debug("Reconciliação adiada: escritas concorrentes em todas as {} tentativas", TENTATIVAS_RECONCILIACAO);
+    }
+
+    /**
+     * @return {@code false} se uma variação chegou durante a consulta e a contagem foi descartada
+     */
+    private boolean tentarReconciliar() {
+        synchronized (this) {
+            variouDuranteReconciliacao = false;
+        }
+        List<ContagemStatusDTO> contagens;
+        try {
+            // Do primário: a contagem sobrescreve os contadores e não pode vir atrasada da réplica.
+            contagens = RoteamentoDataSource.noPrimario(repository::contarPorStatus);
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                variouDuranteReconciliacao = null;
+            }
+            log.warn("Falha ao reconciliar contadores de status", e);
+            return true;
+        }
+
+        Map<StatusCandidato, Long> banco = new EnumMap<>(StatusCandidato.class);
+        contagens.forEach(c -> banco.put(c.status(), c.total()));
+
+        boolean primeiraCarga = reconciliadoEm == null;
+        synchronized (this) {
+            boolean variou = variouDuranteReconciliacao;
+            variouDuranteReconciliacao = null;
+            if (variou) return false;
+            for (StatusCandidato status : StatusCandidato.values()) {
+                long esperado = banco.getOrDefault(status, 0L);
+                long anterior = contadores.get(status).getAndSet(esperado);
+                if (anterior != esperado && !primeiraCarga) {
+                    divergencias.increment();
+                    log.debug("Contador {} corrigido de {} para {}", status, anterior, esperado);
+                }
+            }
+        }
+        reconciliadoEm = LocalDateTime.now();
+        return true;
+    }
+
+    private synchronized void variar(StatusCandidato status, long delta) {
+        if (status == null) return;
+        contadores.get(status).addAndGet(delta);
+        if (variouDuranteReconciliacao != null) {
+            variouDuranteReconciliacao = true;
+        }
+    }
+}
@@ -0,0 +1,305 @@
+package com.rhgroup.cadastrosrh.service;
+
+import com.rhgroup.cadastrosrh.dto.CurriculoDTO;
+import com.rhgroup.cadastrosrh.exception.NotFoundException;
+import com.rhgroup.cadastrosrh.exception.RequisicaoInvalidaException;
+import com.rhgroup.cadastrosrh.exception.TipoArquivoNaoSuportadoException;
+import com.rhgroup.cadastrosrh.model.Candidato;
+import com.rhgroup.cadastrosrh.repository.CandidatoRepository;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.transaction.Transactional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Envio e leitura do currículo do candidato. O tipo é conferido pelo Content-Type declarado
+ * e pelos primeiros bytes do arquivo; os metadados e a tarefa de extração do texto para a busca
+ * (ver {@link ExtracaoCurriculoService}) são gravados na mesma transação do envio.
+ * <p>
+ * O conteúdo é guardado uma vez por SHA-256 (ver {@link ArmazenamentoLocalCurriculo}); a contagem
+ * de referências é o número de candidatos com aquele {@code curriculo_hash}, e o arquivo é apagado
+ * depois do commit que remove a última referência.
+ */
+@Service
+@Timed("candidatos.servico")
+public class CurriculoService {
+
+    private static final Logger log = LoggerFactory.getLogger(CurriculoService.class);
+
+    private static final String NOT_FOUND_MSG = "Currículo não encontrado";
+    private static final int TAMANHO_MAXIMO_NOME = 255;
+
+    // Assinatura (magic number) esperada para cada tipo aceito.
+    private static final Map<String, byte[]> ASSINATURAS = Map.of(
+            MediaType.APPLICATION_PDF_VALUE, "%PDF-".getBytes(StandardCharsets.US_ASCII),
+            "application/msword", HexFormat.of().parseHex("d0cf11e0a1b11ae1"),
+            "application/vnd.openxmlformats-officedocument.wordprocessingml.document", HexFormat.of().parseHex("504b0304"),
+            // Texto não tem assinatura; o conteúdo é conferido por pareceTexto.
+            MediaType.TEXT_PLAIN_VALUE, new byte[0]);
+    private static final int AMOSTRA_TEXTO = 1024;
+
+    private final CandidatoRepository repository;
+    private final ArmazenamentoLocalCurriculo armazenamento;
+    private final CandidatoCache candidatoCache;
+    private final ExtracaoCurriculoService extracao;
+    private final DataSize tamanhoMaximo;
+
+    // Travas listradas por hash: publicação e coleta do mesmo blob nunca correm juntas.
+    private final ReentrantLock[] travas = new ReentrantLock[64];
+    // Envios cujo blob já foi publicado mas cuja transação ainda não terminou, por hash.
+    private final Map<String, Integer> emUso = new ConcurrentHashMap<>();
+    // Coletas pedidas enquanto o blob estava reservado; refeitas quando a última reserva termina.
+    private final Set<String> coletasAdiadas = ConcurrentHashMap.newKeySet();
+
+    private final Counter enviosNovos;
+    private final Counter enviosDeduplicados;
+    private final Counter enviosInalterados;
+    private final Counter blobsRemovidos;
+
+    public CurriculoService(CandidatoRepository repository,
+                            ArmazenamentoLocalCurriculo armazenamento,
+                            CandidatoCache candidatoCache,
+                            ExtracaoCurriculoService extracao,
+                            @Value("${cadastrosrh.curriculo.tamanho-maximo:5MB}") DataSize tamanhoMaximo,
+                            MeterRegistry registry) {
+        this.repository = repository;
+        this.armazenamento = armazenamento;
+        this.candidatoCache = candidatoCache;
+        this.extracao = extracao;
+        this.tamanhoMaximo = tamanhoMaximo;
+        Arrays.setAll(travas, i -> new ReentrantLock());
+        this.enviosNovos = envios(registry, "novo");
+        this.enviosDeduplicados = envios(registry, "deduplicado");
+        this.enviosInalterados = envios(registry, "inalterado");
+        this.blobsRemovidos = Counter.builder("curriculos.blobs.removidos")
+                .description("Arquivos de currículo apagados por não terem mais referências")
+                .register(registry);
+    }
+
+    private static Counter envios(MeterRegistry registry, String resultado) {
+        return Counter.builder("curriculos.envios")
+                .description("Envios de currículo por destino do conteúdo")
+                .tag("resultado", resultado)
+                .register(registry);
+    }
+
+    @Transactional
+    public CurriculoDTO enviar(UUID candidatoId, MultipartFile arquivo) {
+        String contentType = validar(arquivo);
+
+        ArmazenamentoLocalCurriculo.Recebido recebido;
+        try {
+            recebido = armazenamento.receber(arquivo);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao gravar o currículo", e);
+        }
+        // Travada só depois da gravação em disco. Com a linha travada, o hash anterior é o que este envio
+        // substitui (e libera) e a tarefa de extração não é inserida duas vezes por envios simultâneos.
+        Candidato candidato = repository.travarPorId(candidatoId).orElse(null);
+        if (candidato == null) {
+            armazenamento.descartar(recebido);
+            throw new NotFoundException("Candidato não encontrado");
+        }
+        String nome = nomeArquivo(arquivo.getOriginalFilename());
+
+        // Reenvio do mesmo arquivo: nada muda no banco nem no disco.
+        if (recebido.hash().equals(candidato.getCurriculoHash())
+                && nome.equals(candidato.getCurriculoNome())
+                && contentType.equals(candidato.getCurriculoContentType())) {
+            armazenamento.descartar(recebido);
+            enviosInalterados.increment();
+            return paraDTO(candidato);
+        }
+        reservar(recebido);
+
+        String hashAnterior = candidato.getCurriculoHash();
+        String chaveAnterior = candidato.getCurriculoUrl();
+        candidato.setCurriculoUrl(ArmazenamentoLocalCurriculo.chave(recebido.hash()));
+        candidato.setCurriculoHash(recebido.hash());
+        candidato.setCurriculoNome(nome);
+        candidato.setCurriculoContentType(contentType);
+        candidato.setCurriculoTamanhoBytes(recebido.tamanho());
+        candidato.setCurriculoAtualizadoEm(LocalDateTime.now());
+        candidato.setCurriculoStorage(ArmazenamentoLocalCurriculo.TIPO);
+        repository.save(candidato);
+        extracao.enfileirar(candidatoId, recebido.hash());
+
+        // atualizadoEm muda com o envio, e com ele o ETag de GET /candidatos/{id}.
+        candidatoCache.invalidarAposCommit(candidatoId);
+        if (!recebido.hash().equals(hashAnterior)) {
+            liberarAposCommit(hashAnterior, chaveAnterior);
+        }
+        return paraDTO(candidato);
+    }
+
+    /**
+     * Solta a referência de um candidato ao arquivo (troca ou exclusão) depois do commit. Arquivos
+     * endereçados por hash só são apagados quando nenhuma outra linha os referencia; chaves antigas,
+     * anteriores ao hash, eram exclusivas do candidato e são apagadas direto.
+     */
+    public void liberarAposCommit(String hash, String chave) {
+        if (hash != null) {
+            AposCommit.executar(() -> coletar(hash));
+        } else if (chave != null) {
+            AposCommit.executar(() -> armazenamento.remover(chave));
+        }
+    }
+
+    @SomenteLeitura
+    public CurriculoDTO buscar(UUID candidatoId) {
+        return repository.findCurriculoById(candidatoId)
+                .filter(c -> c.chave() != null)
+                .orElseThrow(() -> new NotFoundException(NOT_FOUND_MSG));
+    }
+
+    public Path arquivo(CurriculoDTO curriculo) {
+        return armazenamento.resolver(curriculo.chave());
+    }
+
+    /**
+     * Publica o blob e o marca como em uso até a transação terminar, para que uma coleta concorrente
+     * (que ainda não enxerga a linha nova) não o apague antes do commit. No rollback o blob volta a
+     * ser candidato à coleta.
+     */
+    private void reservar(ArmazenamentoLocalCurriculo.Recebido recebido) {
+        String hash = recebido.hash();
+        ReentrantLock trava = trava(hash);
+        trava.lock();
+        try {
+            (armazenamento.publicar(recebido) ? enviosNovos : enviosDeduplicados).increment();
+            emUso.merge(hash, 1, Integer::sum);
+        } catch (IOException e) {
+            armazenamento.descartar(recebido);
+            throw new UncheckedIOException("Falha ao gravar o currículo", e);
+        } finally {
+            trava.unlock();
+        }
+        AposCommit.aoConcluir(confirmada -> {
+            boolean coletarAgora;
+            trava.lock();
+            try {
+                emUso.computeIfPresent(hash, (h, n) -> n == 1 ? null : n - 1);
+                coletarAgora = !emUso.containsKey(hash) && (coletasAdiadas.remove(hash) || !confirmada);
+            } finally {
+                trava.unlock();
+            }
+            if (coletarAgora) {
+                coletar(hash);
+            }
+        });
+    }
+
+    /**
+     * Apaga o blob se nenhum candidato o referencia e nenhum envio em andamento o reservou; se estiver
+     * reservado, a coleta é refeita quando a reserva termina.
+     * Falhas só deixam um arquivo órfão, então são registradas e não propagadas.
+     */
+    void coletar(String hash) {
+        ReentrantLock trava = trava(hash);
+        trava.lock();
+        try {
+            if (emUso.containsKey(hash)) {
+                // Ex.: a troca que o substituiu confirmou entre o commit e o fim da reserva de quem o enviou.
+                coletasAdiadas.add(hash);
+                return;
+            }
+            if (repository.existsByCurriculoHash(hash)) {
+                return;
+            }
+            armazenamento.remover(ArmazenamentoLocalCurriculo.chave(hash));
+            blobsRemovidos.increment();
+        } catch (RuntimeException e) {
+            log.warn("Falha ao coletar o currículo {}", hash, e);
+        } finally {
+            trava.unlock();
+        }
+    }
+
+    private ReentrantLock trava(String hash) {
+        return travas[Math.floorMod(hash.hashCode(), travas.length)];
+    }
+
+    private static CurriculoDTO paraDTO(Candidato candidato) {
+        return new CurriculoDTO(candidato.getCurriculoUrl(), candidato.getCurriculoNome(),
+                candidato.getCurriculoContentType(), candidato.getCurriculoTamanhoBytes(),
+                candidato.getCurriculoAtualizadoEm(), candidato.getCurriculoStorage(), candidato.getCurriculoHash());
+    }
+
+    private String validar(MultipartFile arquivo) {
+        if (arquivo == null || arquivo.isEmpty()) {
+            throw new RequisicaoInvalidaException("Envie o currículo no campo 'arquivo'.");
+        }
+        if (arquivo.getSize() > tamanhoMaximo.toBytes()) {
+            throw new MaxUploadSizeExceededException(tamanhoMaximo.toBytes());
+        }
+
+        String contentType;
+        try {
+            MediaType tipo = MediaType.parseMediaType(arquivo.getContentType());
+            contentType = tipo.getType() + "/" + tipo.getSubtype();
+        } catch (InvalidMediaTypeException e) {
+            contentType = null;
+        }
+        byte[] assinatura = contentType == null ? null : ASSINATURAS.get(contentType);
+        if (assinatura == null) {
+            throw new TipoArquivoNaoSuportadoException("Currículo deve ser PDF, DOC, DOCX ou TXT.");
+        }
+        boolean confere = assinatura.length == 0 ? pareceTexto(arquivo) : comecaCom(arquivo, assinatura);
+        if (!confere) {
+            throw new TipoArquivoNaoSuportadoException("O conteúdo do arquivo não corresponde a " + contentType + ".");
+        }
+        return contentType;
+    }
+
+    private static boolean comecaCom(MultipartFile arquivo, byte[] assinatura) {
+        try (InputStream in = arquivo.getInputStream()) {
+            return Arrays.equals(in.readNBytes(assinatura.length), assinatura);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao ler o currículo", e);
+        }
+    }
+
+    // Binários quase sempre têm bytes nulos logo no início; texto em UTF-8 ou Latin-1, nunca.
+    private static boolean pareceTexto(MultipartFile arquivo) {
+        try (InputStream in = arquivo.getInputStream()) {
+            for (byte b : in.readNBytes(AMOSTRA_TEXTO)) {
+                if (b == 0) return false;
+            }
+            return true;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao ler o currículo", e);
+        }
+    }
+
+    private static String nomeArquivo(String original) {
+        String nome = StringUtils.getFilename(StringUtils.cleanPath(original == null ? "" : original));
+        if (!StringUtils.hasText(nome)) {
+            return "curriculo";
+        }
+        return nome.length() > TAMANHO_MAXIMO_NOME ? nome.substring(nome.length() - TAMANHO_MAXIMO_NOME) : nome;
+    }
+}
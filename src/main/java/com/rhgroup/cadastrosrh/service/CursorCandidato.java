@@ -0,0 +1,66 @@
+package com.rhgroup.cadastrosrh.service;
+
+import com.rhgroup.cadastrosrh.dto.OrdenacaoCandidato;
+import com.rhgroup.cadastrosrh.exception.RequisicaoInvalidaException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Posição de leitura na listagem keyset: valor da coluna de ordenação + id do último item entregue.
+ * Trafega para o cliente como Base64 URL-safe, sem significado fora deste serviço.
+ */
+record CursorCandidato(OrdenacaoCandidato ordenacao, String valor, UUID id) {
+
+    private static final char SEPARADOR = '|';
+
+    String codificar() {
+        String bruto = ordenacao.name() + SEPARADOR + valor + SEPARADOR + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(bruto.getBytes(StandardCharsets.UTF_8));
+    }
+
+    LocalDateTime criadoEm() {
+        try {
+            return LocalDateTime.parse(valor);
+        } catch (DateTimeParseException e) {
+            throw invalido();
+        }
+    }
+
+    static CursorCandidato decodificar(String cursor, OrdenacaoCandidato esperada) {
+        String bruto;
+        try {
+            bruto = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw invalido();
+        }
+
+        // O valor (ex.: nome) pode conter o separador; ordenação e id nunca contêm.
+        int primeiro = bruto.indexOf(SEPARADOR);
+        int ultimo = bruto.lastIndexOf(SEPARADOR);
+        if (primeiro < 0 || primeiro == ultimo) {
+            throw invalido();
+        }
+
+        OrdenacaoCandidato ordenacao;
+        UUID id;
+        try {
+            ordenacao = OrdenacaoCandidato.valueOf(bruto.substring(0, primeiro));
+            id = UUID.fromString(bruto.substring(ultimo + 1));
+        } catch (IllegalArgumentException e) {
+            throw invalido();
+        }
+        if (ordenacao != esperada) {
+            throw new RequisicaoInvalidaException("Cursor gerado para outra ordenação: " + ordenacao);
+        }
+        return new CursorCandidato(ordenacao, bruto.substring(primeiro + 1, ultimo), id);
+    }
+
+    private static RequisicaoInvalidaException invalido() {
+        return new RequisicaoInvalidaException("Cursor de paginação inválido");
+    }
+}
@@ -0,0 +1,65 @@
+package com.rhgroup.cadastrosrh.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.rhgroup.cadastrosrh.dto.CandidatoResponseDTO;
+import com.rhgroup.cadastrosrh.model.StatusCandidato;
+import com.rhgroup.cadastrosrh.repository.CandidatoRepository;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Exporta candidatos em NDJSON (um JSON por linha) lendo o banco por cursor.
+ * As linhas já chegam projetadas no DTO (nenhuma entidade gerenciada), então o
+ * consumo de heap não depende do volume exportado.
+ */
+@Service
+@Timed("candidatos.servico")
+public class ExportacaoCandidatoService {
+
+    private static final int LINHAS_POR_FLUSH = 500;
+
+    private final CandidatoRepository repository;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter writer;
+
+    public ExportacaoCandidatoService(CandidatoRepository repository, ObjectMapper objectMapper) {
+        this.repository = repository;
+        this.objectMapper = objectMapper;
+        // O flush fica a cargo do laço, não de cada valor escrito.
+        this.writer = objectMapper.writerFor(CandidatoResponseDTO.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    // O stream precisa de uma transação de fato para manter o cursor aberto.
+    @SomenteLeitura(propagation = Propagation.REQUIRED)
+    public long exportarNdjson(OutputStream saida, StatusCandidato status,
+                               LocalDateTime atualizadoDe, LocalDateTime atualizadoAte) throws IOException {
+        long total = 0;
+        try (Stream<CandidatoResponseDTO> linhas = repository.streamParaExportacao(status, atualizadoDe, atualizadoAte);
+             JsonGenerator gerador = objectMapper.getFactory().createGenerator(saida)) {
+            gerador.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            gerador.setRootValueSeparator(null);
+
+            Iterator<CandidatoResponseDTO> it = linhas.iterator();
+            while (it.hasNext()) {
+                writer.writeValue(gerador, it.next());
+                gerador.writeRaw('\n');
+
+                if (++total % LINHAS_POR_FLUSH == 0) {
+                    gerador.flush();
+                }
+            }
+        }
+        return total;
+    }
+}
@@ -0,0 +1,277 @@
+package com.rhgroup.cadastrosrh.service;
+
+import com.rhgroup.cadastrosrh.dto.CurriculoDTO;
+import com.rhgroup.cadastrosrh.dto.FilaExtracaoDTO;
+import com.rhgroup.cadastrosrh.model.CurriculoExtracao;
+import com.rhgroup.cadastrosrh.model.CurriculoTexto;
+import com.rhgroup.cadastrosrh.model.SituacaoExtracao;
+import com.rhgroup.cadastrosrh.repository.CandidatoRepository;
+import com.rhgroup.cadastrosrh.repository.CurriculoExtracaoRepository;
+import com.rhgroup.cadastrosrh.repository.CurriculoTextoRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Extração do texto dos currículos para a busca, fora da requisição de envio.
+ * <p>
+ * O envio só grava a tarefa em {@code curriculo_extracoes}, na mesma transação dos metadados. Um
+ * despachante agendado assume tarefas prontas até o número de workers livres e as roda em um pool
+ * próprio e limitado; falhas voltam para a fila com espera exponencial e, esgotadas as tentativas,
+ * ficam como FALHOU. O texto vai para {@code curriculo_textos} e, após o commit, para o índice de busca.
+ * <p>
+ * Métricas: {@code curriculos.extracao.atraso} (envio até texto indexado), {@code .duracao},
+ * {@code .tarefas{resultado}} (vazão) e os gauges {@code .pendentes} e {@code .fila.idade}.
+ */
+@Service
+public class ExtracaoCurriculoService implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(ExtracaoCurriculoService.class);
+
+    private static final int TAMANHO_MAXIMO_ERRO = 500;
+
+    // Resultado de cada tarefa processada; "descartada" = o candidato enviou outro arquivo no meio.
+    private enum Resultado { CONCLUIDA, IGNORADA, DESCARTADA, RETENTATIVA, FALHOU }
+
+    private final CurriculoExtracaoRepository extracoes;
+    private final CurriculoTextoRepository textos;
+    private final CandidatoRepository candidatos;
+    private final ArmazenamentoLocalCurriculo armazenamento;
+    private final ExtratorTextoCurriculo extrator;
+    private final BuscaCandidatoIndice indiceBusca;
+    private final TransactionTemplate transacao;
+
+    private final ThreadPoolExecutor executor;
+    private final Semaphore vagas;
+    private final int tentativas;
+    private final Duration esperaInicial;
+    private final Duration esperaMaxima;
+    private final Duration tempoMaximo;
+
+    private final Timer atraso;
+    private final Timer duracao;
+    private final Map<Resultado, Counter> tarefas = new EnumMap<>(Resultado.class);
+    private final AtomicLong pendentes = new AtomicLong();
+    private final AtomicLong idadeFila = new AtomicLong();
+
+    public ExtracaoCurriculoService(CurriculoExtracaoRepository extracoes,
+                                    CurriculoTextoRepository textos,
+                                    CandidatoRepository candidatos,
+                                    ArmazenamentoLocalCurriculo armazenamento,
+                                    ExtratorTextoCurriculo extrator,
+                                    BuscaCandidatoIndice indiceBusca,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${cadastrosrh.curriculo.extracao.threads:2}") int threads,
+                                    @Value("${cadastrosrh.curriculo.extracao.tentativas:5}") int tentativas,
+                                    @Value("${cadastrosrh.curriculo.extracao.espera-inicial:PT10S}") Duration esperaInicial,
+                                    @Value("${cadastrosrh.curriculo.extracao.espera-maxima:PT10M}") Duration esperaMaxima,
+                                    @Value("${cadastrosrh.curriculo.extracao.tempo-maximo:PT10M}") Duration tempoMaximo,
+                                    MeterRegistry registry) {
+        this.extracoes = extracoes;
+        this.textos = textos;
+        this.candidatos = candidatos;
+        this.armazenamento = armazenamento;
+        this.extrator = extrator;
+        this.indiceBusca = indiceBusca;
+        this.transacao = new TransactionTemplate(transactionManager);
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(),
+                Thread.ofPlatform().name("curriculo-extracao-", 1).daemon().factory());
+        this.vagas = new Semaphore(threads);
+        this.tentativas = tentativas;
+        this.esperaInicial = esperaInicial;
+        this.esperaMaxima = esperaMaxima;
+        this.tempoMaximo = tempoMaximo;
+
+        this.atraso = Timer.builder("curriculos.extracao.atraso")
+                .description("Do envio do currículo até o texto entrar na busca")
+                .register(registry);
+        this.duracao = Timer.builder("curriculos.extracao.duracao")
+                .description("Tempo de extração do texto de um arquivo")
+                .register(registry);
+        for (Resultado resultado : Resultado.values()) {
+            tarefas.put(resultado, Counter.builder("curriculos.extracao.tarefas")
+                    .description("Tarefas de extração encerradas, por resultado")
+                    .tag("resultado", resultado.name().toLowerCase(Locale.ROOT))
+                    .register(registry));
+        }
+        Gauge.builder("curriculos.extracao.pendentes", pendentes, AtomicLong::get)
+                .description("Tarefas na fila aguardando um worker")
+                .register(registry);
+        Gauge.builder("curriculos.extracao.fila.idade", idadeFila, AtomicLong::get)
+                .description("Segundos de espera da tarefa pendente mais antiga")
+                .baseUnit("seconds")
+                .register(registry);
+        Gauge.builder("curriculos.extracao.ativas", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Tarefas sendo extraídas agora pelos workers")
+                .register(registry);
+    }
+
+    /**
+     * Coloca o arquivo recém-enviado na fila, substituindo qualquer tarefa anterior do candidato.
+     * Participa da transação de quem chama: a tarefa só existe se o envio for confirmado. Quem chama
+     * precisa ter a linha do candidato travada ({@code travarPorId}); sem isso, dois primeiros envios
+     * simultâneos inserem a mesma tarefa e um deles falha na chave primária.
+     */
+    public void enfileirar(UUID candidatoId, String hash) {
+        LocalDateTime agora = LocalDateTime.now();
+        CurriculoExtracao tarefa = extracoes.findById(candidatoId)
+                .orElseGet(() -> CurriculoExtracao.builder().candidatoId(candidatoId).build());
+        tarefa.setCurriculoHash(hash);
+        tarefa.setSituacao(SituacaoExtracao.PENDENTE);
+        tarefa.setTentativas(0);
+        tarefa.setEnfileiradoEm(agora);
+        tarefa.setProximaTentativaEm(agora);
+        tarefa.setIniciadoEm(null);
+        tarefa.setConcluidoEm(null);
+        tarefa.setErro(null);
+        extracoes.save(tarefa);
+    }
+
+    /**
+     * Assume até uma tarefa pronta por worker livre. Nenhuma tarefa espera em fila de memória: o que
+     * não couber nos workers continua PENDENTE no banco.
+     */
+    @Scheduled(fixedDelayString = "${cadastrosrh.curriculo.extracao.intervalo:PT1S}")
+    public void despachar() {
+        LocalDateTime agora = LocalDateTime.now();
+        transacao.executeWithoutResult(s -> extracoes.devolverTravadas(agora.minus(tempoMaximo), agora));
+
+        int livres = vagas.availablePermits();
+        if (livres > 0) {
+            for (UUID id : extracoes.findProntas(agora, PageRequest.ofSize(livres))) {
+                if (!vagas.tryAcquire()) break;
+                Integer assumidas = transacao.execute(s -> extracoes.assumir(id, agora));
+                if (assumidas == null || assumidas == 0) {
+                    vagas.release();
+                    continue;
+                }
+                try {
+                    executor.execute(() -> {
+                        try {
+                            processar(id);
+                        } finally {
+                            vagas.release();
+                        }
+                    });
+                } catch (RejectedExecutionException e) {
+                    // Desligando: a tarefa volta para a fila depois de tempo-maximo.
+                    vagas.release();
+                    break;
+                }
+            }
+        }
+
+        FilaExtracaoDTO fila = extracoes.resumirFila();
+        pendentes.set(fila.pendentes());
+        idadeFila.set(fila.maisAntigo() == null ? 0 : Duration.between(fila.maisAntigo(), agora).toSeconds());
+    }
+
+    void processar(UUID id) {
+        CurriculoExtracao tarefa = extracoes.findById(id).orElse(null);
+        if (tarefa == null || tarefa.getSituacao() != SituacaoExtracao.PROCESSANDO) {
+            return;
+        }
+        String hash = tarefa.getCurriculoHash();
+        try {
+            Optional<CurriculoDTO> curriculo = candidatos.findCurriculoById(id)
+                    .filter(c -> hash.equals(c.sha256()));
+            Optional<String> texto = Optional.empty();
+            if (curriculo.isPresent()) {
+                long inicio = System.nanoTime();
+                texto = extrator.extrair(armazenamento.resolver(curriculo.get().chave()), curriculo.get().contentType());
+                duracao.record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
+            }
+            Resultado resultado = concluir(tarefa, texto);
+            tarefas.get(resultado).increment();
+            if (resultado != Resultado.DESCARTADA) {
+                atraso.record(Duration.between(tarefa.getEnfileiradoEm(), LocalDateTime.now()));
+            }
+        } catch (IOException | RuntimeException e) {
+            falhar(tarefa, e);
+        }
+    }
+
+    private Resultado concluir(CurriculoExtracao tarefa, Optional<String> texto) {
+        UUID id = tarefa.getCandidatoId();
+        String hash = tarefa.getCurriculoHash();
+        return transacao.execute(s -> {
+            LocalDateTime agora = LocalDateTime.now();
+            SituacaoExtracao situacao = texto.isPresent() ? SituacaoExtracao.CONCLUIDA : SituacaoExtracao.IGNORADA;
+            if (extracoes.concluir(id, hash, situacao, null, agora) == 0) {
+                return Resultado.DESCARTADA;
+            }
+            if (texto.isPresent()) {
+                textos.save(new CurriculoTexto(id, hash, texto.get(), agora));
+            } else if (textos.existsById(id)) {
+                textos.deleteById(id);
+            }
+            String indexado = texto.orElse(null);
+            AposCommit.executar(() -> indiceBusca.atualizarCurriculo(id, indexado));
+            return situacao == SituacaoExtracao.CONCLUIDA ? Resultado.CONCLUIDA : Resultado.IGNORADA;
+        });
+    }
+
+    private void falhar(CurriculoExtracao tarefa, Exception causa) {
+        UUID id = tarefa.getCandidatoId();
+        String hash = tarefa.getCurriculoHash();
+        String erro = resumo(causa);
+        try {
+            if (tarefa.getTentativas() >= tentativas) {
+                transacao.executeWithoutResult(s ->
+                        extracoes.concluir(id, hash, SituacaoExtracao.FALHOU, erro, LocalDateTime.now()));
+                tarefas.get(Resultado.FALHOU).increment();
+                log.warn("Extração do currículo do candidato {} falhou após {} tentativas", id, tarefa.getTentativas(), causa);
+            } else {
+                LocalDateTime proxima = LocalDateTime.now().plus(espera(tarefa.getTentativas()));
+                transacao.executeWithoutResult(s -> extracoes.reagendar(id, hash, proxima, erro));
+                tarefas.get(Resultado.RETENTATIVA).increment();
+                log.info("Extração do currículo do candidato {} falhou ({}); nova tentativa às {}", id, erro, proxima);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Não foi possível registrar a falha da extração do candidato {}", id, e);
+        }
+    }
+
+    /**
+     * Espera antes da tentativa seguinte: dobra a cada falha, até {@code espera-maxima}.
+     */
+    Duration espera(int tentativasFeitas) {
+        Duration espera = esperaInicial.multipliedBy(1L << Math.clamp(tentativasFeitas - 1, 0, 20));
+        return espera.compareTo(esperaMaxima) > 0 ? esperaMaxima : espera;
+    }
+
+    private static String resumo(Exception e) {
+        String mensagem = e.getClass().getSimpleName() + (e.getMessage() == null ? "" : ": " + e.getMessage());
+        return mensagem.length() > TAMANHO_MAXIMO_ERRO ? mensagem.substring(0, TAMANHO_MAXIMO_ERRO) : mensagem;
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,59 @@
+package com.rhgroup.cadastrosrh.service;
+
+import com.rhgroup.cadastrosrh.model.CurriculoTexto;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.encryption.InvalidPasswordException;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * Extrai o texto de currículos PDF (PDFBox, lendo o arquivo sem carregá-lo inteiro) e TXT.
+ * Tipos sem extrator, e PDFs protegidos por senha, devolvem vazio.
+ */
+@Component
+public class ExtratorTextoCurriculo {
+
+    private static final Pattern ESPACOS = Pattern.compile("[\\s\\p{Cntrl}]+");
+
+    public Optional<String> extrair(Path arquivo, String contentType) throws IOException {
+        String texto;
+        if (MediaType.APPLICATION_PDF_VALUE.equals(contentType)) {
+            try (PDDocument documento = Loader.loadPDF(arquivo.toFile())) {
+                texto = new PDFTextStripper().getText(documento);
+            } catch (InvalidPasswordException e) {
+                return Optional.empty();
+            }
+        } else if (MediaType.TEXT_PLAIN_VALUE.equals(contentType)) {
+            texto = lerTexto(arquivo);
+        } else {
+            return Optional.empty();
+        }
+        return Optional.of(normalizar(texto));
+    }
+
+    private static String lerTexto(Path arquivo) throws IOException {
+        try {
+            return Files.readString(arquivo, StandardCharsets.UTF_8);
+        } catch (CharacterCodingException e) {
+            // Editores antigos no Windows ainda salvam em Latin-1.
+            return Files.readString(arquivo, StandardCharsets.ISO_8859_1);
+        }
+    }
+
+    private static String normalizar(String texto) {
+        String compacto = ESPACOS.matcher(texto).replaceAll(" ").strip();
+        return compacto.length() > CurriculoTexto.TAMANHO_MAXIMO
+                ? compacto.substring(0, CurriculoTexto.TAMANHO_MAXIMO)
+                : compacto;
+    }
+}
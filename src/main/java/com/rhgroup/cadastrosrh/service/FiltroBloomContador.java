@@ -0,0 +1,126 @@
+package com.rhgroup.cadastrosrh.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Filtro de Bloom com contadores de 4 bits (16 por {@code long}), para aceitar remoções.
+ * <p>
+ * Nunca dá falso negativo para o que foi adicionado e não removido. Contador que satura fica preso
+ * em 15 e deixa de ser decrementado: o custo é só um falso positivo a mais, nunca um falso negativo.
+ * Remover algo que não foi adicionado a este filtro (ex.: inserido por outra instância ou direto no banco)
+ * não é seguro: se os contadores dele já estiverem acima de zero por causa de outros valores, o decremento
+ * cria falsos negativos para esses valores. A rede de segurança é a constraint UNIQUE do banco, que recusa
+ * o que o filtro deixar passar, e a reconstrução periódica a partir do banco, que desfaz a deriva.
+ */
+final class FiltroBloomContador {
+
+    private static final int BITS_CONTADOR = 4;
+    private static final int CONTADORES_POR_CELULA = Long.SIZE / BITS_CONTADOR;
+    private static final long MASCARA = (1L << BITS_CONTADOR) - 1;
+
+    private final AtomicLongArray celulas;
+    private final long tamanho;
+    private final int funcoes;
+    // Contadores diferentes de zero, para estimar a taxa de falso positivo sem varrer o array.
+    private final AtomicLong ocupados = new AtomicLong();
+
+    FiltroBloomContador(long capacidade, double taxaFalsoPositivo) {
+        if (capacidade <= 0 || taxaFalsoPositivo <= 0 || taxaFalsoPositivo >= 1) {
+            throw new IllegalArgumentException("Capacidade e taxa de falso positivo inválidas");
+        }
+        double ln2 = Math.log(2);
+        long contadores = (long) Math.ceil(-capacidade * Math.log(taxaFalsoPositivo) / (ln2 * ln2));
+        int quantidadeCelulas = Math.toIntExact((contadores + CONTADORES_POR_CELULA - 1) / CONTADORES_POR_CELULA);
+        this.celulas = new AtomicLongArray(quantidadeCelulas);
+        this.tamanho = (long) quantidadeCelulas * CONTADORES_POR_CELULA;
+        this.funcoes = Math.max(1, (int) Math.round((double) tamanho / capacidade * ln2));
+    }
+
+    void adicionar(String valor) {
+        long h1 = hash(valor);
+        long h2 = misturar(h1 ^ 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 0; i < funcoes; i++) {
+            variar(posicao(h1, h2, i), 1);
+        }
+    }
+
+    void remover(String valor) {
+        long h1 = hash(valor);
+        long h2 = misturar(h1 ^ 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 0; i < funcoes; i++) {
+            variar(posicao(h1, h2, i), -1);
+        }
+    }
+
+    boolean podeConter(String valor) {
+        long h1 = hash(valor);
+        long h2 = misturar(h1 ^ 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 0; i < funcoes; i++) {
+            if (contador(posicao(h1, h2, i)) == 0) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Probabilidade de um valor ausente passar pelo filtro, dada a ocupação atual: {@code (ocupados/m)^k}.
+     */
+    double taxaFalsoPositivoEstimada() {
+        return Math.pow((double) ocupados.get() / tamanho, funcoes);
+    }
+
+    long tamanho() {
+        return tamanho;
+    }
+
+    int funcoes() {
+        return funcoes;
+    }
+
+    // Hashing duplo (Kirsch–Mitzenmacher): g_i = h1 + i * h2, com um só hash de 64 bits do valor.
+    private long posicao(long h1, long h2, int i) {
+        return Long.remainderUnsigned(h1 + i * h2, tamanho);
+    }
+
+    private int contador(long posicao) {
+        long celula = celulas.get((int) (posicao / CONTADORES_POR_CELULA));
+        int deslocamento = (int) (posicao % CONTADORES_POR_CELULA) * BITS_CONTADOR;
+        return (int) ((celula >>> deslocamento) & MASCARA);
+    }
+
+    private void variar(long posicao, int delta) {
+        int indice = (int) (posicao / CONTADORES_POR_CELULA);
+        int deslocamento = (int) (posicao % CONTADORES_POR_CELULA) * BITS_CONTADOR;
+        while (true) {
+            long atual = celulas.get(indice);
+            long contador = (atual >>> deslocamento) & MASCARA;
+            if (contador == MASCARA || (delta < 0 && contador == 0)) return;
+            long novo = (atual & ~(MASCARA << deslocamento)) | ((contador + delta) << deslocamento);
+            if (celulas.compareAndSet(indice, atual, novo)) {
+                if (contador == 0) ocupados.incrementAndGet();
+                else if (contador == 1 && delta < 0) ocupados.decrementAndGet();
+                return;
+            }
+        }
+    }
+
+    // FNV-1a de 64 bits sobre os bytes UTF-8, com finalização do MurmurHash3 para espalhar os bits.
+    private static long hash(String valor) {
+        long h = 0xCBF29CE484222325L;
+        for (byte b : valor.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b & 0xFF;
+            h *= 0x100000001B3L;
+        }
+        return misturar(h);
+    }
+
+    private static long misturar(long h) {
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
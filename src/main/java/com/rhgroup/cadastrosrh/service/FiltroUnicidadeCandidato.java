@@ -0,0 +1,204 @@
+package com.rhgroup.cadastrosrh.service;
+
+import com.rhgroup.cadastrosrh.dto.ChavesUnicidadeDTO;
+import com.rhgroup.cadastrosrh.repository.CandidatoRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * Pré-checagem em memória de e-mail e CPF já cadastrados, para não consultar o banco quando o valor
+ * certamente não existe (o caso comum em campanhas de cadastro).
+ * <p>
+ * Um {@link FiltroBloomContador} por coluna, carregado por stream quando a aplicação sobe e reconstruído
+ * periodicamente. Inserções entram na hora (antes do commit: um rollback só deixa um falso positivo);
+ * remoções saem depois do commit. "Pode existir" cai no {@code exists} do banco, e a constraint UNIQUE
+ * continua sendo a fonte da verdade para o que escapar (ex.: cadastro feito por outra instância).
+ * <p>
+ * Publica {@code candidatos.unicidade.consultas{campo,resultado}} ({@code ausente} = consulta evitada)
+ * e a taxa de falso positivo estimada pela ocupação em {@code candidatos.unicidade.falso_positivo}.
+ */
+@Component
+public class FiltroUnicidadeCandidato {
+
+    private static final Logger log = LoggerFactory.getLogger(FiltroUnicidadeCandidato.class);
+
+    private final CandidatoRepository repository;
+    private final TransactionTemplate transacaoLeitura;
+    private final long capacidade;
+    private final double taxaFalsoPositivo;
+    private final Metricas metricasEmail;
+    private final Metricas metricasCpf;
+
+    // null até a primeira carga: enquanto isso, tudo "pode existir".
+    private volatile Filtros atual;
+    private Filtros emConstrucao;
+
+    public FiltroUnicidadeCandidato(CandidatoRepository repository,
+                                    PlatformTransactionManager transactionManager,
+                                    MeterRegistry registry,
+                                    @Value("${cadastrosrh.unicidade.capacidade:500000}") long capacidade,
+                                    @Value("${cadastrosrh.unicidade.taxa-falso-positivo:0.01}") double taxaFalsoPositivo) {
+        this.repository = repository;
+        this.transacaoLeitura = new TransactionTemplate(transactionManager);
+        this.transacaoLeitura.setReadOnly(true);
+        this.capacidade = capacidade;
+        this.taxaFalsoPositivo = taxaFalsoPositivo;
+        this.metricasEmail = new Metricas("email", registry, this, Filtros::emails);
+        this.metricasCpf = new Metricas("cpf", registry, this, Filtros::cpfs);
+    }
+
+    public boolean existeEmail(String email) {
+        return existe(email, Filtros::emails, repository::existsByEmail, metricasEmail);
+    }
+
+    public boolean existeCpf(String cpf) {
+        return existe(cpf, Filtros::cpfs, repository::existsByCpf, metricasCpf);
+    }
+
+    /**
+     * Resposta só do filtro: {@code false} garante que o e-mail não está cadastrado.
+     */
+    public boolean emailPodeExistir(String email) {
+        Filtros filtros = atual;
+        return email == null || filtros == null || filtros.emails().podeConter(email);
+    }
+
+    public boolean cpfPodeExistir(String cpf) {
+        Filtros filtros = atual;
+        return cpf == null || filtros == null || filtros.cpfs().podeConter(cpf);
+    }
+
+    /**
+     * Registra um cadastro assim que o INSERT é feito, sem esperar o commit.
+     */
+    public synchronized void registrar(String email, String cpf) {
+        adicionar(atual, email, cpf);
+        adicionar(emConstrucao, email, cpf);
+    }
+
+    public void removerAposCommit(String email, String cpf) {
+        AposCommit.executar(() -> remover(email, cpf));
+    }
+
+    // O filtro em construção não recebe remoções: se a linha já tinha sido lida, fica um falso positivo.
+    synchronized void remover(String email, String cpf) {
+        Filtros filtros = atual;
+        if (filtros == null) return;
+        if (email != null) filtros.emails().remover(email);
+        if (cpf != null) filtros.cpfs().remover(cpf);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${cadastrosrh.unicidade.reconstrucao:PT6H}",
+            initialDelayString = "${cadastrosrh.unicidade.reconstrucao:PT6H}")
+    public void reconstruir() {
+        long inicio = System.nanoTime();
+        try {
+            Long total = transacaoLeitura.execute(status -> {
+                try (Stream<ChavesUnicidadeDTO> linhas = repository.streamChavesUnicidade()) {
+                    return carregar(linhas);
+                }
+            });
+            log.info("Filtro de unicidade carregado: {} candidatos em {} ms (falso positivo estimado: e-mail {}, CPF {})",
+                    total, (System.nanoTime() - inicio) / 1_000_000,
+                    String.format("%.4f", metricasEmail.taxaEstimada()), String.format("%.4f", metricasCpf.taxaEstimada()));
+        } catch (RuntimeException e) {
+            log.warn("Falha ao carregar o filtro de unicidade; mantendo o anterior", e);
+        }
+    }
+
+    long carregar(Stream<ChavesUnicidadeDTO> linhas) {
+        Filtros novos = new Filtros(
+                new FiltroBloomContador(capacidade, taxaFalsoPositivo),
+                new FiltroBloomContador(capacidade, taxaFalsoPositivo));
+        synchronized (this) {
+            emConstrucao = novos;
+        }
+        long[] total = {0};
+        try {
+            linhas.forEach(chaves -> {
+                adicionar(novos, chaves.email(), chaves.cpf());
+                total[0]++;
+            });
+            synchronized (this) {
+                atual = novos;
+            }
+        } finally {
+            synchronized (this) {
+                emConstrucao = null;
+            }
+        }
+        return total[0];
+    }
+
+    private boolean existe(String valor, Function<Filtros, FiltroBloomContador> filtro,
+                           Predicate<String> consulta, Metricas metricas) {
+        Filtros filtros = atual;
+        if (valor != null && filtros != null && !filtro.apply(filtros).podeConter(valor)) {
+            metricas.ausentes.increment();
+            return false;
+        }
+        boolean existe = consulta.test(valor);
+        if (filtros != null) {
+            (existe ? metricas.confirmados : metricas.falsosPositivos).increment();
+        }
+        return existe;
+    }
+
+    private static void adicionar(Filtros filtros, String email, String cpf) {
+        if (filtros == null) return;
+        if (email != null) filtros.emails().adicionar(email);
+        if (cpf != null) filtros.cpfs().adicionar(cpf);
+    }
+
+    private record Filtros(FiltroBloomContador emails, FiltroBloomContador cpfs) {
+    }
+
+    private static final class Metricas {
+
+        private final FiltroUnicidadeCandidato dono;
+        private final Function<Filtros, FiltroBloomContador> filtro;
+        private final Counter ausentes;
+        private final Counter confirmados;
+        private final Counter falsosPositivos;
+
+        private Metricas(String campo, MeterRegistry registry, FiltroUnicidadeCandidato dono,
+                         Function<Filtros, FiltroBloomContador> filtro) {
+            this.dono = dono;
+            this.filtro = filtro;
+            this.ausentes = contador(registry, campo, "ausente");
+            this.confirmados = contador(registry, campo, "existente");
+            this.falsosPositivos = contador(registry, campo, "falso_positivo");
+            Gauge.builder("candidatos.unicidade.falso_positivo", this, Metricas::taxaEstimada)
+                    .tag("campo", campo)
+                    .description("Taxa de falso positivo estimada pela ocupação do filtro")
+                    .register(registry);
+        }
+
+        private double taxaEstimada() {
+            Filtros filtros = dono.atual;
+            return filtros == null ? 1.0 : filtro.apply(filtros).taxaFalsoPositivoEstimada();
+        }
+
+        private static Counter contador(MeterRegistry registry, String campo, String resultado) {
+            return Counter.builder("candidatos.unicidade.consultas")
+                    .tag("campo", campo)
+                    .tag("resultado", resultado)
+                    .register(registry);
+        }
+    }
+}
@@ -0,0 +1,330 @@
+package com.rhgroup.cadastrosrh.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rhgroup.cadastrosrh.dto.CandidatoCreateDTO;
+import com.rhgroup.cadastrosrh.dto.ImportacaoErroDTO;
+import com.rhgroup.cadastrosrh.dto.ImportacaoResultadoDTO;
+import com.rhgroup.cadastrosrh.exception.RequisicaoInvalidaException;
+import com.rhgroup.cadastrosrh.model.Candidato;
+import com.rhgroup.cadastrosrh.model.StatusCandidato;
+import com.rhgroup.cadastrosrh.repository.CandidatoRepository;
+import com.rhgroup.cadastrosrh.security.SenhaHashExecutor;
+import io.micrometer.core.annotation.Timed;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+/**
+ * Importação em lote de candidatos a partir de CSV ou NDJSON.
+ * <p>
+ * O arquivo é lido linha a linha e processado em lotes: validação, checagem de unicidade
+ * (no arquivo e no banco), hash das senhas em paralelo e INSERT em batch JDBC.
+ * Uma linha com problema vai para o relatório de erros sem abortar o restante.
+ */
+@Service
+@Timed("candidatos.servico")
+public class ImportacaoCandidatoService {
+
+    private static final int MAXIMO_ERROS_REPORTADOS = 1000;
+
+    private static final Set<String> COLUNAS_CSV = Set.of(
+            "nome", "cpf", "datanascimento", "email", "senha", "celular",
+            "areainteresse", "experienciaanos", "pretensaosalarial", "status");
+
+    private final CandidatoRepository repository;
+    private final CandidatoLoteWriter loteWriter;
+    private final FiltroUnicidadeCandidato unicidade;
+    private final PasswordEncoder passwordEncoder;
+    private final SenhaHashExecutor senhaHashExecutor;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final int tamanhoLote;
+
+    public ImportacaoCandidatoService(CandidatoRepository repository,
+                                      CandidatoLoteWriter loteWriter,
+                                      FiltroUnicidadeCandidato unicidade,
+                                      PasswordEncoder passwordEncoder,
+                                      SenhaHashExecutor senhaHashExecutor,
+                                      Validator validator,
+                                      ObjectMapper objectMapper,
+                                      @Value("${cadastrosrh.importacao.tamanho-lote:500}") int tamanhoLote) {
+        this.repository = repository;
+        this.loteWriter = loteWriter;
+        this.unicidade = unicidade;
+        this.passwordEncoder = passwordEncoder;
+        this.senhaHashExecutor = senhaHashExecutor;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.tamanhoLote = tamanhoLote;
+    }
+
+    public ImportacaoResultadoDTO importarCsv(InputStream entrada) throws IOException {
+        Relatorio relatorio = new Relatorio();
+        try (BufferedReader leitor = leitor(entrada)) {
+            String cabecalho = leitor.readLine();
+            if (cabecalho == null || cabecalho.isBlank()) {
+                throw new RequisicaoInvalidaException("Arquivo CSV sem cabeçalho");
+            }
+            if (cabecalho.charAt(0) == '\uFEFF') {
+                cabecalho = cabecalho.substring(1);
+            }
+            char separador = cabecalho.indexOf(';') >= 0 && cabecalho.indexOf(',') < 0 ? ';' : ',';
+            List<String> colunas = lerCabecalho(cabecalho, separador);
+
+            List<LinhaImportacao> lote = new ArrayList<>(tamanhoLote);
+            long numero = 1;
+            String linha;
+            while ((linha = leitor.readLine()) != null) {
+                numero++;
+                if (linha.isBlank()) continue;
+                relatorio.totalLinhas++;
+                try {
+                    lote.add(new LinhaImportacao(numero, csvParaDto(colunas, dividirLinhaCsv(linha, separador))));
+                } catch (IllegalArgumentException e) {
+                    relatorio.rejeitar(numero, e.getMessage());
+                }
+                if (lote.size() >= tamanhoLote) {
+                    processarLote(lote, relatorio);
+                    lote.clear();
+                }
+            }
+            processarLote(lote, relatorio);
+        }
+        return relatorio.resultado();
+    }
+
+    public ImportacaoResultadoDTO importarNdjson(InputStream entrada) throws IOException {
+        Relatorio relatorio = new Relatorio();
+        try (BufferedReader leitor = leitor(entrada)) {
+            List<LinhaImportacao> lote = new ArrayList<>(tamanhoLote);
+            long numero = 0;
+            String linha;
+            while ((linha = leitor.readLine()) != null) {
+                numero++;
+                if (linha.isBlank()) continue;
+                relatorio.totalLinhas++;
+                try {
+                    CandidatoCreateDTO dto = objectMapper.readValue(linha, CandidatoCreateDTO.class);
+                    if (dto == null) {
+                        relatorio.rejeitar(numero, "Linha sem objeto JSON");
+                    } else {
+                        lote.add(new LinhaImportacao(numero, dto));
+                    }
+                } catch (JsonProcessingException e) {
+                    relatorio.rejeitar(numero, "JSON inválido: " + e.getOriginalMessage());
+                }
+                if (lote.size() >= tamanhoLote) {
+                    processarLote(lote, relatorio);
+                    lote.clear();
+                }
+            }
+            processarLote(lote, relatorio);
+        }
+        return relatorio.resultado();
+    }
+
+    private void processarLote(List<LinhaImportacao> linhas, Relatorio relatorio) {
+        List<LinhaImportacao> validas = new ArrayList<>(linhas.size());
+        for (LinhaImportacao linha : linhas) {
+            String erro = validar(linha.dto());
+            if (erro != null) {
+                relatorio.rejeitar(linha.numero(), erro);
+            } else if (!relatorio.emailsVistos.add(linha.dto().getEmail())) {
+                relatorio.rejeitar(linha.numero(), "E-mail repetido no arquivo");
+            } else if (!relatorio.cpfsVistos.add(linha.dto().getCpf())) {
+                relatorio.rejeitar(linha.numero(), "CPF repetido no arquivo");
+            } else {
+                validas.add(linha);
+            }
+        }
+        if (validas.isEmpty()) return;
+
+        // Uma consulta por coluna para o lote inteiro, em vez de um exists por linha, e só com os
+        // valores que o filtro de unicidade não descarta; lote todo novo não vai ao banco.
+        List<String> emails = validas.stream().map(l -> l.dto().getEmail()).filter(unicidade::emailPodeExistir).toList();
+        List<String> cpfs = validas.stream().map(l -> l.dto().getCpf()).filter(unicidade::cpfPodeExistir).toList();
+        Set<String> emailsExistentes = emails.isEmpty() ? Set.of() : repository.findEmailsExistentes(emails);
+        Set<String> cpfsExistentes = cpfs.isEmpty() ? Set.of() : repository.findCpfsExistentes(cpfs);
+
+        List<LinhaImportacao> aceitas = new ArrayList<>(validas.size());
+        for (LinhaImportacao linha : validas) {
+            if (emailsExistentes.contains(linha.dto().getEmail())) {
+                relatorio.rejeitar(linha.numero(), "Já existe um candidato cadastrado com este e-mail");
+            } else if (cpfsExistentes.contains(linha.dto().getCpf())) {
+                relatorio.rejeitar(linha.numero(), "Já existe um candidato cadastrado com este CPF");
+            } else {
+                aceitas.add(linha);
+            }
+        }
+        if (aceitas.isEmpty()) return;
+
+        List<Candidato> entidades = gerarEntidades(aceitas);
+
+        try {
+            loteWriter.inserir(entidades);
+            relatorio.importados += entidades.size();
+        } catch (DataAccessException e) {
+            // Algo escapou da pré-checagem (ex.: cadastro concorrente): isola as linhas culpadas.
+            for (int i = 0; i < entidades.size(); i++) {
+                Candidato entidade = entidades.get(i);
+                entidade.setId(null);
+                try {
+                    loteWriter.inserir(List.of(entidade));
+                    relatorio.importados++;
+                } catch (DataAccessException ex) {
+                    relatorio.rejeitar(aceitas.get(i).numero(), "Conflito ao gravar: e-mail ou CPF já cadastrado");
+                }
+            }
+        }
+    }
+
+    /**
+     * O BCrypt domina o custo da importação. As senhas vão para o pool de hash em janelas do tamanho
+     * do pool, para que uma importação grande não ocupe a fila inteira e derrube logins e cadastros.
+     * Com a fila cheia (pico de logins) a importação espera uma posição em vez de abortar: os lotes
+     * anteriores já foram gravados e o relatório por linha se perderia.
+     */
+    private List<Candidato> gerarEntidades(List<LinhaImportacao> aceitas) {
+        int janela = Math.max(1, senhaHashExecutor.paralelismo());
+        List<Candidato> entidades = new ArrayList<>(aceitas.size());
+        for (int inicio = 0; inicio < aceitas.size(); inicio += janela) {
+            List<CompletableFuture<Candidato>> pendentes = aceitas
+                    .subList(inicio, Math.min(inicio + janela, aceitas.size())).stream()
+                    .map(l -> senhaHashExecutor.submeterAguardandoVaga(
+                            () -> l.dto().toEntity(passwordEncoder.encode(l.dto().getSenha()))))
+                    .toList();
+            pendentes.forEach(f -> entidades.add(f.join()));
+        }
+        return entidades;
+    }
+
+    private String validar(CandidatoCreateDTO dto) {
+        Set<ConstraintViolation<CandidatoCreateDTO>> violacoes = validator.validate(dto);
+        if (violacoes.isEmpty()) return null;
+        return violacoes.stream()
+                .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    private static BufferedReader leitor(InputStream entrada) {
+        return new BufferedReader(new InputStreamReader(entrada, StandardCharsets.UTF_8));
+    }
+
+    private static List<String> lerCabecalho(String cabecalho, char separador) {
+        List<String> colunas = dividirLinhaCsv(cabecalho, separador).stream()
+                .map(c -> c.trim().replace("_", "").toLowerCase(Locale.ROOT))
+                .toList();
+        for (String coluna : colunas) {
+            if (!COLUNAS_CSV.contains(coluna)) {
+                throw new RequisicaoInvalidaException("Coluna desconhecida no CSV: " + coluna);
+            }
+        }
+        return colunas;
+    }
+
+    private static CandidatoCreateDTO csvParaDto(List<String> colunas, List<String> valores) {
+        if (valores.size() != colunas.size()) {
+            throw new IllegalArgumentException(
+                    "Esperadas " + colunas.size() + " colunas, encontradas " + valores.size());
+        }
+        CandidatoCreateDTO dto = new CandidatoCreateDTO();
+        for (int i = 0; i < colunas.size(); i++) {
+            String coluna = colunas.get(i);
+            String valor = valores.get(i).trim();
+            if (valor.isEmpty()) continue;
+            try {
+                switch (coluna) {
+                    case "nome" -> dto.setNome(valor);
+                    case "cpf" -> dto.setCpf(valor);
+                    case "datanascimento" -> dto.setDataNascimento(LocalDate.parse(valor));
+                    case "email" -> dto.setEmail(valor);
+                    case "senha" -> dto.setSenha(valor);
+                    case "celular" -> dto.setCelular(valor);
+                    case "areainteresse" -> dto.setAreaInteresse(valor);
+                    case "experienciaanos" -> dto.setExperienciaAnos(Integer.valueOf(valor));
+                    case "pretensaosalarial" -> dto.setPretensaoSalarial(new BigDecimal(valor));
+                    case "status" -> dto.setStatus(StatusCandidato.valueOf(valor.toUpperCase(Locale.ROOT)));
+                    default -> throw new IllegalStateException(coluna);
+                }
+            } catch (IllegalArgumentException | DateTimeParseException e) {
+                throw new IllegalArgumentException("Valor inválido para " + coluna + ": " + valor);
+            }
+        }
+        return dto;
+    }
+
+    static List<String> dividirLinhaCsv(String linha, char separador) {
+        List<String> campos = new ArrayList<>();
+        StringBuilder atual = new StringBuilder();
+        boolean entreAspas = false;
+        for (int i = 0; i < linha.length(); i++) {
+            char ch = linha.charAt(i);
+            if (entreAspas) {
+                if (ch != '"') {
+                    atual.append(ch);
+                } else if (i + 1 < linha.length() && linha.charAt(i + 1) == '"') {
+                    atual.append('"');
+                    i++;
+                } else {
+                    entreAspas = false;
+                }
+            } else if (ch == '"') {
+                entreAspas = true;
+            } else if (ch == separador) {
+                campos.add(atual.toString());
+                atual.setLength(0);
+            } else {
+                atual.append(ch);
+            }
+        }
+        if (entreAspas) {
+            throw new IllegalArgumentException("Aspas não fechadas na linha");
+        }
+        campos.add(atual.toString());
+        return campos;
+    }
+
+    private record LinhaImportacao(long numero, CandidatoCreateDTO dto) {
+    }
+
+    private static final class Relatorio {
+        private final Set<String> emailsVistos = new HashSet<>();
+        private final Set<String> cpfsVistos = new HashSet<>();
+        private final List<ImportacaoErroDTO> erros = new ArrayList<>();
+        private long totalLinhas;
+        private long importados;
+        private long rejeitados;
+
+        void rejeitar(long linha, String mensagem) {
+            rejeitados++;
+            if (erros.size() < MAXIMO_ERROS_REPORTADOS) {
+                erros.add(new ImportacaoErroDTO(linha, mensagem));
+            }
+        }
+
+        ImportacaoResultadoDTO resultado() {
+            return new ImportacaoResultadoDTO(totalLinhas, importados, rejeitados, List.copyOf(erros));
+        }
+    }
+}
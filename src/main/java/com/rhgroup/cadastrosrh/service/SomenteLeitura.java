@@ -0,0 +1,31 @@
+package com.rhgroup.cadastrosrh.service;
+
+import org.springframework.core.annotation.AliasFor;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Método de serviço que só lê: {@code SUPPORTS} com o flag de somente leitura, que o
+ * {@code RoteamentoDataSource} usa para mandar as consultas à réplica (quando configurada) e o Hibernate
+ * para dispensar flush e dirty checking. O {@code @Transactional} do Jakarta não tem esse flag.
+ * <p>
+ * Chamado de dentro de uma transação de escrita, participa dela e lê do primário.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+public @interface SomenteLeitura {
+
+    /**
+     * {@code REQUIRED} quando a leitura precisa de uma transação de fato (ex.: consulta em stream).
+     */
+    @AliasFor(annotation = Transactional.class)
+    Propagation propagation() default Propagation.SUPPORTS;
+}
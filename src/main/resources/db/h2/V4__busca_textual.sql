@@ -0,0 +1,3 @@
+-- No H2 a busca textual usa o índice invertido em memória (BuscaCandidatoIndiceMemoria).
+-- Migração mantida vazia para alinhar a numeração com db/postgresql.
+SELECT 1;
@@ -0,0 +1,5 @@
+-- Armazenamento de currículos endereçado por conteúdo: o SHA-256 do arquivo identifica o blob,
+-- e o número de candidatos com o mesmo hash é a contagem de referências usada na coleta.
+ALTER TABLE candidatos ADD COLUMN curriculo_hash VARCHAR(64);
+
+CREATE INDEX idx_candidatos_curriculo_hash ON candidatos (curriculo_hash);
@@ -0,0 +1,3 @@
+-- Hashes com prefixo do algoritmo ({bcrypt}$2a$..., {pbkdf2}...) não cabem em 60 caracteres.
+-- Os hashes BCrypt antigos, sem prefixo, continuam válidos e são regravados no próximo login.
+ALTER TABLE candidatos ALTER COLUMN senha_hash SET DATA TYPE VARCHAR(255);
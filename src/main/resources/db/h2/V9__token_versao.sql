@@ -0,0 +1,2 @@
+-- Versão dos tokens de acesso/renovação do candidato; a troca de senha incrementa e revoga os emitidos antes.
+ALTER TABLE candidatos ADD COLUMN token_versao INTEGER NOT NULL DEFAULT 0;
@@ -0,0 +1,6 @@
+-- Índices que sustentam a paginação keyset de GET /api/v1/candidatos.
+-- O id entra como desempate para que a ordenação seja estável.
+DROP INDEX IF EXISTS idx_candidatos_nome;
+
+CREATE INDEX idx_candidatos_nome_id      ON candidatos (nome, id);
+CREATE INDEX idx_candidatos_criado_em_id ON candidatos (criado_em, id);
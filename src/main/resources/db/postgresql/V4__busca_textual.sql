@@ -0,0 +1,19 @@
+-- Busca textual em português, sem acentos, sobre nome (peso A) e area_interesse (peso B).
+CREATE EXTENSION IF NOT EXISTS unaccent;
+
+-- unaccent() é STABLE; colunas geradas e índices exigem uma função IMMUTABLE.
+CREATE OR REPLACE FUNCTION f_unaccent(texto TEXT)
+    RETURNS TEXT
+    LANGUAGE sql
+    IMMUTABLE PARALLEL SAFE STRICT
+AS $$
+SELECT public.unaccent('public.unaccent'::regdictionary, texto)
+$$;
+
+ALTER TABLE candidatos
+    ADD COLUMN busca_documento TSVECTOR GENERATED ALWAYS AS (
+        setweight(to_tsvector('portuguese'::regconfig, f_unaccent(coalesce(nome, ''))), 'A') ||
+        setweight(to_tsvector('portuguese'::regconfig, f_unaccent(coalesce(area_interesse, ''))), 'B')
+    ) STORED;
+
+CREATE INDEX idx_candidatos_busca_documento ON candidatos USING GIN (busca_documento);
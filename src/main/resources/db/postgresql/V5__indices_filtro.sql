@@ -0,0 +1,8 @@
+-- Índices compostos do filtro multicritério (GET /api/v1/candidatos/filtro).
+-- (status, criado_em, id) atende status + paginação keyset e substitui o índice simples de status.
+DROP INDEX IF EXISTS idx_candidatos_status;
+
+CREATE INDEX idx_candidatos_status_criado_em_id ON candidatos (status, criado_em, id);
+CREATE INDEX idx_candidatos_status_experiencia  ON candidatos (status, experiencia_anos);
+CREATE INDEX idx_candidatos_status_pretensao    ON candidatos (status, pretensao_salarial);
+CREATE INDEX idx_candidatos_data_nascimento     ON candidatos (data_nascimento);
@@ -0,0 +1,27 @@
+-- Fila persistente da extração de texto dos currículos e o texto extraído.
+CREATE TABLE curriculo_extracoes (
+    candidato_id         UUID PRIMARY KEY REFERENCES candidatos (id) ON DELETE CASCADE,
+    curriculo_hash       VARCHAR(64)  NOT NULL,
+    situacao             VARCHAR(20)  NOT NULL,
+    tentativas           INTEGER      NOT NULL,
+    enfileirado_em       TIMESTAMP    NOT NULL,
+    proxima_tentativa_em TIMESTAMP    NOT NULL,
+    iniciado_em          TIMESTAMP,
+    concluido_em         TIMESTAMP,
+    erro                 VARCHAR(500)
+);
+
+CREATE INDEX idx_curriculo_extracoes_fila ON curriculo_extracoes (situacao, proxima_tentativa_em);
+
+-- O texto entra na busca com peso C, abaixo de nome (A) e área de interesse (B).
+CREATE TABLE curriculo_textos (
+    candidato_id   UUID PRIMARY KEY REFERENCES candidatos (id) ON DELETE CASCADE,
+    curriculo_hash VARCHAR(64)     NOT NULL,
+    texto          VARCHAR(100000) NOT NULL,
+    extraido_em    TIMESTAMP       NOT NULL,
+    documento      TSVECTOR GENERATED ALWAYS AS (
+        setweight(to_tsvector('portuguese'::regconfig, f_unaccent(texto)), 'C')
+    ) STORED
+);
+
+CREATE INDEX idx_curriculo_textos_documento ON curriculo_textos USING GIN (documento);
@@ -0,0 +1,73 @@
+package com.rhgroup.cadastrosrh.config;
+
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Config | LeituraPropriaFilter")
+class LeituraPropriaFilterTest {
+
+    private final LeituraPropriaFilter filtro = new LeituraPropriaFilter(Duration.ofMinutes(1), 1_000);
+
+    @AfterEach
+    void limpar() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private boolean primarioForcado(String metodo, String usuario, int status) throws Exception {
+        if (usuario != null) {
+            SecurityContextHolder.getContext().setAuthentication(
+                    UsernamePasswordAuthenticationToken.authenticated(usuario, null, List.of()));
+        } else {
+            SecurityContextHolder.clearContext();
+        }
+        MockHttpServletRequest request = new MockHttpServletRequest(metodo, "/api/v1/candidatos");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        boolean[] forcado = {false};
+        FilterChain chain = (req, res) -> {
+            forcado[0] = RoteamentoDataSource.primarioForcado();
+            ((MockHttpServletResponse) res).setStatus(status);
+        };
+        filtro.doFilter(request, response, chain);
+        assertThat(RoteamentoDataSource.primarioForcado()).isFalse();
+        return forcado[0];
+    }
+
+    @Test
+    @DisplayName("Depois de uma escrita, as leituras do mesmo usuário devem ir ao primário")
+    void escrita_forcaPrimarioParaOUsuario() throws Exception {
+        assertThat(primarioForcado("GET", "ana@teste.com", 200)).isFalse();
+
+        assertThat(primarioForcado("PATCH", "ana@teste.com", 200)).isFalse();
+
+        assertThat(primarioForcado("GET", "ana@teste.com", 200)).isTrue();
+        assertThat(primarioForcado("GET", "bia@teste.com", 200)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Escrita recusada não deve forçar o primário")
+    void escritaComErro_naoForca() throws Exception {
+        primarioForcado("POST", "ana@teste.com", 409);
+
+        assertThat(primarioForcado("GET", "ana@teste.com", 200)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Sem autenticação, a janela vale para o IP")
+    void anonimo_porIp() throws Exception {
+        primarioForcado("POST", null, 201);
+
+        assertThat(primarioForcado("GET", null, 200)).isTrue();
+        assertThat(primarioForcado("GET", "ana@teste.com", 200)).isFalse();
+    }
+}
@@ -0,0 +1,144 @@
+package com.rhgroup.cadastrosrh.config;
+
+import com.rhgroup.cadastrosrh.CadastrosRhApplication;
+import com.rhgroup.cadastrosrh.dto.ResultadoBuscaDTO;
+import com.rhgroup.cadastrosrh.model.Candidato;
+import com.rhgroup.cadastrosrh.model.StatusCandidato;
+import com.rhgroup.cadastrosrh.repository.CandidatoRepository;
+import com.rhgroup.cadastrosrh.service.BuscaCandidatoIndice;
+import com.rhgroup.cadastrosrh.service.CandidatoService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+/**
+ * Dois H2 em memória fazem o papel de primário e réplica. Sem replicação entre eles, o que foi gravado
+ * só aparece quando a leitura vai ao primário.
+ */
+@SpringBootTest(classes = CadastrosRhApplication.class, properties = {
+        "spring.datasource.url=jdbc:h2:mem:rhdb_primario;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1",
+        "cadastrosrh.datasource.replica.url=jdbc:h2:mem:rhdb_replica;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1"
+})
+@ActiveProfiles("h2")
+@Import(RoteamentoDataSourceTest.SchemaReplica.class)
+@DisplayName("Config | RoteamentoDataSource")
+class RoteamentoDataSourceTest {
+
+    private static final String EMAIL = "roteamento@teste.com";
+
+    @Autowired
+    private CandidatoRepository repository;
+
+    @Autowired
+    private CandidatoService service;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry registry;
+
+    // A busca do perfil h2 é em memória; no postgres ela consulta o banco, como esta.
+    @MockitoBean
+    private BuscaCandidatoIndice indiceBusca;
+
+    @TestConfiguration
+    static class SchemaReplica {
+
+        // O Flyway da aplicação migra só o primário; a réplica recebe o mesmo schema antes da subida.
+        @Bean
+        InitializingBean migrarReplica(@Qualifier("replicaDataSource") DataSource replica) {
+            return () -> Flyway.configure().dataSource(replica).locations("classpath:db/h2").load().migrate();
+        }
+    }
+
+    @AfterEach
+    void limpar() {
+        repository.deleteAll();
+    }
+
+    private Candidato salvar() {
+        return repository.save(Candidato.builder()
+                .nome("Roteamento Teste")
+                .cpf("12345678909")
+                .email(EMAIL)
+                .senhaHash("hash")
+                .status(StatusCandidato.ATIVO)
+                .dataNascimento(LocalDate.of(1990, 1, 1))
+                .experienciaAnos(3)
+                .pretensaoSalarial(new BigDecimal("4000.00"))
+                .build());
+    }
+
+    private double conexoes(String destino) {
+        return registry.get("datasource.roteamento").tag("destino", destino).counter().count();
+    }
+
+    @Test
+    @DisplayName("Leitura somente leitura deve ir para a réplica")
+    void leitura_vaiParaReplica() {
+        salvar();
+        double antes = conexoes("replica");
+
+        assertThat(service.buscarPorStatus(StatusCandidato.ATIVO)).isEmpty();
+        assertThat(conexoes("replica")).isGreaterThan(antes);
+    }
+
+    @Test
+    @DisplayName("Busca textual deve ir para a réplica")
+    void busca_vaiParaReplica() {
+        salvar();
+        when(indiceBusca.buscar(eq("roteamento"), anyInt())).thenAnswer(inv ->
+                repository.findRespostasByStatus(StatusCandidato.ATIVO).stream()
+                        .map(c -> new ResultadoBuscaDTO(c.getId(), c.getNome(), c.getAreaInteresse(), 1))
+                        .toList());
+        double antes = conexoes("replica");
+
+        assertThat(service.buscarTexto("roteamento", null)).isEmpty();
+        assertThat(conexoes("replica")).isGreaterThan(antes);
+    }
+
+    @Test
+    @DisplayName("Leitura dentro de transação de escrita deve ficar no primário")
+    void transacaoEscrita_ficaNoPrimario() {
+        salvar();
+
+        Boolean encontrado = new TransactionTemplate(transactionManager)
+                .execute(status -> repository.findByEmail(EMAIL).isPresent());
+
+        assertThat(encontrado).isTrue();
+    }
+
+    @Test
+    @DisplayName("Primário forçado (leitura própria) deve enxergar a escrita recente")
+    void primarioForcado_leEscritaRecente() {
+        Candidato salvo = salvar();
+
+        assertThat(RoteamentoDataSource.noPrimario(() -> service.buscarPorStatus(StatusCandidato.ATIVO)))
+                .extracting("email").containsExactly(EMAIL);
+        // Carga do cache por id sempre do primário.
+        assertThat(service.buscarPorId(salvo.getId()).getEmail()).isEqualTo(EMAIL);
+    }
+}
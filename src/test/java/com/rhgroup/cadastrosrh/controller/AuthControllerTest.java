@@ -1,11 +1,12 @@
 package com.rhgroup.cadastrosrh.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.rhgroup.cadastrosrh.CadastrosRhApplication;
 import com.rhgroup.cadastrosrh.repository.CandidatoRepository;
+import com.rhgroup.cadastrosrh.service.FiltroUnicidadeCandidato;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -16,10 +17,18 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
 
@@ -47,6 +56,9 @@ class AuthControllerTest {
     @MockitoBean
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private FiltroUnicidadeCandidato unicidade;
+
     @Test
     @DisplayName("POST /api/v1/auth/register | deve cadastrar novo usuário")
     void deveCadastrarUsuario() throws Exception {
@@ -67,11 +79,93 @@ class AuthControllerTest {
                 .andExpect(status().isOk());
     }
 
+    @Test
+    @DisplayName("POST /api/v1/auth/register | e-mail já cadastrado deve responder 409")
+    void register_emailDuplicado_409() throws Exception {
+        unicidade.registrar("duplicado@example.com", "98765432100");
+        when(repository.existsByEmail("duplicado@example.com")).thenReturn(true);
+
+        mockMvc.perform(post("/api/v1/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"nome\":\"Ana\",\"email\":\"duplicado@example.com\",\"senha\":\"123456\"}"))
+                .andExpect(status().isConflict());
+    }
+
     @Test
     @DisplayName("POST /api/v1/auth/login | deve autenticar com sucesso")
     void deveAutenticar() throws Exception {
+        when(repository.findTokenVersaoByEmail("ana@example.com")).thenReturn(Optional.of(0));
+
+        login()
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tipo").value("Bearer"))
+                .andExpect(jsonPath("$.tokenAcesso").isNotEmpty())
+                .andExpect(jsonPath("$.tokenRenovacao").isNotEmpty())
+                .andExpect(jsonPath("$.expiraEmSegundos").value(900));
+    }
+
+    @Test
+    @DisplayName("Bearer emitido no login deve autenticar sem httpBasic")
+    void tokenDeAcesso_autentica() throws Exception {
+        when(repository.findTokenVersaoByEmail("ana@example.com")).thenReturn(Optional.of(0));
+        String tokenAcesso = tokens().path("tokenAcesso").asText();
+
+        // Autenticado: chega ao controller, que responde 404 (repositório mockado vazio).
+        mockMvc.perform(get("/api/v1/candidatos/{id}", UUID.randomUUID())
+                        .header("Authorization", "Bearer " + tokenAcesso))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("Bearer inválido deve responder 401")
+    void tokenInvalido_401() throws Exception {
+        mockMvc.perform(get("/api/v1/candidatos/{id}", UUID.randomUUID())
+                        .header("Authorization", "Bearer abc.def.ghi"))
+                .andExpect(status().isUnauthorized())
+                .andExpect(header().string("WWW-Authenticate", "Bearer error=\"invalid_token\""));
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/auth/refresh | deve emitir novo par com token de renovação válido")
+    void refresh_valido() throws Exception {
+        when(repository.findTokenVersaoByEmail("ana@example.com")).thenReturn(Optional.of(0));
+        String tokenRenovacao = tokens().path("tokenRenovacao").asText();
+
+        mockMvc.perform(post("/api/v1/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new AuthController.RefreshRequest(tokenRenovacao))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tokenAcesso").isNotEmpty());
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/auth/refresh | deve recusar token de antes da troca de senha")
+    void refresh_revogado() throws Exception {
+        when(repository.findTokenVersaoByEmail("ana@example.com")).thenReturn(Optional.of(0));
+        String tokenRenovacao = tokens().path("tokenRenovacao").asText();
+        when(repository.findTokenVersaoByEmail("ana@example.com")).thenReturn(Optional.of(1));
+
+        mockMvc.perform(post("/api/v1/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new AuthController.RefreshRequest(tokenRenovacao))))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/auth/refresh | não deve aceitar token de acesso")
+    void refresh_comTokenDeAcesso() throws Exception {
+        when(repository.findTokenVersaoByEmail("ana@example.com")).thenReturn(Optional.of(0));
+        String tokenAcesso = tokens().path("tokenAcesso").asText();
+
+        mockMvc.perform(post("/api/v1/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new AuthController.RefreshRequest(tokenAcesso))))
+                .andExpect(status().isUnauthorized());
+    }
+
+    private ResultActions login() throws Exception {
         when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
-                .thenReturn(Mockito.mock(UsernamePasswordAuthenticationToken.class));
+                .thenReturn(UsernamePasswordAuthenticationToken.authenticated("ana@example.com", null, List.of()));
 
         String body = """
                 {
@@ -80,9 +174,12 @@ class AuthControllerTest {
                 }
                 """;
 
-        mockMvc.perform(post("/api/v1/auth/login")
-                        .contentType(MediaType.APPLICATION_JSON)
-                        .content(body))
-                .andExpect(status().isOk());
+        return mockMvc.perform(post("/api/v1/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body));
+    }
+
+    private JsonNode tokens() throws Exception {
+        return objectMapper.readTree(login().andReturn().getResponse().getContentAsString());
     }
-}
\ No newline at end of file
+}
@@ -4,10 +4,14 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.rhgroup.cadastrosrh.CadastrosRhApplication;
 import com.rhgroup.cadastrosrh.dto.*;
 import com.rhgroup.cadastrosrh.exception.ConflitoUnicidadeException;
+import com.rhgroup.cadastrosrh.exception.ServicoIndisponivelException;
 import com.rhgroup.cadastrosrh.exception.GlobalExceptionHandler;
 import com.rhgroup.cadastrosrh.exception.NotFoundException;
+import com.rhgroup.cadastrosrh.exception.RequisicaoInvalidaException;
 import com.rhgroup.cadastrosrh.model.StatusCandidato;
 import com.rhgroup.cadastrosrh.service.CandidatoService;
+import com.rhgroup.cadastrosrh.service.ExportacaoCandidatoService;
+import com.rhgroup.cadastrosrh.service.ImportacaoCandidatoService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -19,15 +23,25 @@ import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.CannotCreateTransactionException;
 
+import java.io.OutputStream;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import static org.hamcrest.Matchers.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.BDDMockito.given;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -54,6 +68,10 @@ class CandidatoControllerTest {
     // Mockamos o Service para testar apenas o Controller
     @MockitoBean
     private CandidatoService candidatoService;
+    @MockitoBean
+    private ExportacaoCandidatoService exportacaoService;
+    @MockitoBean
+    private ImportacaoCandidatoService importacaoService;
 
     private CandidatoCreateDTO novoCandidato() {
         CandidatoCreateDTO dto = new CandidatoCreateDTO();
@@ -122,6 +140,74 @@ class CandidatoControllerTest {
                             .content(objectMapper.writeValueAsString(novoCandidato())))
                     .andExpect(status().isConflict());
         }
+
+        @Test
+        @DisplayName("503 | pool de hash de senha saturado")
+        void deveRetornarIndisponivel_503() throws Exception {
+            given(candidatoService.criar(any(CandidatoCreateDTO.class)))
+                    .willThrow(new ServicoIndisponivelException("Muitas operações de senha em andamento.", 5));
+
+            mockMvc.perform(post(BASE_URL)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(novoCandidato())))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().string("Retry-After", "5"))
+                    .andExpect(jsonPath("$.title").value("Serviço sobrecarregado"));
+        }
+
+        @Test
+        @DisplayName("503 | nenhuma conexão livre no pool do banco")
+        void deveRetornarIndisponivel_503_poolEsgotado() throws Exception {
+            given(candidatoService.criar(any(CandidatoCreateDTO.class)))
+                    .willThrow(new CannotCreateTransactionException("Could not open JPA EntityManager for transaction"));
+
+            mockMvc.perform(post(BASE_URL)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(novoCandidato())))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().string("Retry-After", "1"))
+                    .andExpect(jsonPath("$.title").value("Serviço sobrecarregado"));
+        }
+    }
+
+    @Nested
+    @DisplayName("POST /candidatos/importacao")
+    class PostImportacao {
+
+        @Test
+        @DisplayName("200 | importa CSV e devolve relatório")
+        void deveImportarCsv_200() throws Exception {
+            given(importacaoService.importarCsv(any())).willReturn(new ImportacaoResultadoDTO(
+                    2, 1, 1, List.of(new ImportacaoErroDTO(3, "CPF repetido no arquivo"))));
+
+            mockMvc.perform(post(BASE_URL + "/importacao")
+                            .contentType("text/csv")
+                            .content("nome,cpf\n"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.importados").value(1))
+                    .andExpect(jsonPath("$.erros[0].linha").value(3));
+        }
+
+        @Test
+        @DisplayName("200 | importa NDJSON")
+        void deveImportarNdjson_200() throws Exception {
+            given(importacaoService.importarNdjson(any())).willReturn(new ImportacaoResultadoDTO(1, 1, 0, List.of()));
+
+            mockMvc.perform(post(BASE_URL + "/importacao")
+                            .contentType(MediaType.APPLICATION_NDJSON)
+                            .content("{}\n"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.rejeitados").value(0));
+        }
+
+        @Test
+        @DisplayName("415 | formato não suportado")
+        void deveRecusarFormato_415() throws Exception {
+            mockMvc.perform(post(BASE_URL + "/importacao")
+                            .contentType(MediaType.APPLICATION_XML)
+                            .content("<a/>"))
+                    .andExpect(status().isUnsupportedMediaType());
+        }
     }
 
     @Nested
@@ -129,13 +215,87 @@ class CandidatoControllerTest {
     class GetCandidato {
 
         @Test
-        @DisplayName("200 | listar todos")
-        void deveListarTodos_200() throws Exception {
-            given(candidatoService.listarTodos()).willReturn(List.of(resposta(UUID.randomUUID())));
+        @DisplayName("200 | listar primeira página")
+        void deveListarPrimeiraPagina_200() throws Exception {
+            given(candidatoService.listar(null, null, OrdenacaoCandidato.CRIADO_EM))
+                    .willReturn(new PaginaCursorDTO<>(List.of(resposta(UUID.randomUUID())), 20, "proximo"));
 
             mockMvc.perform(get(BASE_URL))
                     .andExpect(status().isOk())
-                    .andExpect(jsonPath("$", hasSize(1)));
+                    .andExpect(jsonPath("$.itens", hasSize(1)))
+                    .andExpect(jsonPath("$.proximoCursor").value("proximo"));
+        }
+
+        @Test
+        @DisplayName("200 | listar com cursor, tamanho e ordenação")
+        void deveListarComCursor_200() throws Exception {
+            given(candidatoService.listar("abc", 5, OrdenacaoCandidato.NOME))
+                    .willReturn(new PaginaCursorDTO<>(List.of(), 5, null));
+
+            mockMvc.perform(get(BASE_URL)
+                            .param("cursor", "abc")
+                            .param("tamanho", "5")
+                            .param("ordenacao", "NOME"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.itens", hasSize(0)))
+                    .andExpect(jsonPath("$.proximoCursor").value(nullValue()));
+        }
+
+        @Test
+        @DisplayName("400 | cursor inválido")
+        void deveRetornarBadRequestParaCursorInvalido_400() throws Exception {
+            given(candidatoService.listar(eq("???"), any(), any()))
+                    .willThrow(new RequisicaoInvalidaException("Cursor de paginação inválido"));
+
+            mockMvc.perform(get(BASE_URL).param("cursor", "???"))
+                    .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        @DisplayName("200 | resumo por status")
+        void deveResumirPorStatus_200() throws Exception {
+            given(candidatoService.resumoPorStatus()).willReturn(new ResumoStatusDTO(
+                    Map.of(StatusCandidato.CANDIDATO, 4L, StatusCandidato.TRIAGEM, 2L), 6, null));
+
+            mockMvc.perform(get(BASE_URL + "/resumo"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.porStatus.CANDIDATO").value(4))
+                    .andExpect(jsonPath("$.total").value(6));
+        }
+
+        @Test
+        @DisplayName("200 | filtro multicritério")
+        void deveFiltrar_200() throws Exception {
+            given(candidatoService.filtrar(argThat(f -> f.getStatus() == StatusCandidato.TRIAGEM
+                            && f.getExperienciaMin() == 2
+                            && new BigDecimal("5000").equals(f.getPretensaoMax())
+                            && LocalDateTime.of(2024, 1, 1, 0, 0).equals(f.getCriadoDe())),
+                    isNull(), eq(10)))
+                    .willReturn(new PaginaCursorDTO<>(List.of(resposta(UUID.randomUUID())), 10, null));
+
+            mockMvc.perform(get(BASE_URL + "/filtro")
+                            .param("status", "TRIAGEM")
+                            .param("experienciaMin", "2")
+                            .param("pretensaoMax", "5000")
+                            .param("criadoDe", "2024-01-01T00:00:00")
+                            .param("tamanho", "10"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.itens", hasSize(1)));
+        }
+
+        @Test
+        @DisplayName("200 | busca textual ranqueada")
+        void deveBuscarTexto_200() throws Exception {
+            UUID id = UUID.randomUUID();
+            given(candidatoService.buscarTexto("java backend sênior", 5))
+                    .willReturn(List.of(new ResultadoBuscaDTO(id, "Ana Viana", "Java backend", 1.5)));
+
+            mockMvc.perform(get(BASE_URL + "/busca")
+                            .param("q", "java backend sênior")
+                            .param("limite", "5"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$[0].id").value(id.toString()))
+                    .andExpect(jsonPath("$[0].relevancia").value(1.5));
         }
 
         @Test
@@ -161,16 +321,81 @@ class CandidatoControllerTest {
                     .andExpect(status().isNotFound());
         }
 
+        @Test
+        @DisplayName("200 | exportar NDJSON com filtros")
+        void deveExportarNdjson_200() throws Exception {
+            given(exportacaoService.exportarNdjson(any(), eq(StatusCandidato.TRIAGEM),
+                    eq(LocalDateTime.of(2024, 1, 1, 0, 0)), isNull()))
+                    .willAnswer(inv -> {
+                        OutputStream saida = inv.getArgument(0);
+                        saida.write("{\"nome\":\"Ana\"}\n{\"nome\":\"Bia\"}\n".getBytes(StandardCharsets.UTF_8));
+                        return 2L;
+                    });
+
+            MvcResult inicio = mockMvc.perform(get(BASE_URL + "/exportacao")
+                            .param("status", "TRIAGEM")
+                            .param("atualizadoDe", "2024-01-01T00:00:00"))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            mockMvc.perform(asyncDispatch(inicio))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                    .andExpect(content().string("{\"nome\":\"Ana\"}\n{\"nome\":\"Bia\"}\n"));
+        }
+
         @Test
         @DisplayName("200 | buscar por status")
         void deveBuscarPorStatus_200() throws Exception {
+            given(candidatoService.versaoPorStatus(StatusCandidato.CANDIDATO))
+                    .willReturn(new VersaoListaDTO(1, LocalDateTime.of(2024, 1, 10, 9, 30)));
             given(candidatoService.buscarPorStatus(StatusCandidato.CANDIDATO))
                     .willReturn(List.of(resposta(UUID.randomUUID())));
 
             mockMvc.perform(get(BASE_URL + "/status/" + StatusCandidato.CANDIDATO))
                     .andExpect(status().isOk())
+                    .andExpect(header().string("ETag", startsWith("\"CANDIDATO-1-")))
                     .andExpect(jsonPath("$[0].status").value("CANDIDATO"));
         }
+
+        @Test
+        @DisplayName("304 | buscar por ID com If-None-Match igual ao ETag atual")
+        void deveBuscarPorIdNaoModificado_304() throws Exception {
+            UUID id = UUID.randomUUID();
+            CandidatoResponseDTO candidato = resposta(id);
+            candidato.setAtualizadoEm(LocalDateTime.of(2024, 1, 10, 9, 30));
+            given(candidatoService.buscarPorId(id)).willReturn(candidato);
+
+            String etag = mockMvc.perform(get(BASE_URL + "/" + id))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getHeader("ETag");
+
+            mockMvc.perform(get(BASE_URL + "/" + id).header("If-None-Match", etag))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string("ETag", etag))
+                    .andExpect(content().string(""));
+
+            candidato.setAtualizadoEm(candidato.getAtualizadoEm().plusSeconds(1));
+            mockMvc.perform(get(BASE_URL + "/" + id).header("If-None-Match", etag))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("ETag", not(etag)));
+        }
+
+        @Test
+        @DisplayName("304 | buscar por status sem alterações não carrega a lista")
+        void deveBuscarPorStatusNaoModificado_304() throws Exception {
+            given(candidatoService.versaoPorStatus(StatusCandidato.TRIAGEM))
+                    .willReturn(new VersaoListaDTO(3, LocalDateTime.of(2024, 1, 10, 9, 30)));
+            given(candidatoService.buscarPorStatus(StatusCandidato.TRIAGEM)).willReturn(List.of());
+
+            String etag = mockMvc.perform(get(BASE_URL + "/status/" + StatusCandidato.TRIAGEM))
+                    .andReturn().getResponse().getHeader("ETag");
+
+            mockMvc.perform(get(BASE_URL + "/status/" + StatusCandidato.TRIAGEM).header("If-None-Match", etag))
+                    .andExpect(status().isNotModified());
+
+            verify(candidatoService, times(1)).buscarPorStatus(StatusCandidato.TRIAGEM);
+        }
     }
 
     @Nested
@@ -266,6 +491,47 @@ class CandidatoControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("PATCH /candidatos/status")
+    class PatchStatusEmLote {
+
+        @Test
+        @DisplayName("200 | muda o status em lote e devolve o desfecho por id")
+        void deveMudarStatusEmLote_200() throws Exception {
+            UUID alterado = UUID.randomUUID();
+            UUID inexistente = UUID.randomUUID();
+            given(candidatoService.mudarStatusEmLote(argThat(dto ->
+                    dto.getStatus() == StatusCandidato.EM_ENTREVISTA && dto.getIds().size() == 2)))
+                    .willReturn(new MudancaStatusResultadoDTO(StatusCandidato.EM_ENTREVISTA, 1, 0, 1, List.of(
+                            new MudancaStatusItemDTO(alterado, ResultadoMudancaStatus.ALTERADO, StatusCandidato.TRIAGEM),
+                            new MudancaStatusItemDTO(inexistente, ResultadoMudancaStatus.NAO_ENCONTRADO, null))));
+
+            mockMvc.perform(patch(BASE_URL + "/status")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(Map.of(
+                                    "ids", List.of(alterado, inexistente), "status", "EM_ENTREVISTA"))))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.alterados").value(1))
+                    .andExpect(jsonPath("$.naoEncontrados").value(1))
+                    .andExpect(jsonPath("$.resultados[0].resultado").value("ALTERADO"))
+                    .andExpect(jsonPath("$.resultados[0].statusAnterior").value("TRIAGEM"))
+                    .andExpect(jsonPath("$.resultados[1].resultado").value("NAO_ENCONTRADO"));
+        }
+
+        @Test
+        @DisplayName("400 | sem ids nem filtro")
+        void deveRejeitarPedidoSemAlvo_400() throws Exception {
+            given(candidatoService.mudarStatusEmLote(any(MudancaStatusLoteDTO.class)))
+                    .willThrow(new RequisicaoInvalidaException("Informe a lista de ids ou um filtro, não ambos"));
+
+            mockMvc.perform(patch(BASE_URL + "/status")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"status\":\"REPROVADO\"}"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.detail").value("Informe a lista de ids ou um filtro, não ambos"));
+        }
+    }
+
     @Nested
     @DisplayName("DELETE /candidatos/{id}")
     class DeleteById {
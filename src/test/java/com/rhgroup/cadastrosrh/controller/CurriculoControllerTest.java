@@ -0,0 +1,149 @@
+package com.rhgroup.cadastrosrh.controller;
+
+import com.rhgroup.cadastrosrh.CadastrosRhApplication;
+import com.rhgroup.cadastrosrh.dto.CurriculoDTO;
+import com.rhgroup.cadastrosrh.exception.TipoArquivoNaoSuportadoException;
+import com.rhgroup.cadastrosrh.service.CurriculoService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpMethod;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(classes = CadastrosRhApplication.class, webEnvironment = SpringBootTest.WebEnvironment.MOCK)
+@AutoConfigureMockMvc(addFilters = false)
+@DisplayName("Web | CurriculoController")
+class CurriculoControllerTest {
+
+    private static final String CONTEUDO = "%PDF-1.7 conteudo do curriculo";
+
+    @Autowired private MockMvc mockMvc;
+
+    @MockitoBean
+    private CurriculoService curriculoService;
+
+    @TempDir
+    Path diretorio;
+
+    private final UUID id = UUID.randomUUID();
+    private static final String SHA256 = "9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08";
+
+    private final CurriculoDTO curriculo = new CurriculoDTO("sha256/9f/" + SHA256, "currículo.pdf", "application/pdf",
+            (long) CONTEUDO.length(), LocalDateTime.of(2024, 5, 1, 10, 0), "LOCAL", SHA256);
+
+    private String url() {
+        return "/api/v1/candidatos/" + id + "/curriculo";
+    }
+
+    @Nested
+    @DisplayName("PUT /candidatos/{id}/curriculo")
+    class Enviar {
+
+        private final MockMultipartFile arquivo = new MockMultipartFile(
+                "arquivo", "currículo.pdf", "application/pdf", CONTEUDO.getBytes(StandardCharsets.US_ASCII));
+
+        @Test
+        @DisplayName("200 | devolve os metadados gravados")
+        void deveEnviar_200() throws Exception {
+            given(curriculoService.enviar(eq(id), any())).willReturn(curriculo);
+
+            mockMvc.perform(multipart(HttpMethod.PUT, url()).file(arquivo))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.nome").value("currículo.pdf"))
+                    .andExpect(jsonPath("$.storage").value("LOCAL"))
+                    .andExpect(jsonPath("$.sha256").value(SHA256))
+                    .andExpect(jsonPath("$.chave").doesNotExist());
+        }
+
+        @Test
+        @DisplayName("415 | tipo de arquivo não aceito")
+        void deveRejeitarTipo_415() throws Exception {
+            given(curriculoService.enviar(eq(id), any()))
+                    .willThrow(new TipoArquivoNaoSuportadoException("Currículo deve ser PDF, DOC, DOCX ou TXT."));
+
+            mockMvc.perform(multipart(HttpMethod.PUT, url()).file(arquivo))
+                    .andExpect(status().isUnsupportedMediaType())
+                    .andExpect(jsonPath("$.title").value("Tipo de arquivo não suportado"));
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /candidatos/{id}/curriculo")
+    class Baixar {
+
+        @BeforeEach
+        void setUp() throws Exception {
+            Path arquivo = Files.writeString(diretorio.resolve("curriculo"), CONTEUDO, StandardCharsets.US_ASCII);
+            given(curriculoService.buscar(id)).willReturn(curriculo);
+            given(curriculoService.arquivo(curriculo)).willReturn(arquivo);
+        }
+
+        @Test
+        @DisplayName("200 | arquivo inteiro com validadores e cabeçalhos de cache")
+        void deveBaixar_200() throws Exception {
+            mockMvc.perform(get(url()))
+                    .andExpect(status().isOk())
+                    .andExpect(content().string(CONTEUDO))
+                    .andExpect(header().string("ETag", "\"" + SHA256 + "\""))
+                    .andExpect(header().exists("Last-Modified"))
+                    .andExpect(header().string("Accept-Ranges", "bytes"))
+                    .andExpect(header().string("Cache-Control", containsString("private")))
+                    .andExpect(header().string("Content-Disposition", containsString("attachment")))
+                    .andExpect(header().longValue("Content-Length", CONTEUDO.length()));
+        }
+
+        @Test
+        @DisplayName("206 | devolve apenas a faixa pedida")
+        void deveBaixarFaixa_206() throws Exception {
+            mockMvc.perform(get(url()).header("Range", "bytes=0-4"))
+                    .andExpect(status().isPartialContent())
+                    .andExpect(content().string("%PDF-"))
+                    .andExpect(header().string("Content-Range", "bytes 0-4/" + CONTEUDO.length()));
+        }
+
+        @Test
+        @DisplayName("200 | If-Range desatualizado ignora o Range")
+        void ifRangeDesatualizado_200() throws Exception {
+            mockMvc.perform(get(url()).header("Range", "bytes=0-4").header("If-Range", "\"outra-versao\""))
+                    .andExpect(status().isOk())
+                    .andExpect(content().string(CONTEUDO));
+        }
+
+        @Test
+        @DisplayName("416 | faixa fora do arquivo")
+        void faixaInvalida_416() throws Exception {
+            mockMvc.perform(get(url()).header("Range", "bytes=1000-"))
+                    .andExpect(status().isRequestedRangeNotSatisfiable())
+                    .andExpect(header().string("Content-Range", "bytes */" + CONTEUDO.length()));
+        }
+
+        @Test
+        @DisplayName("304 | If-None-Match igual ao ETag")
+        void naoModificado_304() throws Exception {
+            mockMvc.perform(get(url()).header("If-None-Match", "\"" + SHA256 + "\""))
+                    .andExpect(status().isNotModified())
+                    .andExpect(content().string(""));
+        }
+    }
+}
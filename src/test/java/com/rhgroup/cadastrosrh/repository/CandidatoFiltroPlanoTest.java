@@ -0,0 +1,154 @@
+package com.rhgroup.cadastrosrh.repository;
+
+import com.rhgroup.cadastrosrh.model.Candidato;
+import com.rhgroup.cadastrosrh.model.StatusCandidato;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static com.rhgroup.cadastrosrh.repository.CandidatoSpecifications.aposCriadoEm;
+import static com.rhgroup.cadastrosrh.repository.CandidatoSpecifications.comStatus;
+import static com.rhgroup.cadastrosrh.repository.CandidatoSpecifications.criadoEntre;
+import static com.rhgroup.cadastrosrh.repository.CandidatoSpecifications.experienciaEntre;
+import static com.rhgroup.cadastrosrh.repository.CandidatoSpecifications.nascidoEntre;
+import static com.rhgroup.cadastrosrh.repository.CandidatoSpecifications.pretensaoEntre;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Garante que as consultas do filtro multicritério continuem apoiadas nos índices das migrações
+ * (V3 e V5) à medida que a tabela cresce. Roda contra o schema do Flyway, não o gerado pelo Hibernate.
+ * O SQL analisado é o que o Hibernate emite de fato em {@link CandidatoRepositoryImpl#filtrar} para cada
+ * combinação, capturado por um {@link StatementInspector}; o {@code EXPLAIN} roda com os parâmetros nulos,
+ * já que o H2 escolhe o índice ao preparar, sem olhar os valores.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("h2")
+@DisplayName("Repository | Planos do filtro de candidatos")
+class CandidatoFiltroPlanoTest {
+
+    private static final String[] STATUS = {"CANDIDATO", "TRIAGEM", "APROVADO", "REPROVADO"};
+    private static final LocalDateTime JUNHO = LocalDateTime.of(2024, 6, 1, 0, 0);
+    private static final int LIMITE = 21;
+
+    private static final Map<String, Specification<Candidato>> FILTROS = new LinkedHashMap<>();
+
+    static {
+        FILTROS.put("status", comStatus(StatusCandidato.TRIAGEM));
+        FILTROS.put("status + cursor", comStatus(StatusCandidato.TRIAGEM)
+                .and(aposCriadoEm(JUNHO, UUID.randomUUID())));
+        FILTROS.put("status + experiência", comStatus(StatusCandidato.APROVADO).and(experienciaEntre(5, 8)));
+        FILTROS.put("status + pretensão", comStatus(StatusCandidato.CANDIDATO)
+                .and(pretensaoEntre(new BigDecimal("8000"), new BigDecimal("9000"))));
+        FILTROS.put("nascimento", nascidoEntre(LocalDate.of(1990, 1, 1), LocalDate.of(1990, 3, 31)));
+        FILTROS.put("criação", criadoEntre(JUNHO, null));
+    }
+
+    @Autowired
+    private CandidatoRepository repository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CapturaSql captura;
+
+    @TestConfiguration
+    static class CapturaSqlConfig {
+
+        @Bean
+        CapturaSql capturaSql() {
+            return new CapturaSql();
+        }
+
+        @Bean
+        HibernatePropertiesCustomizer capturaSqlCustomizer(CapturaSql captura) {
+            return propriedades -> propriedades.put(AvailableSettings.STATEMENT_INSPECTOR, captura);
+        }
+    }
+
+    static class CapturaSql implements StatementInspector {
+
+        private final List<String> comandos = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            comandos.add(sql);
+            return sql;
+        }
+    }
+
+    @ParameterizedTest(name = "{0} linhas")
+    @ValueSource(ints = {1_000, 20_000})
+    @DisplayName("Consultas do filtro não devem recorrer a varredura completa")
+    void consultasUsamIndices(int linhas) {
+        popular(linhas);
+
+        FILTROS.forEach((nome, filtro) -> {
+            String sql = sqlEmitido(filtro);
+            Object[] parametros = new Object[(int) sql.chars().filter(c -> c == '?').count()];
+            String plano = jdbcTemplate.queryForObject("explain " + sql, String.class, parametros)
+                    .toLowerCase(Locale.ROOT);
+
+            assertThat(plano).as(nome + ": " + sql)
+                    .doesNotContain("tablescan")
+                    .contains("idx_candidatos_");
+        });
+    }
+
+    private String sqlEmitido(Specification<Candidato> filtro) {
+        captura.comandos.clear();
+        repository.filtrar(filtro, LIMITE);
+        assertThat(captura.comandos).hasSize(1);
+        return captura.comandos.get(0);
+    }
+
+    private void popular(int linhas) {
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+        List<Object[]> lote = new ArrayList<>(linhas);
+        for (int i = 0; i < linhas; i++) {
+            Timestamp criadoEm = Timestamp.valueOf(base.plusMinutes(i));
+            lote.add(new Object[]{
+                    UUID.randomUUID(),
+                    "Candidato " + i,
+                    String.format("9%010d", i),
+                    "plano" + i + "@carga.test",
+                    "hash",
+                    i % 20,
+                    new BigDecimal(2000 + (i % 100) * 100),
+                    STATUS[i % STATUS.length],
+                    Date.valueOf(LocalDate.of(1970, 1, 1).plusDays(i % 12_000)),
+                    criadoEm,
+                    criadoEm});
+        }
+        jdbcTemplate.batchUpdate("""
+                insert into candidatos (id, nome, cpf, email, senha_hash, experiencia_anos, pretensao_salarial,
+                                        status, data_nascimento, criado_em, atualizado_em)
+                values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+                """, lote);
+    }
+}
@@ -1,19 +1,29 @@
 package com.rhgroup.cadastrosrh.repository;
 
+import com.rhgroup.cadastrosrh.dto.CandidatoPatchDTO;
+import com.rhgroup.cadastrosrh.dto.CandidatoResponseDTO;
+import com.rhgroup.cadastrosrh.dto.StatusAtualDTO;
+import com.rhgroup.cadastrosrh.dto.VersaoListaDTO;
 import com.rhgroup.cadastrosrh.model.Candidato;
 import com.rhgroup.cadastrosrh.model.StatusCandidato;
+import org.hibernate.Session;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
@@ -143,4 +153,190 @@ class CandidatoRepositoryTest {
         assertTrue(lista.isEmpty());
         assertEquals(0, lista.size());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Deve calcular a versão da lista por status sem carregar linhas")
+    void findVersaoPorStatus_agrega() {
+        VersaoListaDTO triagem = repository.findVersaoPorStatus(StatusCandidato.TRIAGEM);
+        VersaoListaDTO aprovado = repository.findVersaoPorStatus(StatusCandidato.APROVADO);
+
+        assertEquals(1, triagem.total());
+        assertNotNull(triagem.ultimaAtualizacao());
+        assertEquals(0, aprovado.total());
+        assertNull(aprovado.ultimaAtualizacao());
+    }
+
+    // --- Testes do Filtro Multicritério ---
+
+    @Test
+    @DisplayName("Deve combinar critérios do filtro e ignorar os que vierem vazios")
+    void filtrar_combinaCriterios() {
+        List<CandidatoResponseDTO> experientes = repository.filtrar(Specification.allOf(
+                CandidatoSpecifications.comStatus(null),
+                CandidatoSpecifications.experienciaEntre(3, null),
+                CandidatoSpecifications.pretensaoEntre(new BigDecimal("4000"), new BigDecimal("6000"))), 10);
+        List<CandidatoResponseDTO> triagemNascidos95 = repository.filtrar(Specification.allOf(
+                CandidatoSpecifications.comStatus(StatusCandidato.TRIAGEM),
+                CandidatoSpecifications.nascidoEntre(LocalDate.of(1995, 1, 1), LocalDate.of(1995, 12, 31))), 10);
+        List<CandidatoResponseDTO> nenhum = repository.filtrar(Specification.allOf(
+                CandidatoSpecifications.comStatus(StatusCandidato.TRIAGEM),
+                CandidatoSpecifications.experienciaEntre(null, 1)), 10);
+
+        assertThat(experientes).extracting(CandidatoResponseDTO::getEmail).containsExactly("alice@teste.com");
+        assertThat(triagemNascidos95).extracting(CandidatoResponseDTO::getEmail).containsExactly("bob@teste.com");
+        assertThat(nenhum).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve paginar o filtro por criadoEm e id")
+    void filtrar_keyset() {
+        List<CandidatoResponseDTO> primeira = repository.filtrar(
+                CandidatoSpecifications.criadoEntre(LocalDateTime.now().minusDays(1), null), 1);
+        CandidatoResponseDTO ultimo = primeira.get(0);
+
+        List<CandidatoResponseDTO> segunda = repository.filtrar(
+                CandidatoSpecifications.aposCriadoEm(ultimo.getCriadoEm(), ultimo.getId()), 10);
+
+        assertThat(segunda).hasSize(1);
+        assertThat(segunda.get(0).getId()).isNotEqualTo(ultimo.getId());
+    }
+
+    // --- Testes de Paginação Keyset ---
+
+    @Test
+    @DisplayName("Deve paginar por nome continuando após o último item")
+    void keysetPorNome_continuaAposUltimo() {
+        List<CandidatoResponseDTO> primeira = repository.findPrimeirosPorNome(PageRequest.ofSize(1));
+
+        assertThat(primeira).extracting(CandidatoResponseDTO::getNome).containsExactly("Alice Teste");
+
+        CandidatoResponseDTO ultimo = primeira.get(0);
+        List<CandidatoResponseDTO> segunda = repository.findProximosPorNome(ultimo.getNome(), ultimo.getId(), PageRequest.ofSize(10));
+
+        assertThat(segunda).extracting(CandidatoResponseDTO::getNome).containsExactly("Bob Teste");
+    }
+
+    @Test
+    @DisplayName("Deve desempatar pelo id quando criadoEm for igual")
+    void keysetPorCriadoEm_desempataPorId() {
+        LocalDateTime mesmoInstante = LocalDateTime.of(2024, 1, 1, 12, 0);
+        entityManager.getEntityManager()
+                .createQuery("update Candidato c set c.criadoEm = :instante")
+                .setParameter("instante", mesmoInstante)
+                .executeUpdate();
+        entityManager.clear();
+
+        List<CandidatoResponseDTO> todos = repository.findPrimeirosPorCriadoEm(PageRequest.ofSize(10));
+        assertEquals(2, todos.size());
+
+        CandidatoResponseDTO primeiro = todos.get(0);
+        List<CandidatoResponseDTO> restantes = repository.findProximosPorCriadoEm(mesmoInstante, primeiro.getId(), PageRequest.ofSize(10));
+
+        assertThat(restantes).extracting(CandidatoResponseDTO::getId).containsExactly(todos.get(1).getId());
+    }
+
+    // --- Testes de Projeção ---
+
+    @Test
+    @DisplayName("Deve projetar a resposta por id sem CPF e sem carregar a entidade")
+    void findRespostaById_projetaSemEntidade() {
+        UUID id = repository.findByEmail("alice@teste.com").orElseThrow().getId();
+        entityManager.clear();
+
+        Optional<CandidatoResponseDTO> resposta = repository.findRespostaById(id);
+
+        assertTrue(resposta.isPresent());
+        assertThat(resposta.get().getNome()).isEqualTo("Alice Teste");
+        assertThat(resposta.get().getCpf()).isNull();
+        assertEquals(0, entityManager.getEntityManager().unwrap(Session.class).getStatistics().getEntityCount());
+    }
+
+    @Test
+    @DisplayName("Deve projetar as respostas por status")
+    void findRespostasByStatus_retornaListaCorreta() {
+        List<CandidatoResponseDTO> lista = repository.findRespostasByStatus(StatusCandidato.TRIAGEM);
+
+        assertThat(lista).extracting(CandidatoResponseDTO::getEmail).containsExactly("bob@teste.com");
+    }
+
+    // --- Testes de Exportação em Stream ---
+
+    @Test
+    @DisplayName("Deve exportar todos quando nenhum filtro for informado")
+    void streamParaExportacao_semFiltros() {
+        try (Stream<CandidatoResponseDTO> linhas = repository.streamParaExportacao(null, null, null)) {
+            assertThat(linhas).extracting(CandidatoResponseDTO::getEmail)
+                    .containsExactlyInAnyOrder("alice@teste.com", "bob@teste.com");
+        }
+    }
+
+    @Test
+    @DisplayName("Deve filtrar a exportação por status e faixa de atualizadoEm")
+    void streamParaExportacao_comFiltros() {
+        LocalDateTime agora = LocalDateTime.now();
+
+        try (Stream<CandidatoResponseDTO> linhas = repository.streamParaExportacao(StatusCandidato.TRIAGEM, agora.minusHours(1), agora.plusHours(1))) {
+            assertThat(linhas).extracting(CandidatoResponseDTO::getEmail).containsExactly("bob@teste.com");
+        }
+        try (Stream<CandidatoResponseDTO> linhas = repository.streamParaExportacao(null, agora.plusHours(1), null)) {
+            assertThat(linhas).isEmpty();
+        }
+    }
+
+    // --- Testes da Mudança de Status em Lote ---
+
+    @Test
+    @DisplayName("Deve travar e atualizar o status em lote, ignorando ids inexistentes")
+    void travarEAtualizarStatus_emLote() {
+        UUID alice = candidatoAtivo.getId();
+        UUID bob = candidatoTriagem.getId();
+        LocalDateTime agora = LocalDateTime.now().plusMinutes(1).withNano(0);
+
+        List<StatusAtualDTO> atuais = repository.travarStatus(List.of(alice, bob, UUID.randomUUID()));
+        int alterados = repository.atualizarStatus(List.of(alice, bob), StatusCandidato.REPROVADO, agora);
+        entityManager.clear();
+
+        assertThat(atuais).containsExactlyInAnyOrder(
+                new StatusAtualDTO(alice, StatusCandidato.CANDIDATO),
+                new StatusAtualDTO(bob, StatusCandidato.TRIAGEM));
+        assertEquals(2, alterados);
+        Candidato atualizado = entityManager.find(Candidato.class, bob);
+        assertEquals(StatusCandidato.REPROVADO, atualizado.getStatus());
+        assertEquals(agora, atualizado.getAtualizadoEm());
+    }
+
+    @Test
+    @DisplayName("Deve listar os ids do filtro em ordem, respeitando o limite")
+    void filtrarIds_ordenadoELimitado() {
+        List<UUID> todos = repository.filtrarIds(CandidatoSpecifications.experienciaEntre(0, null), 10);
+        List<UUID> um = repository.filtrarIds(CandidatoSpecifications.experienciaEntre(0, null), 1);
+
+        assertThat(todos).containsExactlyInAnyOrder(candidatoAtivo.getId(), candidatoTriagem.getId());
+        assertThat(um).hasSize(1);
+    }
+
+    // --- Testes do PATCH sem SELECT ---
+
+    @Test
+    @DisplayName("Deve atualizar só os campos enviados no patch e reportar zero linhas para id inexistente")
+    void atualizarParcial_soCamposEnviados() {
+        UUID bob = candidatoTriagem.getId();
+        LocalDateTime agora = LocalDateTime.now().plusMinutes(1).withNano(0);
+        CandidatoPatchDTO patch = new CandidatoPatchDTO();
+        patch.setCelular("11988887777");
+        patch.setStatus(StatusCandidato.APROVADO);
+
+        int afetadas = repository.atualizarParcial(bob, patch, agora);
+        int inexistente = repository.atualizarParcial(UUID.randomUUID(), patch, agora);
+        entityManager.clear();
+
+        assertEquals(1, afetadas);
+        assertEquals(0, inexistente);
+        Candidato atualizado = entityManager.find(Candidato.class, bob);
+        assertEquals("11988887777", atualizado.getCelular());
+        assertEquals(StatusCandidato.APROVADO, atualizado.getStatus());
+        assertEquals("Bob Teste", atualizado.getNome());
+        assertEquals(2, atualizado.getExperienciaAnos());
+        assertEquals(agora, atualizado.getAtualizadoEm());
+    }
+}
@@ -0,0 +1,70 @@
+package com.rhgroup.cadastrosrh.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "cadastrosrh.actuator.usuario=metricas",
+        "cadastrosrh.actuator.senha={noop}segredo"
+})
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@ActiveProfiles("test")
+@DisplayName("Security | Actuator")
+class ActuatorSecurityTest {
+
+    private static final String PROMETHEUS = "/actuator/prometheus";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("Health deve ser público")
+    void health_publico() throws Exception {
+        mockMvc.perform(get("/actuator/health"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Scrape sem credenciais deve retornar 401")
+    void prometheus_semCredenciais_401() throws Exception {
+        mockMvc.perform(get(PROMETHEUS))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("Candidato autenticado na API não acessa o Actuator")
+    @WithMockUser(username = "candidato@teste.com")
+    void prometheus_usuarioDaApi_403() throws Exception {
+        mockMvc.perform(get(PROMETHEUS))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("Usuário técnico deve ler as métricas de serviço, pool, Hibernate e consultas por requisição")
+    void prometheus_usuarioTecnico_200() throws Exception {
+        mockMvc.perform(get("/api/v1/candidatos/resumo").with(user("candidato@teste.com")))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get(PROMETHEUS).with(httpBasic("metricas", "segredo")))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("hikaricp_connections_acquire_seconds_bucket")))
+                .andExpect(content().string(containsString("hibernate_sessions_open_total")))
+                .andExpect(content().string(containsString("http_server_requests_consultas")))
+                .andExpect(content().string(containsString("method=\"resumoPorStatus\"")));
+    }
+}
@@ -0,0 +1,115 @@
+package com.rhgroup.cadastrosrh.security;
+
+import com.rhgroup.cadastrosrh.model.Candidato;
+import com.rhgroup.cadastrosrh.repository.CandidatoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Security | CandidatoAuthenticationProvider")
+class CandidatoAuthenticationProviderTest {
+
+    private static final String EMAIL = "ana@teste.com";
+
+    @Mock
+    private CandidatoRepository repository;
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    private CredenciaisCache cache;
+    private CandidatoAuthenticationProvider provider;
+
+    @BeforeEach
+    void setUp() {
+        cache = new CredenciaisCache(100, Duration.ofMinutes(5), Duration.ofMinutes(2));
+        UserDetailsServiceImpl userDetailsService = new UserDetailsServiceImpl(repository, cache);
+        provider = new CandidatoAuthenticationProvider(userDetailsService, passwordEncoder, cache);
+        provider.setUserDetailsPasswordService(userDetailsService);
+        lenient().when(repository.findByEmail(EMAIL)).thenReturn(Optional.of(
+                Candidato.builder().email(EMAIL).senhaHash("hash-1").build()));
+    }
+
+    private Authentication autenticar(String senha) {
+        return provider.authenticate(new UsernamePasswordAuthenticationToken(EMAIL, senha));
+    }
+
+    @Test
+    @DisplayName("Deve consultar o banco e o BCrypt uma única vez para credenciais repetidas")
+    void credencialRepetida_usaCache() {
+        when(passwordEncoder.matches("senha", "hash-1")).thenReturn(true);
+
+        assertTrue(autenticar("senha").isAuthenticated());
+        assertTrue(autenticar("senha").isAuthenticated());
+        assertTrue(autenticar("senha").isAuthenticated());
+
+        verify(repository, times(1)).findByEmail(EMAIL);
+        verify(passwordEncoder, times(1)).matches("senha", "hash-1");
+    }
+
+    @Test
+    @DisplayName("Senha diferente da verificada deve passar pelo BCrypt e falhar")
+    void senhaDiferente_naoUsaCache() {
+        when(passwordEncoder.matches("senha", "hash-1")).thenReturn(true);
+        when(passwordEncoder.matches("errada", "hash-1")).thenReturn(false);
+
+        autenticar("senha");
+
+        assertThrows(BadCredentialsException.class, () -> autenticar("errada"));
+        verify(passwordEncoder).matches("errada", "hash-1");
+    }
+
+    @Test
+    @DisplayName("Invalidação deve forçar nova leitura do banco e novo BCrypt")
+    void invalidar_recarregaPrincipal() {
+        when(passwordEncoder.matches("senha", "hash-1")).thenReturn(true);
+        autenticar("senha");
+
+        when(repository.findByEmail(EMAIL)).thenReturn(Optional.of(
+                Candidato.builder().email(EMAIL).senhaHash("hash-2").build()));
+        cache.invalidar(EMAIL);
+
+        assertThrows(BadCredentialsException.class, () -> autenticar("senha"));
+        verify(repository, times(2)).findByEmail(EMAIL);
+        verify(passwordEncoder).matches("senha", "hash-2");
+    }
+
+    @Test
+    @DisplayName("Hash em formato antigo deve ser regravado após login bem-sucedido")
+    void hashAntigo_regravaNoLogin() {
+        when(passwordEncoder.matches("senha", "hash-1")).thenReturn(true);
+        when(passwordEncoder.upgradeEncoding("hash-1")).thenReturn(true);
+        lenient().when(passwordEncoder.encode(any())).thenReturn("{bcrypt}hash-novo");
+        when(repository.atualizarSenhaHash(EMAIL, "hash-1", "{bcrypt}hash-novo")).thenReturn(1);
+
+        assertTrue(autenticar("senha").isAuthenticated());
+
+        verify(repository).atualizarSenhaHash(EMAIL, "hash-1", "{bcrypt}hash-novo");
+    }
+
+    @Test
+    @DisplayName("Hash atual não deve ser regravado")
+    void hashAtual_naoRegrava() {
+        when(passwordEncoder.matches("senha", "hash-1")).thenReturn(true);
+
+        autenticar("senha");
+
+        verify(passwordEncoder, never()).encode("senha");
+        verify(repository, never()).atualizarSenhaHash(any(), any(), any());
+    }
+}
@@ -3,6 +3,8 @@ package com.rhgroup.cadastrosrh.security;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.rhgroup.cadastrosrh.dto.CandidatoCreateDTO;
 import com.rhgroup.cadastrosrh.dto.CandidatoResponseDTO;
+import com.rhgroup.cadastrosrh.dto.PaginaCursorDTO;
+import com.rhgroup.cadastrosrh.dto.VersaoListaDTO;
 import com.rhgroup.cadastrosrh.model.Candidato;
 import com.rhgroup.cadastrosrh.model.StatusCandidato;
 import com.rhgroup.cadastrosrh.service.CandidatoService;
@@ -145,7 +147,8 @@ class CandidatoSecurityTest {
         @DisplayName("GET / | autenticado deve retornar 200")
         @WithMockUser(username = "teste@seguranca.com")
         void get_autenticado_200() throws Exception {
-            Mockito.when(candidatoService.listarTodos()).thenReturn(Collections.emptyList());
+            Mockito.when(candidatoService.listar(any(), any(), any()))
+                    .thenReturn(new PaginaCursorDTO<>(Collections.emptyList(), 20, null));
 
             mockMvc.perform(get(BASE_URL))
                     .andExpect(status().isOk());
@@ -164,6 +167,7 @@ class CandidatoSecurityTest {
         @DisplayName("GET /status/{status} | autenticado deve retornar 200")
         @WithMockUser(username = "teste@seguranca.com")
         void get_porStatus_autenticado_200() throws Exception {
+            Mockito.when(candidatoService.versaoPorStatus(StatusCandidato.CANDIDATO)).thenReturn(new VersaoListaDTO(1, null));
             Mockito.when(candidatoService.buscarPorStatus(StatusCandidato.CANDIDATO)).thenReturn(List.of(buildResponseDTO(UUID.randomUUID())));
 
             mockMvc.perform(get(BASE_URL + "/status/" + StatusCandidato.CANDIDATO))
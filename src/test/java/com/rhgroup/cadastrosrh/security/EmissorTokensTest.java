@@ -0,0 +1,98 @@
+package com.rhgroup.cadastrosrh.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rhgroup.cadastrosrh.dto.TokenDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("Security | EmissorTokens")
+class EmissorTokensTest {
+
+    private static final String EMAIL = "ana@teste.com";
+    private static final byte[] SEGREDO = segredo((byte) 7);
+    private static final Instant AGORA = Instant.parse("2025-01-10T12:00:00Z");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final EmissorTokens emissor = emissor(SEGREDO, AGORA);
+
+    private static byte[] segredo(byte valor) {
+        byte[] segredo = new byte[32];
+        Arrays.fill(segredo, valor);
+        return segredo;
+    }
+
+    private EmissorTokens emissor(byte[] segredo, Instant instante) {
+        return new EmissorTokens(segredo, Duration.ofMinutes(15), Duration.ofDays(7), objectMapper,
+                Clock.fixed(instante, ZoneOffset.UTC));
+    }
+
+    @Test
+    @DisplayName("Token emitido deve ser aceito só no seu tipo")
+    void emitirEValidar() {
+        TokenDTO tokens = emissor.emitir(EMAIL, 3);
+
+        assertThat(emissor.validar(tokens.tokenAcesso(), EmissorTokens.ACESSO))
+                .contains(new EmissorTokens.Token(EMAIL, 3));
+        assertThat(emissor.validar(tokens.tokenRenovacao(), EmissorTokens.RENOVACAO))
+                .contains(new EmissorTokens.Token(EMAIL, 3));
+        assertThat(emissor.validar(tokens.tokenAcesso(), EmissorTokens.RENOVACAO)).isEmpty();
+        assertThat(emissor.validar(tokens.tokenRenovacao(), EmissorTokens.ACESSO)).isEmpty();
+        assertThat(tokens.expiraEmSegundos()).isEqualTo(900);
+    }
+
+    @Test
+    @DisplayName("Token alterado, de outro segredo ou malformado deve ser recusado")
+    void assinaturaInvalida() {
+        String token = emissor.emitir(EMAIL, 0).tokenAcesso();
+        String[] partes = token.split("\\.");
+        String outroEmail = partes[0] + "." + Base64.getUrlEncoder().withoutPadding().encodeToString(
+                "{\"sub\":\"bia@teste.com\",\"ver\":0,\"tipo\":\"acesso\",\"iat\":0,\"exp\":9999999999}".getBytes())
+                + "." + partes[2];
+
+        assertThat(emissor.validar(outroEmail, EmissorTokens.ACESSO)).isEmpty();
+        assertThat(emissor(segredo((byte) 8), AGORA).validar(token, EmissorTokens.ACESSO)).isEmpty();
+        assertThat(emissor.validar("abc.def.ghi", EmissorTokens.ACESSO)).isEmpty();
+        assertThat(emissor.validar("sem-pontos", EmissorTokens.ACESSO)).isEmpty();
+        assertThat(emissor.validar(token + ".extra", EmissorTokens.ACESSO)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Token de acesso expirado deve ser recusado; o de renovação continua valendo")
+    void expiracao() {
+        TokenDTO tokens = emissor.emitir(EMAIL, 0);
+        EmissorTokens depois = emissor(SEGREDO, AGORA.plus(Duration.ofMinutes(16)));
+
+        assertThat(depois.validar(tokens.tokenAcesso(), EmissorTokens.ACESSO)).isEmpty();
+        assertThat(depois.validar(tokens.tokenRenovacao(), EmissorTokens.RENOVACAO)).isPresent();
+    }
+
+    @Test
+    @DisplayName("Revogação deve recusar tokens de acesso de versões anteriores")
+    void revogar() {
+        String antigo = emissor.emitir(EMAIL, 0).tokenAcesso();
+        String outro = emissor.emitir("bia@teste.com", 0).tokenAcesso();
+
+        emissor.revogar(EMAIL, 1);
+
+        assertThat(emissor.validar(antigo, EmissorTokens.ACESSO)).isEmpty();
+        assertThat(emissor.validar(emissor.emitir(EMAIL, 1).tokenAcesso(), EmissorTokens.ACESSO)).isPresent();
+        assertThat(emissor.validar(outro, EmissorTokens.ACESSO)).isPresent();
+    }
+
+    @Test
+    @DisplayName("Segredo curto deve falhar na inicialização")
+    void segredoCurto() {
+        assertThrows(IllegalArgumentException.class, () -> new EmissorTokens(new byte[16], Duration.ofMinutes(15),
+                Duration.ofDays(7), objectMapper, Clock.systemUTC()));
+    }
+}
@@ -0,0 +1,75 @@
+package com.rhgroup.cadastrosrh.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Security | LimitadorTentativasLogin")
+class LimitadorTentativasLoginTest {
+
+    private static final String IP = "10.0.0.1";
+
+    private final AtomicLong agora = new AtomicLong(TimeUnit.HOURS.toNanos(1));
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    // Conta: 6/min (uma a cada 10 s) com rajada de 3; IP: 60/min com rajada de 5.
+    private final LimitadorTentativasLogin limitador = new LimitadorTentativasLogin(
+            LimitadorTentativasLogin.Regra.porMinuto(6, 3), LimitadorTentativasLogin.Regra.porMinuto(60, 5),
+            1_000, Duration.ofMinutes(10), registry, agora::get);
+
+    private void avancar(long segundos) {
+        agora.addAndGet(TimeUnit.SECONDS.toNanos(segundos));
+    }
+
+    @Test
+    @DisplayName("Deve liberar a rajada da conta e depois informar a espera até o próximo token")
+    void conta_rajadaEEspera() {
+        for (int i = 0; i < 3; i++) {
+            assertThat(limitador.reservar("ana@teste.com", IP)).isZero();
+        }
+        assertThat(limitador.reservar("ANA@teste.com ", IP)).isEqualTo(10);
+
+        avancar(10);
+        assertThat(limitador.reservar("ana@teste.com", IP)).isZero();
+        assertThat(limitador.reservar("bia@teste.com", IP)).isZero();
+        assertThat(registry.get("seguranca.tentativas.bloqueadas").tag("chave", "conta").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve limitar o IP mesmo variando a conta")
+    void ip_variandoConta() {
+        for (int i = 0; i < 5; i++) {
+            assertThat(limitador.reservar("conta" + i + "@teste.com", IP)).isZero();
+        }
+        assertThat(limitador.reservar("outra@teste.com", IP)).isEqualTo(1);
+        assertThat(limitador.reservar("outra@teste.com", "10.0.0.2")).isZero();
+    }
+
+    @Test
+    @DisplayName("Tentativas bem-sucedidas devolvem a reserva e não consomem o limite")
+    void devolver_sucessoNaoConsome() {
+        for (int i = 0; i < 20; i++) {
+            assertThat(limitador.reservar("ana@teste.com", IP)).isZero();
+            limitador.devolver("ana@teste.com", IP);
+        }
+    }
+
+    @Test
+    @DisplayName("Recusa pela conta não deve gastar o token do IP")
+    void recusaPorConta_devolveIp() {
+        for (int i = 0; i < 3; i++) {
+            limitador.reservar("ana@teste.com", IP);
+        }
+        for (int i = 0; i < 10; i++) {
+            assertThat(limitador.reservar("ana@teste.com", IP)).isPositive();
+        }
+        assertThat(limitador.reservar("bia@teste.com", IP)).isZero();
+        assertThat(limitador.reservar("caio@teste.com", IP)).isZero();
+    }
+}
@@ -0,0 +1,152 @@
+package com.rhgroup.cadastrosrh.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Security | LimiteTentativasLoginFilter")
+class LimiteTentativasLoginFilterTest {
+
+    @Mock
+    private LimitadorTentativasLogin limitador;
+
+    private final CredenciaisCache credenciaisCache = new CredenciaisCache(100, Duration.ofMinutes(5), Duration.ofMinutes(2));
+
+    @AfterEach
+    void limparContexto() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private LimiteTentativasLoginFilter filtro() {
+        return new LimiteTentativasLoginFilter(limitador, credenciaisCache, new ObjectMapper());
+    }
+
+    private static MockHttpServletRequest basic(String email, String senha) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/candidatos");
+        request.setRemoteAddr("10.0.0.1");
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Basic " + Base64.getEncoder()
+                .encodeToString((email + ":" + senha).getBytes(StandardCharsets.UTF_8)));
+        return request;
+    }
+
+    // Cadeia que autentica o e-mail (como o BasicAuthenticationFilter ou o login) e responde com o status dado.
+    private static MockFilterChain autenticando(String email, int status) {
+        return new MockFilterChain() {
+            @Override
+            public void doFilter(ServletRequest request, ServletResponse response)
+                    throws IOException, ServletException {
+                super.doFilter(request, response);
+                SecurityContextHolder.getContext().setAuthentication(
+                        UsernamePasswordAuthenticationToken.authenticated(email, null, List.of()));
+                ((HttpServletResponse) response).setStatus(status);
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("Deve responder 429 com Retry-After sem chamar o resto da cadeia")
+    void esgotado_429() throws Exception {
+        when(limitador.reservar("ana@teste.com", "10.0.0.1")).thenReturn(7L);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain cadeia = new MockFilterChain();
+
+        filtro().doFilter(basic("ana@teste.com", "errada"), response, cadeia);
+
+        assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("7");
+        assertThat(response.getContentAsString()).contains("Muitas tentativas");
+        assertThat(cadeia.getRequest()).isNull();
+    }
+
+    @Test
+    @DisplayName("Deve ler o e-mail do login e repassar o corpo intacto ao controller")
+    void login_leEmailERepassaCorpo() throws Exception {
+        String corpo = "{\"email\":\"ana@teste.com\",\"senha\":\"123456\"}";
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", LimiteTentativasLoginFilter.LOGIN);
+        request.setRemoteAddr("10.0.0.1");
+        request.setContent(corpo.getBytes(StandardCharsets.UTF_8));
+        MockFilterChain cadeia = autenticando("ana@teste.com", HttpServletResponse.SC_OK);
+
+        filtro().doFilter(request, new MockHttpServletResponse(), cadeia);
+
+        verify(limitador).reservar("ana@teste.com", "10.0.0.1");
+        verify(limitador).devolver("ana@teste.com", "10.0.0.1");
+        assertThat(new String(cadeia.getRequest().getInputStream().readAllBytes(), StandardCharsets.UTF_8))
+                .isEqualTo(corpo);
+    }
+
+    @Test
+    @DisplayName("Falha de autenticação deve manter a tentativa consumida")
+    void falha_naoDevolve() throws Exception {
+        MockFilterChain cadeia = new MockFilterChain() {
+            @Override
+            public void doFilter(ServletRequest request, ServletResponse response) {
+                ((HttpServletResponse) response).setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+            }
+        };
+
+        filtro().doFilter(basic("ana@teste.com", "errada"), new MockHttpServletResponse(), cadeia);
+
+        verify(limitador).reservar("ana@teste.com", "10.0.0.1");
+        verify(limitador, never()).devolver(any(), any());
+    }
+
+    @Test
+    @DisplayName("Credenciais corretas com erro de negócio (4xx) devem devolver a tentativa")
+    void autenticadoComErroDeNegocio_devolve() throws Exception {
+        filtro().doFilter(basic("ana@teste.com", "senha"), new MockHttpServletResponse(),
+                autenticando("ana@teste.com", HttpServletResponse.SC_CONFLICT));
+
+        verify(limitador).devolver("ana@teste.com", "10.0.0.1");
+    }
+
+    @Test
+    @DisplayName("Resposta 2xx sem autenticação do e-mail tentado deve manter a tentativa consumida")
+    void naoAutenticado_naoDevolve() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", LimiteTentativasLoginFilter.LOGIN);
+        request.setRemoteAddr("10.0.0.1");
+        request.setContent("{\"email\":\"ana@teste.com\",\"senha\":\"errada\"}".getBytes(StandardCharsets.UTF_8));
+
+        filtro().doFilter(request, new MockHttpServletResponse(), autenticando("bia@teste.com", HttpServletResponse.SC_OK));
+
+        verify(limitador, never()).devolver(any(), any());
+    }
+
+    @Test
+    @DisplayName("Credencial já verificada em cache e rotas sem autenticação passam sem limite")
+    void semCustoDeHash_passaDireto() throws Exception {
+        credenciaisCache.principal("ana@teste.com", e -> new CredenciaisCache.PrincipalEmCache(e, "hash"));
+        credenciaisCache.registrarCredencialVerificada("ana@teste.com", "senha", "hash");
+
+        filtro().doFilter(basic("ana@teste.com", "senha"), new MockHttpServletResponse(), new MockFilterChain());
+        filtro().doFilter(new MockHttpServletRequest("GET", "/api/v1/candidatos"),
+                new MockHttpServletResponse(), new MockFilterChain());
+
+        verifyNoInteractions(limitador);
+    }
+}
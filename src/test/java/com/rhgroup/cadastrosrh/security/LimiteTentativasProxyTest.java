@@ -0,0 +1,56 @@
+package com.rhgroup.cadastrosrh.security;
+
+import com.rhgroup.cadastrosrh.CadastrosRhApplication;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Atrás do proxy (loopback, confiável por padrão) o limite por IP deve valer para o cliente do
+ * {@code X-Forwarded-For}, não para o proxy. Roda no Tomcat de verdade: é o RemoteIpValve que resolve o IP.
+ */
+@SpringBootTest(classes = CadastrosRhApplication.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "cadastrosrh.seguranca.tentativas.ip.rajada=2",
+                "cadastrosrh.seguranca.tentativas.ip.por-minuto=1"
+        })
+@ActiveProfiles("h2")
+@DisplayName("Security | Limite de tentativas atrás de proxy")
+class LimiteTentativasProxyTest {
+
+    @LocalServerPort
+    private int porta;
+
+    private final HttpClient cliente = HttpClient.newHttpClient();
+
+    // E-mail diferente a cada tentativa: só o balde do IP entra em jogo.
+    private int login(String ipCliente) throws Exception {
+        String corpo = "{\"email\":\"" + UUID.randomUUID() + "@teste.com\",\"senha\":\"errada\"}";
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + porta + LimiteTentativasLoginFilter.LOGIN))
+                .header("Content-Type", "application/json")
+                .header("X-Forwarded-For", ipCliente)
+                .POST(HttpRequest.BodyPublishers.ofString(corpo))
+                .build();
+        return cliente.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    @Test
+    @DisplayName("Clientes com IPs encaminhados diferentes não devem dividir o mesmo balde")
+    void ipsEncaminhadosDiferentes_baldesSeparados() throws Exception {
+        assertThat(login("203.0.113.10")).isEqualTo(401);
+        assertThat(login("203.0.113.10")).isEqualTo(401);
+        assertThat(login("203.0.113.10")).isEqualTo(429);
+
+        assertThat(login("203.0.113.20")).isEqualTo(401);
+    }
+}
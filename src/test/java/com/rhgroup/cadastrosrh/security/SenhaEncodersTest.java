@@ -0,0 +1,69 @@
+package com.rhgroup.cadastrosrh.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Security | SenhaEncoders")
+class SenhaEncodersTest {
+
+    @Test
+    @DisplayName("Hash BCrypt sem prefixo deve ser aceito e marcado para regravação")
+    void hashSemPrefixo_aceitoERegravado() {
+        PasswordEncoder encoder = SenhaEncoders.delegante(SenhaEncoders.BCRYPT, 4);
+        String legado = new BCryptPasswordEncoder(4).encode("senha");
+
+        assertTrue(encoder.matches("senha", legado));
+        assertFalse(encoder.matches("errada", legado));
+        assertTrue(encoder.upgradeEncoding(legado));
+    }
+
+    @Test
+    @DisplayName("Hash com custo menor que o configurado deve ser marcado para regravação")
+    void custoMenor_regravado() {
+        String custo4 = SenhaEncoders.delegante(SenhaEncoders.BCRYPT, 4).encode("senha");
+        PasswordEncoder encoder = SenhaEncoders.delegante(SenhaEncoders.BCRYPT, 5);
+        String custo5 = encoder.encode("senha");
+
+        assertTrue(custo5.startsWith("{bcrypt}$2a$05$"));
+        assertTrue(encoder.matches("senha", custo4));
+        assertTrue(encoder.upgradeEncoding(custo4));
+        assertFalse(encoder.upgradeEncoding(custo5));
+    }
+
+    @Test
+    @DisplayName("Troca de algoritmo deve aceitar os hashes antigos e regravá-los")
+    void trocaDeAlgoritmo() {
+        String bcrypt = SenhaEncoders.delegante(SenhaEncoders.BCRYPT, 4).encode("senha");
+        PasswordEncoder encoder = SenhaEncoders.delegante(SenhaEncoders.PBKDF2, 4);
+
+        assertTrue(encoder.encode("senha").startsWith("{pbkdf2}"));
+        assertTrue(encoder.matches("senha", bcrypt));
+        assertTrue(encoder.upgradeEncoding(bcrypt));
+    }
+
+    @Test
+    @DisplayName("Algoritmo desconhecido deve falhar na inicialização")
+    void algoritmoDesconhecido() {
+        assertThrows(IllegalArgumentException.class, () -> SenhaEncoders.delegante("md5", 10));
+    }
+
+    @Test
+    @DisplayName("Calibração deve escolher o maior custo dentro do alvo")
+    void calibracao_maiorCustoDentroDoAlvo() {
+        List<String> saida = new ArrayList<>();
+        // 1 ms no custo 4, dobrando a cada ponto: custo 11 = 128 ms, custo 12 = 256 ms.
+        int custo = CalibracaoCustoSenha.calibrar(Duration.ofMillis(250),
+                c -> 1_000_000L << (c - CalibracaoCustoSenha.CUSTO_MINIMO), saida::add);
+
+        assertEquals(11, custo);
+        assertEquals(9, saida.size());
+    }
+}
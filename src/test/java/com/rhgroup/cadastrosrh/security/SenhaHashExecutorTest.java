@@ -0,0 +1,96 @@
+package com.rhgroup.cadastrosrh.security;
+
+import com.rhgroup.cadastrosrh.exception.ServicoIndisponivelException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("Security | SenhaHashExecutor")
+class SenhaHashExecutorTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final SenhaHashExecutor executor = new SenhaHashExecutor(1, 1, Duration.ofSeconds(2), registry);
+
+    @AfterEach
+    void tearDown() {
+        executor.destroy();
+    }
+
+    @Test
+    @DisplayName("Deve executar a tarefa em uma thread do pool e medir a duração")
+    void executar_noPool() {
+        String thread = executor.executar(() -> Thread.currentThread().getName());
+
+        assertThat(thread).startsWith("senha-hash-");
+        assertThat(registry.get("senha.hash.duracao").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Chamadas aninhadas devem rodar na própria thread do pool, sem reenfileirar")
+    void executar_aninhado() {
+        String thread = executor.executar(() -> executor.executar(() -> Thread.currentThread().getName()));
+
+        assertThat(thread).startsWith("senha-hash-");
+    }
+
+    @Test
+    @DisplayName("Deve recusar com 503 quando a fila estiver cheia")
+    void submeter_filaCheia() throws Exception {
+        CountDownLatch ocupado = new CountDownLatch(1);
+        CountDownLatch liberar = new CountDownLatch(1);
+        executor.submeter(() -> {
+            ocupado.countDown();
+            return aguardar(liberar);
+        });
+        assertThat(ocupado.await(2, TimeUnit.SECONDS)).isTrue();
+        executor.submeter(() -> aguardar(liberar)); // ocupa a única posição da fila
+
+        ServicoIndisponivelException ex = assertThrows(ServicoIndisponivelException.class,
+                () -> executor.submeter(() -> "recusada"));
+
+        assertThat(ex.getTentarNovamenteEmSegundos()).isEqualTo(2);
+        assertThat(registry.get("senha.hash.rejeitadas").counter().count()).isEqualTo(1);
+        assertThat(registry.get("senha.hash.fila").gauge().value()).isEqualTo(1);
+        liberar.countDown();
+    }
+
+    @Test
+    @DisplayName("Trabalho em lote deve esperar uma posição na fila em vez de recusar")
+    void submeterAguardandoVaga_filaCheia() throws Exception {
+        CountDownLatch ocupado = new CountDownLatch(1);
+        CountDownLatch liberar = new CountDownLatch(1);
+        executor.submeter(() -> {
+            ocupado.countDown();
+            return aguardar(liberar);
+        });
+        assertThat(ocupado.await(2, TimeUnit.SECONDS)).isTrue();
+        executor.submeter(() -> aguardar(liberar));
+
+        CompletableFuture<CompletableFuture<String>> lote = CompletableFuture.supplyAsync(
+                () -> executor.submeterAguardandoVaga(() -> "aceita"));
+        Thread.sleep(50);
+        assertThat(lote).isNotDone();
+
+        liberar.countDown();
+        assertThat(lote.get(2, TimeUnit.SECONDS).get(2, TimeUnit.SECONDS)).isEqualTo("aceita");
+        assertThat(registry.get("senha.hash.rejeitadas").counter().count()).isZero();
+    }
+
+    private static boolean aguardar(CountDownLatch latch) {
+        try {
+            return latch.await(2, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.rhgroup.cadastrosrh.service;
+
+import com.rhgroup.cadastrosrh.dto.CandidatoResponseDTO;
+import com.rhgroup.cadastrosrh.dto.ResultadoBuscaDTO;
+import com.rhgroup.cadastrosrh.model.CurriculoTexto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Service | BuscaCandidatoIndiceMemoria")
+class BuscaCandidatoIndiceMemoriaTest {
+
+    private final BuscaCandidatoIndiceMemoria indice = new BuscaCandidatoIndiceMemoria(null, null, null);
+
+    private final UUID ana = UUID.randomUUID();
+    private final UUID bia = UUID.randomUUID();
+    private final UUID caio = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        indice.atualizar(ana, "Ana Java", "Desenvolvimento backend sênior em Java e Spring");
+        indice.atualizar(bia, "Bia Souza", "Front-end com React; backend Java júnior");
+        indice.atualizar(caio, "Caio Lima", "Análise de dados e BI");
+    }
+
+    private static List<UUID> ids(List<ResultadoBuscaDTO> resultados) {
+        return resultados.stream().map(ResultadoBuscaDTO::id).toList();
+    }
+
+    @Test
+    @DisplayName("Deve ignorar acentos e exigir todos os termos")
+    void buscar_semAcentosTodosOsTermos() {
+        assertThat(ids(indice.buscar("java backend senior", 10))).containsExactly(ana);
+        assertThat(ids(indice.buscar("ANÁLISES", 10))).containsExactly(caio);
+        assertThat(ids(indice.buscar("java kotlin", 10))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve ranquear acima quem tem o termo no nome")
+    void buscar_nomePesaMais() {
+        List<ResultadoBuscaDTO> resultados = indice.buscar("java", 10);
+
+        assertThat(ids(resultados)).containsExactly(ana, bia);
+        assertThat(resultados.get(0).relevancia()).isGreaterThan(resultados.get(1).relevancia());
+    }
+
+    @Test
+    @DisplayName("Deve devolver apenas os K melhores")
+    void buscar_topK() {
+        assertThat(ids(indice.buscar("backend", 1))).containsExactly(ana);
+    }
+
+    @Test
+    @DisplayName("Deve refletir atualizações e remoções")
+    void atualizarERemover() {
+        indice.atualizar(caio, "Caio Lima", "Backend em Go");
+        indice.remover(ana);
+
+        assertThat(ids(indice.buscar("backend", 10))).containsExactlyInAnyOrder(bia, caio);
+        assertThat(ids(indice.buscar("dados", 10))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Escritas durante a carga prevalecem sobre a linha lida do banco")
+    void carregar_escritasConcorrentesPrevalecem() {
+        UUID dani = UUID.randomUUID();
+        Stream<CandidatoResponseDTO> linhas = Stream.of(linha(ana, "Ana Java", "Java"), linha(dani, "Dani", "Python"))
+                .peek(l -> {
+                    if (l.getId().equals(ana)) indice.remover(dani);
+                });
+
+        long carregados = indice.carregar(linhas);
+
+        assertThat(carregados).isEqualTo(1);
+        assertThat(ids(indice.buscar("python", 10))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve encontrar termos do currículo, com peso abaixo da área de interesse")
+    void atualizarCurriculo_entraNaBusca() {
+        indice.atualizarCurriculo(caio, "Experiência com Kubernetes e Java em produção");
+
+        assertThat(ids(indice.buscar("kubernetes", 10))).containsExactly(caio);
+        assertThat(ids(indice.buscar("java", 10))).containsExactly(ana, bia, caio);
+        assertThat(ids(indice.buscar("dados kubernetes", 10))).containsExactly(caio);
+    }
+
+    @Test
+    @DisplayName("Currículo deve sobreviver à edição do candidato e sair com null")
+    void atualizarCurriculo_preservadoNaEdicao() {
+        indice.atualizarCurriculo(caio, "Kubernetes");
+        indice.atualizar(caio, "Caio Lima", "Backend em Go");
+        assertThat(ids(indice.buscar("kubernetes", 10))).containsExactly(caio);
+
+        indice.atualizarCurriculo(caio, null);
+        assertThat(ids(indice.buscar("kubernetes", 10))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Currículo atualizado durante a carga prevalece sobre o texto lido do banco")
+    void carregarCurriculos_escritasConcorrentesPrevalecem() {
+        Stream<CurriculoTexto> linhas = Stream.of(texto(ana, "Terraform"), texto(caio, "Kubernetes"))
+                .peek(t -> {
+                    if (t.getCandidatoId().equals(ana)) indice.atualizarCurriculo(caio, "Ansible");
+                });
+
+        long carregados = indice.carregarCurriculos(linhas);
+
+        assertThat(carregados).isEqualTo(1);
+        assertThat(ids(indice.buscar("terraform", 10))).containsExactly(ana);
+        assertThat(ids(indice.buscar("kubernetes", 10))).isEmpty();
+        assertThat(ids(indice.buscar("ansible", 10))).containsExactly(caio);
+    }
+
+    private static CurriculoTexto texto(UUID id, String texto) {
+        return new CurriculoTexto(id, "hash", texto, LocalDateTime.now());
+    }
+
+    private static CandidatoResponseDTO linha(UUID id, String nome, String areaInteresse) {
+        CandidatoResponseDTO dto = new CandidatoResponseDTO();
+        dto.setId(id);
+        dto.setNome(nome);
+        dto.setAreaInteresse(areaInteresse);
+        return dto;
+    }
+}
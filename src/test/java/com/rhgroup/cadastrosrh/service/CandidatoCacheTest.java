@@ -0,0 +1,84 @@
+package com.rhgroup.cadastrosrh.service;
+
+import com.rhgroup.cadastrosrh.dto.CandidatoResponseDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Service | CandidatoCache")
+class CandidatoCacheTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final CandidatoCache cache = new CandidatoCache(100, Duration.ofMinutes(1), registry);
+    private final UUID id = UUID.randomUUID();
+    private final AtomicInteger carregamentos = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private CandidatoResponseDTO carregar(UUID chave) {
+        carregamentos.incrementAndGet();
+        CandidatoResponseDTO dto = new CandidatoResponseDTO();
+        dto.setId(chave);
+        return dto;
+    }
+
+    @Test
+    @DisplayName("Deve remover a entrada apenas depois do commit")
+    void invalidar_aposCommit() {
+        cache.buscar(id, this::carregar);
+
+        cache.invalidarAposCommit(id);
+        cache.buscar(id, this::carregar);
+        assertThat(carregamentos).hasValue(1);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        cache.buscar(id, this::carregar);
+        assertThat(carregamentos).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Rollback não deve remover a entrada")
+    void invalidar_rollback() {
+        cache.buscar(id, this::carregar);
+
+        cache.invalidarAposCommit(id);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        TransactionSynchronizationManager.clearSynchronization();
+
+        cache.buscar(id, this::carregar);
+        assertThat(carregamentos).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Deve publicar hits e misses")
+    void metricas() {
+        cache.buscar(id, this::carregar);
+        cache.buscar(id, this::carregar);
+
+        assertThat(registry.get("cache.gets").tag("cache", "candidatos").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get("cache.gets").tag("cache", "candidatos").tag("result", "miss")
+                .functionCounter().count()).isEqualTo(1);
+    }
+}
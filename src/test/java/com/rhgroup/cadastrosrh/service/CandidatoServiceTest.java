@@ -2,26 +2,51 @@ package com.rhgroup.cadastrosrh.service;
 
 import com.rhgroup.cadastrosrh.dto.CandidatoCreateDTO;
 import com.rhgroup.cadastrosrh.dto.CandidatoPatchDTO;
+import com.rhgroup.cadastrosrh.dto.CandidatoResponseDTO;
 import com.rhgroup.cadastrosrh.dto.CandidatoSenhaDTO;
 import com.rhgroup.cadastrosrh.dto.CandidatoUpdateDTO;
+import com.rhgroup.cadastrosrh.dto.FiltroCandidatoDTO;
+import com.rhgroup.cadastrosrh.dto.MudancaStatusItemDTO;
+import com.rhgroup.cadastrosrh.dto.MudancaStatusLoteDTO;
+import com.rhgroup.cadastrosrh.dto.MudancaStatusResultadoDTO;
+import com.rhgroup.cadastrosrh.dto.OrdenacaoCandidato;
+import com.rhgroup.cadastrosrh.dto.PaginaCursorDTO;
+import com.rhgroup.cadastrosrh.dto.ResultadoMudancaStatus;
+import com.rhgroup.cadastrosrh.dto.StatusAtualDTO;
+import com.rhgroup.cadastrosrh.exception.ConflitoUnicidadeException;
 import com.rhgroup.cadastrosrh.exception.NotFoundException;
+import com.rhgroup.cadastrosrh.exception.RequisicaoInvalidaException;
 import com.rhgroup.cadastrosrh.model.Candidato;
 import com.rhgroup.cadastrosrh.model.StatusCandidato;
 import com.rhgroup.cadastrosrh.repository.CandidatoRepository;
+import com.rhgroup.cadastrosrh.security.CredenciaisCache;
+import com.rhgroup.cadastrosrh.security.EmissorTokens;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -34,6 +59,27 @@ class CandidatoServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private CredenciaisCache credenciaisCache;
+
+    @Mock
+    private BuscaCandidatoIndice indiceBusca;
+
+    @Mock
+    private ContadorStatusCandidato contadorStatus;
+
+    @Mock
+    private CurriculoService curriculoService;
+
+    @Mock
+    private FiltroUnicidadeCandidato unicidade;
+
+    @Mock
+    private EmissorTokens emissorTokens;
+
+    @Spy
+    private CandidatoCache candidatoCache = new CandidatoCache(100, Duration.ofMinutes(1), new SimpleMeterRegistry());
+
     @InjectMocks
     private CandidatoService service;
 
@@ -50,6 +96,7 @@ class CandidatoServiceTest {
                 .email("ana@teste.com")
                 .senhaHash("{bcrypt}senha123")
                 .status(StatusCandidato.CANDIDATO)
+                .criadoEm(LocalDateTime.of(2024, 1, 10, 9, 30))
                 .build();
     }
 
@@ -92,38 +139,166 @@ class CandidatoServiceTest {
 
         verify(passwordEncoder).encode("nova_senha");
         verify(repository).save(any(Candidato.class));
+        verify(unicidade).registrar(any(), any());
     }
 
     @Test
-    @DisplayName("Deve listar todos os candidatos")
-    void listarTodos_sucesso() {
-        when(repository.findAll()).thenReturn(List.of(candidato));
+    @DisplayName("Deve recusar CPF já cadastrado antes de calcular o hash da senha")
+    void criar_cpfDuplicado() {
+        CandidatoCreateDTO createDTO = buildCreateDTO();
+        createDTO.setCpf("39053344705");
+        when(unicidade.existeCpf("39053344705")).thenReturn(true);
 
-        List<?> resultado = service.listarTodos();
+        ConflitoUnicidadeException ex = assertThrows(ConflitoUnicidadeException.class, () -> service.criar(createDTO));
 
-        assertFalse(resultado.isEmpty());
-        assertEquals(1, resultado.size());
-        verify(repository).findAll();
+        assertEquals("CPF já cadastrado", ex.getMessage());
+        verifyNoInteractions(passwordEncoder);
+        verify(repository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Violação de UNIQUE no INSERT deve virar ConflitoUnicidadeException")
+    void criar_violacaoUnique() {
+        CandidatoCreateDTO createDTO = buildCreateDTO();
+        when(passwordEncoder.encode(createDTO.getSenha())).thenReturn("senha_hashed");
+        doThrow(new DataIntegrityViolationException("insert",
+                new SQLException("Unique index or primary key violation: CANDIDATOS(EMAIL)", "23505")))
+                .when(repository).flush();
+
+        ConflitoUnicidadeException ex = assertThrows(ConflitoUnicidadeException.class, () -> service.criar(createDTO));
+
+        assertEquals("E-mail já cadastrado", ex.getMessage());
+        verify(unicidade, never()).registrar(any(), any());
+    }
+
+    @Test
+    @DisplayName("Deve listar a primeira página sem próximo cursor")
+    void listar_primeiraPagina() {
+        when(repository.findPrimeirosPorCriadoEm(any(Pageable.class)))
+                .thenReturn(List.of(CandidatoResponseDTO.fromEntity(candidato)));
+
+        PaginaCursorDTO<CandidatoResponseDTO> resultado = service.listar(null, null, null);
+
+        assertEquals(1, resultado.itens().size());
+        assertEquals(20, resultado.tamanho());
+        assertNull(resultado.proximoCursor());
+        verify(repository).findPrimeirosPorCriadoEm(PageRequest.ofSize(21));
+    }
+
+    @Test
+    @DisplayName("Deve devolver cursor quando houver mais registros e continuar a partir dele")
+    void listar_seguePeloCursor() {
+        Candidato segundo = candidato.toBuilder()
+                .id(UUID.randomUUID())
+                .criadoEm(candidato.getCriadoEm().plusSeconds(1))
+                .build();
+        when(repository.findPrimeirosPorNome(any(Pageable.class))).thenReturn(List.of(
+                CandidatoResponseDTO.fromEntity(candidato), CandidatoResponseDTO.fromEntity(segundo)));
+
+        PaginaCursorDTO<CandidatoResponseDTO> primeira = service.listar(null, 1, OrdenacaoCandidato.NOME);
+
+        assertEquals(1, primeira.itens().size());
+        assertNotNull(primeira.proximoCursor());
+
+        when(repository.findProximosPorNome(eq("Ana Viana"), eq(id), any(Pageable.class)))
+                .thenReturn(List.of(CandidatoResponseDTO.fromEntity(segundo)));
+
+        PaginaCursorDTO<CandidatoResponseDTO> segunda = service.listar(primeira.proximoCursor(), 1, OrdenacaoCandidato.NOME);
+
+        assertEquals(segundo.getId(), segunda.itens().get(0).getId());
+        assertNull(segunda.proximoCursor());
+    }
+
+    @Test
+    @DisplayName("Deve limitar o tamanho da página ao máximo permitido")
+    void listar_limitaTamanho() {
+        when(repository.findPrimeirosPorCriadoEm(any(Pageable.class))).thenReturn(List.of());
+
+        PaginaCursorDTO<CandidatoResponseDTO> resultado = service.listar(null, 10_000, OrdenacaoCandidato.CRIADO_EM);
+
+        assertEquals(100, resultado.tamanho());
+        verify(repository).findPrimeirosPorCriadoEm(PageRequest.ofSize(101));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar cursor inválido ou de outra ordenação")
+    void listar_cursorInvalido() {
+        String cursorDeCriadoEm = new CursorCandidato(OrdenacaoCandidato.CRIADO_EM,
+                candidato.getCriadoEm().toString(), id).codificar();
+
+        assertThrows(RequisicaoInvalidaException.class,
+                () -> service.listar("não-é-base64", null, OrdenacaoCandidato.CRIADO_EM));
+        assertThrows(RequisicaoInvalidaException.class,
+                () -> service.listar(cursorDeCriadoEm, null, OrdenacaoCandidato.NOME));
+        verifyNoInteractions(repository);
     }
 
     @Test
     @DisplayName("Deve buscar candidato por ID e retornar DTO")
     void buscarPorId_sucesso() {
-        when(repository.findById(id)).thenReturn(Optional.of(candidato));
+        when(repository.findRespostaById(id)).thenReturn(Optional.of(CandidatoResponseDTO.fromEntity(candidato)));
 
-        assertDoesNotThrow(() -> service.buscarPorId(id));
+        CandidatoResponseDTO resposta = service.buscarPorId(id);
 
-        verify(repository).findById(id);
+        assertEquals("Ana Viana", resposta.getNome());
+        assertNull(resposta.getCpf());
+        verify(repository).findRespostaById(id);
+        verify(repository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("Deve servir buscas repetidas do cache até uma escrita invalidar a entrada")
+    void buscarPorId_usaCacheAteEscrita() {
+        when(repository.findRespostaById(id)).thenReturn(Optional.of(CandidatoResponseDTO.fromEntity(candidato)));
+        when(repository.travarStatus(List.of(id))).thenReturn(List.of(new StatusAtualDTO(id, StatusCandidato.CANDIDATO)));
+        when(repository.atualizarParcial(eq(id), any(CandidatoPatchDTO.class), any())).thenReturn(1);
+
+        service.buscarPorId(id);
+        service.buscarPorId(id);
+        verify(repository, times(1)).findRespostaById(id);
+
+        service.atualizarParcial(id, buildPatchDTO());
+        service.buscarPorId(id);
+
+        verify(candidatoCache).invalidarAposCommit(id);
+        // Leitura da resposta do PATCH + recarga depois da invalidação.
+        verify(repository, times(3)).findRespostaById(id);
+    }
+
+    @Test
+    @DisplayName("Deve filtrar pedindo um item a mais e rejeitar faixas invertidas")
+    void filtrar_validaFaixas() {
+        when(repository.filtrar(any(), eq(11))).thenReturn(List.of(CandidatoResponseDTO.fromEntity(candidato)));
+        FiltroCandidatoDTO filtro = new FiltroCandidatoDTO();
+        filtro.setStatus(StatusCandidato.CANDIDATO);
+        filtro.setExperienciaMin(2);
+
+        PaginaCursorDTO<CandidatoResponseDTO> pagina = service.filtrar(filtro, null, 10);
+
+        assertEquals(1, pagina.itens().size());
+        assertNull(pagina.proximoCursor());
+
+        filtro.setExperienciaMax(1);
+        assertThrows(RequisicaoInvalidaException.class, () -> service.filtrar(filtro, null, 10));
+    }
+
+    @Test
+    @DisplayName("Deve delegar a busca textual ao índice limitando o número de resultados")
+    void buscarTexto_delegaAoIndice() {
+        service.buscarTexto("  java backend  ", 1_000);
+
+        verify(indiceBusca).buscar("java backend", 100);
+        assertThrows(RequisicaoInvalidaException.class, () -> service.buscarTexto(" ", null));
     }
 
     @Test
     @DisplayName("Deve lançar NotFoundException ao buscar ID inexistente")
     void buscarPorId_notFound() {
-        when(repository.findById(id)).thenReturn(Optional.empty());
+        when(repository.findRespostaById(id)).thenReturn(Optional.empty());
 
         assertThrows(NotFoundException.class, () -> service.buscarPorId(id));
 
-        verify(repository).findById(id);
+        verify(repository).findRespostaById(id);
     }
 
     @Test
@@ -139,6 +314,8 @@ class CandidatoServiceTest {
         assertEquals("Fullstack", candidato.getAreaInteresse());
         verify(repository).findById(id);
         verify(repository).save(candidato);
+        verify(candidatoCache).invalidarAposCommit(id);
+        verify(indiceBusca).atualizar(id, "Nome Atualizado", "Fullstack");
     }
 
     @Test
@@ -153,17 +330,50 @@ class CandidatoServiceTest {
     }
 
     @Test
-    @DisplayName("Deve atualizar parcialmente campos (PATCH) com sucesso")
+    @DisplayName("Deve atualizar parcialmente campos (PATCH) com um UPDATE, sem carregar a entidade")
     void atualizarParcial_sucesso() {
         CandidatoPatchDTO patchDTO = buildPatchDTO();
-        when(repository.findById(id)).thenReturn(Optional.of(candidato));
-        when(repository.save(any(Candidato.class))).thenReturn(candidato);
+        CandidatoResponseDTO atualizado = CandidatoResponseDTO.fromEntity(candidato);
+        atualizado.setNome("Nome Parcial");
+        atualizado.setStatus(StatusCandidato.APROVADO);
+        when(repository.travarStatus(List.of(id))).thenReturn(List.of(new StatusAtualDTO(id, StatusCandidato.CANDIDATO)));
+        when(repository.atualizarParcial(eq(id), eq(patchDTO), any())).thenReturn(1);
+        when(repository.findRespostaById(id)).thenReturn(Optional.of(atualizado));
+
+        CandidatoResponseDTO resposta = service.atualizarParcial(id, patchDTO);
+
+        assertEquals("Nome Parcial", resposta.getNome());
+        assertEquals(StatusCandidato.APROVADO, resposta.getStatus());
+        verify(repository, never()).findById(any());
+        verify(repository, never()).save(any());
+        verify(contadorStatus).registrarMudanca(StatusCandidato.CANDIDATO, StatusCandidato.APROVADO);
+        verify(indiceBusca).atualizar(id, "Nome Parcial", atualizado.getAreaInteresse());
+    }
+
+    @Test
+    @DisplayName("PATCH sem status não deve ler o status anterior nem mexer nos contadores")
+    void atualizarParcial_semStatus() {
+        CandidatoPatchDTO patchDTO = new CandidatoPatchDTO();
+        patchDTO.setCelular("11988887777");
+        when(repository.atualizarParcial(eq(id), eq(patchDTO), any())).thenReturn(1);
+        when(repository.findRespostaById(id)).thenReturn(Optional.of(CandidatoResponseDTO.fromEntity(candidato)));
 
         service.atualizarParcial(id, patchDTO);
 
-        assertEquals("Nome Parcial", candidato.getNome());
-        assertEquals(StatusCandidato.APROVADO, candidato.getStatus());
-        verify(repository).save(candidato);
+        verify(repository, never()).travarStatus(any());
+        verifyNoInteractions(contadorStatus, indiceBusca);
+    }
+
+    @Test
+    @DisplayName("PATCH deve retornar 404 quando o UPDATE não afetar nenhuma linha")
+    void atualizarParcial_notFound() {
+        CandidatoPatchDTO patchDTO = new CandidatoPatchDTO();
+        patchDTO.setNome("Ninguém");
+        when(repository.atualizarParcial(eq(id), eq(patchDTO), any())).thenReturn(0);
+
+        assertThrows(NotFoundException.class, () -> service.atualizarParcial(id, patchDTO));
+        verify(repository, never()).findRespostaById(any());
+        verifyNoInteractions(indiceBusca);
     }
 
     @Test
@@ -178,6 +388,10 @@ class CandidatoServiceTest {
 
         verify(passwordEncoder).encode("nova_senha_forte");
         assertEquals("nova_hash", candidato.getSenhaHash());
+        verify(credenciaisCache).invalidar("ana@teste.com");
+        verify(candidatoCache).invalidarAposCommit(id);
+        assertEquals(1, candidato.getTokenVersao());
+        verify(emissorTokens).revogar("ana@teste.com", 1);
     }
 
     @Test
@@ -190,6 +404,7 @@ class CandidatoServiceTest {
         assertThrows(IllegalArgumentException.class, () -> service.atualizarSenha(id, dto));
 
         verify(repository, never()).save(any());
+        verifyNoInteractions(credenciaisCache);
     }
 
     @Test
@@ -202,6 +417,12 @@ class CandidatoServiceTest {
 
         verify(repository).findById(id);
         verify(repository).delete(candidato);
+        verify(indiceBusca).remover(id);
+        verify(contadorStatus).registrarRemocao(StatusCandidato.CANDIDATO);
+        verify(credenciaisCache).invalidar("ana@teste.com");
+        verify(candidatoCache).invalidarAposCommit(id);
+        verify(curriculoService).liberarAposCommit(candidato.getCurriculoHash(), candidato.getCurriculoUrl());
+        verify(unicidade).removerAposCommit("ana@teste.com", candidato.getCpf());
     }
 
     @Test
@@ -214,4 +435,70 @@ class CandidatoServiceTest {
         verify(repository).findById(id);
         verify(repository, never()).delete(any());
     }
-}
\ No newline at end of file
+
+    private static MudancaStatusLoteDTO mudanca(List<UUID> ids, FiltroCandidatoDTO filtro, StatusCandidato status) {
+        MudancaStatusLoteDTO dto = new MudancaStatusLoteDTO();
+        dto.setIds(ids);
+        dto.setFiltro(filtro);
+        dto.setStatus(status);
+        return dto;
+    }
+
+    @Test
+    @DisplayName("Mudança de status em lote deve atualizar só quem muda e informar o desfecho de cada id")
+    void mudarStatusEmLote_desfechoPorId() {
+        UUID emTriagem = UUID.randomUUID();
+        UUID jaNoStatus = UUID.randomUUID();
+        UUID inexistente = UUID.randomUUID();
+        when(repository.travarStatus(any())).thenReturn(List.of(
+                new StatusAtualDTO(emTriagem, StatusCandidato.TRIAGEM),
+                new StatusAtualDTO(jaNoStatus, StatusCandidato.EM_ENTREVISTA)));
+
+        MudancaStatusResultadoDTO resultado = service.mudarStatusEmLote(mudanca(
+                List.of(emTriagem, jaNoStatus, inexistente, emTriagem), null, StatusCandidato.EM_ENTREVISTA));
+
+        verify(repository).atualizarStatus(eq(List.of(emTriagem)), eq(StatusCandidato.EM_ENTREVISTA), any());
+        assertEquals(1, resultado.alterados());
+        assertEquals(1, resultado.inalterados());
+        assertEquals(1, resultado.naoEncontrados());
+        assertEquals(List.of(
+                new MudancaStatusItemDTO(emTriagem, ResultadoMudancaStatus.ALTERADO, StatusCandidato.TRIAGEM),
+                new MudancaStatusItemDTO(jaNoStatus, ResultadoMudancaStatus.JA_NO_STATUS, StatusCandidato.EM_ENTREVISTA),
+                new MudancaStatusItemDTO(inexistente, ResultadoMudancaStatus.NAO_ENCONTRADO, null)),
+                resultado.resultados());
+        verify(contadorStatus).registrarMudancas(StatusCandidato.TRIAGEM, StatusCandidato.EM_ENTREVISTA, 1);
+        verify(candidatoCache).invalidarAposCommit(List.of(emTriagem));
+        verify(repository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Mudança de status em lote deve usar um SELECT e um UPDATE por lote de ids")
+    void mudarStatusEmLote_emLotes() {
+        List<UUID> ids = Stream.generate(UUID::randomUUID).limit(1_200).toList();
+        when(repository.travarStatus(any())).thenAnswer(inv -> inv.<Collection<UUID>>getArgument(0).stream()
+                .map(i -> new StatusAtualDTO(i, StatusCandidato.TRIAGEM))
+                .toList());
+
+        MudancaStatusResultadoDTO resultado = service.mudarStatusEmLote(mudanca(ids, null, StatusCandidato.REPROVADO));
+
+        assertEquals(1_200, resultado.alterados());
+        verify(repository, times(3)).travarStatus(any());
+        verify(repository, times(3)).atualizarStatus(any(), eq(StatusCandidato.REPROVADO), any());
+        verify(contadorStatus).registrarMudancas(StatusCandidato.TRIAGEM, StatusCandidato.REPROVADO, 1_200);
+    }
+
+    @Test
+    @DisplayName("Mudança de status em lote deve exigir ids ou um filtro com critério")
+    void mudarStatusEmLote_pedidoInvalido() {
+        FiltroCandidatoDTO triagem = new FiltroCandidatoDTO();
+        triagem.setStatus(StatusCandidato.TRIAGEM);
+
+        assertThrows(RequisicaoInvalidaException.class, () -> service.mudarStatusEmLote(
+                mudanca(List.of(id), triagem, StatusCandidato.REPROVADO)));
+        assertThrows(RequisicaoInvalidaException.class, () -> service.mudarStatusEmLote(
+                mudanca(null, new FiltroCandidatoDTO(), StatusCandidato.REPROVADO)));
+        assertThrows(RequisicaoInvalidaException.class, () -> service.mudarStatusEmLote(
+                mudanca(List.of(id), null, null)));
+        verifyNoInteractions(repository);
+    }
+}
@@ -0,0 +1,92 @@
+package com.rhgroup.cadastrosrh.service;
+
+import com.rhgroup.cadastrosrh.dto.ContagemStatusDTO;
+import com.rhgroup.cadastrosrh.dto.ResumoStatusDTO;
+import com.rhgroup.cadastrosrh.model.StatusCandidato;
+import com.rhgroup.cadastrosrh.repository.CandidatoRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Service | ContadorStatusCandidato")
+class ContadorStatusCandidatoTest {
+
+    private final CandidatoRepository repository = mock(CandidatoRepository.class);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final ContadorStatusCandidato contador = new ContadorStatusCandidato(repository, registry);
+
+    @Test
+    @DisplayName("Deve refletir criações, mudanças de status e remoções")
+    void variacoes() {
+        contador.registrarCriacao(StatusCandidato.CANDIDATO);
+        contador.registrarCriacao(StatusCandidato.CANDIDATO);
+        contador.registrarMudanca(StatusCandidato.CANDIDATO, StatusCandidato.TRIAGEM);
+        contador.registrarRemocao(StatusCandidato.CANDIDATO);
+
+        ResumoStatusDTO resumo = contador.resumo();
+
+        assertThat(resumo.porStatus())
+                .containsEntry(StatusCandidato.CANDIDATO, 0L)
+                .containsEntry(StatusCandidato.TRIAGEM, 1L)
+                .containsEntry(StatusCandidato.APROVADO, 0L);
+        assertThat(resumo.total()).isEqualTo(1);
+        assertThat(registry.get("candidatos.status").tag("status", "TRIAGEM").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Reconciliação deve adotar o banco e contar a divergência")
+    void reconciliar_adotaBanco() {
+        when(repository.contarPorStatus()).thenReturn(List.of());
+        contador.reconciliar(); // primeira carga não conta como divergência
+        contador.registrarCriacao(StatusCandidato.APROVADO); // divergente: não existe no banco
+        when(repository.contarPorStatus()).thenReturn(List.of(new ContagemStatusDTO(StatusCandidato.CANDIDATO, 7)));
+
+        contador.reconciliar();
+
+        assertThat(contador.resumo().porStatus())
+                .containsEntry(StatusCandidato.CANDIDATO, 7L)
+                .containsEntry(StatusCandidato.APROVADO, 0L);
+        assertThat(registry.get("candidatos.status.divergencias").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Escrita durante a consulta deve descartar a contagem e repetir, sem contar em dobro")
+    void reconciliar_escritaConcorrente_repete() {
+        when(repository.contarPorStatus())
+                .thenAnswer(inv -> {
+                    // commitou antes do snapshot: já está na contagem, o delta chega depois
+                    contador.registrarCriacao(StatusCandidato.TRIAGEM);
+                    return List.of(new ContagemStatusDTO(StatusCandidato.TRIAGEM, 4));
+                })
+                .thenReturn(List.of(new ContagemStatusDTO(StatusCandidato.TRIAGEM, 4)));
+
+        contador.reconciliar();
+
+        assertThat(contador.resumo().porStatus()).containsEntry(StatusCandidato.TRIAGEM, 4L);
+        verify(repository, times(2)).contarPorStatus();
+    }
+
+    @Test
+    @DisplayName("Escritas em todas as tentativas devem adiar a reconciliação para o próximo ciclo")
+    void reconciliar_escritasContinuas_adia() {
+        when(repository.contarPorStatus()).thenAnswer(inv -> {
+            contador.registrarCriacao(StatusCandidato.TRIAGEM);
+            return List.of(new ContagemStatusDTO(StatusCandidato.TRIAGEM, 99));
+        });
+
+        contador.reconciliar();
+
+        ResumoStatusDTO resumo = contador.resumo();
+        assertThat(resumo.porStatus()).containsEntry(StatusCandidato.TRIAGEM, 3L);
+        assertThat(resumo.reconciliadoEm()).isNull();
+        assertThat(registry.get("candidatos.status.divergencias").counter().count()).isZero();
+    }
+}
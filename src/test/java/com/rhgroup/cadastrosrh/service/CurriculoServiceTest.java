@@ -0,0 +1,282 @@
+package com.rhgroup.cadastrosrh.service;
+
+import com.rhgroup.cadastrosrh.dto.CurriculoDTO;
+import com.rhgroup.cadastrosrh.exception.TipoArquivoNaoSuportadoException;
+import com.rhgroup.cadastrosrh.model.Candidato;
+import com.rhgroup.cadastrosrh.repository.CandidatoRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Service | CurriculoService")
+class CurriculoServiceTest {
+
+    @Mock
+    private CandidatoRepository repository;
+
+    @Mock
+    private CandidatoCache candidatoCache;
+
+    @Mock
+    private ExtracaoCurriculoService extracao;
+
+    @TempDir
+    Path diretorio;
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private ArmazenamentoLocalCurriculo armazenamento;
+    private CurriculoService service;
+
+    private final UUID id = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        armazenamento = new ArmazenamentoLocalCurriculo(diretorio);
+        service = new CurriculoService(repository, armazenamento, candidatoCache, extracao, DataSize.ofKilobytes(1), registry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private double envios(String resultado) {
+        return registry.get("curriculos.envios").tag("resultado", resultado).counter().count();
+    }
+
+    private static MockMultipartFile arquivo(String nome, String contentType, String conteudo) {
+        return new MockMultipartFile("arquivo", nome, contentType, conteudo.getBytes(StandardCharsets.ISO_8859_1));
+    }
+
+    @Test
+    @DisplayName("Deve gravar o arquivo, preencher os metadados e remover o currículo anterior")
+    void enviar_gravaArquivoEMetadados() throws Exception {
+        Candidato candidato = Candidato.builder().id(id).curriculoUrl(id + "/antigo").build();
+        Files.createDirectories(diretorio.resolve(id.toString()));
+        Files.writeString(diretorio.resolve(id + "/antigo"), "%PDF-antigo");
+        when(repository.travarPorId(id)).thenReturn(Optional.of(candidato));
+
+        CurriculoDTO dto = service.enviar(id, arquivo("C:\\docs\\cv.pdf", "application/pdf", "%PDF-1.7 novo"));
+
+        assertThat(Files.readString(armazenamento.resolver(dto.chave()))).isEqualTo("%PDF-1.7 novo");
+        assertThat(dto.sha256()).isEqualTo(sha256("%PDF-1.7 novo"));
+        assertThat(dto.chave()).isEqualTo("sha256/" + dto.sha256().substring(0, 2) + "/" + dto.sha256());
+        assertThat(candidato.getCurriculoUrl()).isEqualTo(dto.chave());
+        assertThat(candidato.getCurriculoHash()).isEqualTo(dto.sha256());
+        assertThat(candidato.getCurriculoNome()).isEqualTo("cv.pdf");
+        assertThat(candidato.getCurriculoContentType()).isEqualTo("application/pdf");
+        assertThat(candidato.getCurriculoTamanhoBytes()).isEqualTo(13L);
+        assertThat(candidato.getCurriculoStorage()).isEqualTo("LOCAL");
+        assertThat(candidato.getCurriculoAtualizadoEm()).isNotNull();
+        assertThat(diretorio.resolve(id + "/antigo")).doesNotExist();
+        verify(repository).save(candidato);
+        verify(candidatoCache).invalidarAposCommit(id);
+        verify(extracao).enfileirar(id, dto.sha256());
+    }
+
+    @Test
+    @DisplayName("Deve aceitar TXT e rejeitar binário declarado como texto")
+    void enviar_texto() {
+        when(repository.travarPorId(id)).thenReturn(Optional.of(Candidato.builder().id(id).build()));
+
+        CurriculoDTO dto = service.enviar(id, arquivo("cv.txt", "text/plain; charset=UTF-8", "Ana, Java e Spring"));
+
+        assertThat(dto.contentType()).isEqualTo("text/plain");
+        assertThrows(TipoArquivoNaoSuportadoException.class,
+                () -> service.enviar(id, arquivo("cv.txt", "text/plain", "MZ\u0000\u0000binario")));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar conteúdo que não corresponde ao tipo declarado")
+    void enviar_assinaturaDiferente_415() {
+        MockMultipartFile falso = arquivo("cv.pdf", "application/pdf", "MZ executavel");
+
+        assertThrows(TipoArquivoNaoSuportadoException.class, () -> service.enviar(id, falso));
+        assertThrows(TipoArquivoNaoSuportadoException.class,
+                () -> service.enviar(id, arquivo("cv.png", "image/png", "\u0089PNG")));
+        verify(repository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar arquivo acima do tamanho máximo")
+    void enviar_acimaDoLimite_413() {
+        MockMultipartFile grande = arquivo("cv.pdf", "application/pdf", "%PDF-" + "x".repeat(2048));
+
+        assertThrows(MaxUploadSizeExceededException.class, () -> service.enviar(id, grande));
+        verify(repository, never()).travarPorId(any());
+    }
+
+    @Test
+    @DisplayName("Arquivos iguais de candidatos diferentes devem ocupar um único blob")
+    void enviar_conteudoRepetido_deduplica() {
+        UUID outro = UUID.randomUUID();
+        Candidato ana = Candidato.builder().id(id).build();
+        Candidato bia = Candidato.builder().id(outro).build();
+        when(repository.travarPorId(id)).thenReturn(Optional.of(ana));
+        when(repository.travarPorId(outro)).thenReturn(Optional.of(bia));
+
+        CurriculoDTO primeiro = service.enviar(id, arquivo("cv.pdf", "application/pdf", "%PDF-1.7 igual"));
+        CurriculoDTO segundo = service.enviar(outro, arquivo("meu-cv.pdf", "application/pdf", "%PDF-1.7 igual"));
+
+        assertThat(segundo.chave()).isEqualTo(primeiro.chave());
+        assertThat(segundo.nome()).isEqualTo("meu-cv.pdf");
+        assertThat(envios("novo")).isEqualTo(1);
+        assertThat(envios("deduplicado")).isEqualTo(1);
+        assertThat(diretorio.resolve("tmp")).isEmptyDirectory();
+    }
+
+    @Test
+    @DisplayName("Reenvio idêntico não deve alterar metadados")
+    void enviar_mesmoArquivo_inalterado() {
+        when(repository.travarPorId(id)).thenReturn(Optional.of(Candidato.builder().id(id).build()));
+        MockMultipartFile cv = arquivo("cv.pdf", "application/pdf", "%PDF-1.7 igual");
+        service.enviar(id, cv);
+
+        service.enviar(id, cv);
+
+        verify(repository, times(1)).save(any());
+        assertThat(envios("inalterado")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Troca deve apagar o blob anterior só quando ninguém mais o referencia")
+    void enviar_troca_coletaBlobSemReferencias() {
+        Candidato candidato = Candidato.builder().id(id).build();
+        when(repository.travarPorId(id)).thenReturn(Optional.of(candidato));
+        CurriculoDTO antigo = service.enviar(id, arquivo("cv.pdf", "application/pdf", "%PDF-1.7 v1"));
+        when(repository.existsByCurriculoHash(antigo.sha256())).thenReturn(true);
+
+        service.enviar(id, arquivo("cv.pdf", "application/pdf", "%PDF-1.7 v2"));
+        assertThat(armazenamento.resolver(antigo.chave())).exists();
+
+        when(repository.existsByCurriculoHash(antigo.sha256())).thenReturn(false);
+        service.liberarAposCommit(antigo.sha256(), antigo.chave());
+        assertThat(armazenamento.resolver(antigo.chave())).doesNotExist();
+        assertThat(registry.get("curriculos.blobs.removidos").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Blob reservado por envio em andamento não deve ser coletado; no rollback, deve")
+    void enviar_rollback_coletaBlobReservado() {
+        when(repository.travarPorId(id)).thenReturn(Optional.of(Candidato.builder().id(id).build()));
+        TransactionSynchronizationManager.initSynchronization();
+
+        CurriculoDTO dto = service.enviar(id, arquivo("cv.pdf", "application/pdf", "%PDF-1.7 novo"));
+        service.coletar(dto.sha256());
+        assertThat(armazenamento.resolver(dto.chave())).exists();
+
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        assertThat(armazenamento.resolver(dto.chave())).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("Trocas simultâneas devem se enfileirar na linha travada e não deixar blob órfão")
+    void enviar_trocasSimultaneas_naoDeixaOrfao() throws Exception {
+        Candidato candidato = Candidato.builder().id(id).build();
+        // Faz o papel do PESSIMISTIC_WRITE: travada em travarPorId, solta no commit.
+        ReentrantLock linha = new ReentrantLock();
+        when(repository.travarPorId(id)).thenAnswer(inv -> {
+            linha.lock();
+            return Optional.of(candidato);
+        });
+        when(repository.existsByCurriculoHash(any()))
+                .thenAnswer(inv -> inv.getArgument(0).equals(candidato.getCurriculoHash()));
+        CountDownLatch largada = new CountDownLatch(1);
+        ExecutorService threads = Executors.newFixedThreadPool(2);
+        try {
+            List<Future<CurriculoDTO>> envios = Stream.of("%PDF-1.7 v1", "%PDF-1.7 v2")
+                    .map(conteudo -> threads.submit(() -> {
+                        largada.await();
+                        return enviarEConfirmar(arquivo("cv.pdf", "application/pdf", conteudo), linha);
+                    }))
+                    .toList();
+            largada.countDown();
+            for (Future<CurriculoDTO> envio : envios) {
+                envio.get(5, TimeUnit.SECONDS);
+            }
+        } finally {
+            threads.shutdownNow();
+        }
+
+        try (Stream<Path> arquivos = Files.walk(diretorio.resolve("sha256"))) {
+            assertThat(arquivos.filter(Files::isRegularFile).map(Path::getFileName).map(Path::toString))
+                    .containsExactly(candidato.getCurriculoHash());
+        }
+        assertThat(registry.get("curriculos.blobs.removidos").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Tarefa de extração deve ser enfileirada com a linha do candidato já travada")
+    void enviar_enfileiraExtracaoComLinhaTravada() {
+        when(repository.travarPorId(id)).thenReturn(Optional.of(Candidato.builder().id(id).build()));
+
+        CurriculoDTO dto = service.enviar(id, arquivo("cv.pdf", "application/pdf", "%PDF-1.7 novo"));
+
+        // Dois primeiros envios simultâneos não chegam juntos ao INSERT da tarefa (PK candidato_id).
+        InOrder ordem = inOrder(repository, extracao);
+        ordem.verify(repository).travarPorId(id);
+        ordem.verify(extracao).enfileirar(id, dto.sha256());
+        verify(repository, never()).findById(any());
+    }
+
+    // Envio numa "transação": commit solta a linha e só então roda os ganchos pós-commit, como no Spring.
+    private CurriculoDTO enviarEConfirmar(MockMultipartFile arquivo, ReentrantLock linha) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            CurriculoDTO dto = service.enviar(id, arquivo);
+            List<TransactionSynchronization> ganchos = TransactionSynchronizationManager.getSynchronizations();
+            linha.unlock();
+            ganchos.forEach(TransactionSynchronization::afterCommit);
+            ganchos.forEach(g -> g.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+            return dto;
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private static String sha256(String conteudo) throws Exception {
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256")
+                .digest(conteudo.getBytes(StandardCharsets.ISO_8859_1)));
+    }
+}
@@ -0,0 +1,184 @@
+package com.rhgroup.cadastrosrh.service;
+
+import com.rhgroup.cadastrosrh.dto.CurriculoDTO;
+import com.rhgroup.cadastrosrh.model.CurriculoExtracao;
+import com.rhgroup.cadastrosrh.model.CurriculoTexto;
+import com.rhgroup.cadastrosrh.model.SituacaoExtracao;
+import com.rhgroup.cadastrosrh.repository.CandidatoRepository;
+import com.rhgroup.cadastrosrh.repository.CurriculoExtracaoRepository;
+import com.rhgroup.cadastrosrh.repository.CurriculoTextoRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Service | ExtracaoCurriculoService")
+class ExtracaoCurriculoServiceTest {
+
+    private static final String HASH = "a".repeat(64);
+
+    @Mock private CurriculoExtracaoRepository extracoes;
+    @Mock private CurriculoTextoRepository textos;
+    @Mock private CandidatoRepository candidatos;
+    @Mock private ExtratorTextoCurriculo extrator;
+    @Mock private BuscaCandidatoIndice indiceBusca;
+    @Mock private PlatformTransactionManager transactionManager;
+
+    @TempDir
+    Path diretorio;
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final UUID id = UUID.randomUUID();
+    private ExtracaoCurriculoService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ExtracaoCurriculoService(extracoes, textos, candidatos, new ArmazenamentoLocalCurriculo(diretorio),
+                extrator, indiceBusca, transactionManager, 1, 3, Duration.ofSeconds(10), Duration.ofSeconds(30),
+                Duration.ofMinutes(10), registry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.destroy();
+    }
+
+    private CurriculoExtracao emProcessamento(int tentativas) {
+        CurriculoExtracao tarefa = CurriculoExtracao.builder()
+                .candidatoId(id).curriculoHash(HASH).situacao(SituacaoExtracao.PROCESSANDO).tentativas(tentativas)
+                .enfileiradoEm(LocalDateTime.now().minusSeconds(5)).build();
+        when(extracoes.findById(id)).thenReturn(Optional.of(tarefa));
+        return tarefa;
+    }
+
+    private void curriculoAtual(String contentType) {
+        when(candidatos.findCurriculoById(id)).thenReturn(Optional.of(new CurriculoDTO(
+                ArmazenamentoLocalCurriculo.chave(HASH), "cv", contentType, 10L, LocalDateTime.now(), "LOCAL", HASH)));
+    }
+
+    private double tarefas(String resultado) {
+        return registry.get("curriculos.extracao.tarefas").tag("resultado", resultado).counter().count();
+    }
+
+    @Test
+    @DisplayName("Deve gravar o texto, concluir a tarefa e atualizar o índice")
+    void processar_sucesso() throws Exception {
+        emProcessamento(1);
+        curriculoAtual("application/pdf");
+        when(extrator.extrair(any(), eq("application/pdf"))).thenReturn(Optional.of("Java e Spring"));
+        when(extracoes.concluir(eq(id), eq(HASH), eq(SituacaoExtracao.CONCLUIDA), isNull(), any())).thenReturn(1);
+
+        service.processar(id);
+
+        ArgumentCaptor<CurriculoTexto> texto = ArgumentCaptor.forClass(CurriculoTexto.class);
+        verify(textos).save(texto.capture());
+        assertThat(texto.getValue().getTexto()).isEqualTo("Java e Spring");
+        assertThat(texto.getValue().getCurriculoHash()).isEqualTo(HASH);
+        verify(indiceBusca).atualizarCurriculo(id, "Java e Spring");
+        assertThat(tarefas("concluida")).isEqualTo(1);
+        assertThat(registry.get("curriculos.extracao.atraso").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Tarefa substituída por um envio mais novo não deve gravar texto")
+    void processar_substituida_descarta() throws Exception {
+        emProcessamento(1);
+        curriculoAtual("text/plain");
+        when(extrator.extrair(any(), eq("text/plain"))).thenReturn(Optional.of("antigo"));
+        when(extracoes.concluir(eq(id), eq(HASH), eq(SituacaoExtracao.CONCLUIDA), isNull(), any())).thenReturn(0);
+
+        service.processar(id);
+
+        verify(textos, never()).save(any());
+        verify(indiceBusca, never()).atualizarCurriculo(any(), any());
+        assertThat(tarefas("descartada")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Falha deve reagendar com espera exponencial e, esgotadas as tentativas, marcar FALHOU")
+    void processar_falha_retentativaEFalhaDefinitiva() throws Exception {
+        curriculoAtual("application/pdf");
+        when(extrator.extrair(any(), anyString())).thenThrow(new IOException("PDF corrompido"));
+
+        emProcessamento(2);
+        LocalDateTime antes = LocalDateTime.now();
+        service.processar(id);
+
+        ArgumentCaptor<LocalDateTime> proxima = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(extracoes).reagendar(eq(id), eq(HASH), proxima.capture(), eq("IOException: PDF corrompido"));
+        assertThat(proxima.getValue()).isAfterOrEqualTo(antes.plusSeconds(20));
+
+        emProcessamento(3);
+        service.processar(id);
+
+        verify(extracoes).concluir(eq(id), eq(HASH), eq(SituacaoExtracao.FALHOU), eq("IOException: PDF corrompido"), any());
+        assertThat(tarefas("retentativa")).isEqualTo(1);
+        assertThat(tarefas("falhou")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Tipo sem extrator deve concluir como IGNORADA e tirar o texto antigo da busca")
+    void processar_semExtrator_ignora() throws Exception {
+        emProcessamento(1);
+        curriculoAtual("application/msword");
+        when(extrator.extrair(any(), eq("application/msword"))).thenReturn(Optional.empty());
+        when(extracoes.concluir(eq(id), eq(HASH), eq(SituacaoExtracao.IGNORADA), isNull(), any())).thenReturn(1);
+        when(textos.existsById(id)).thenReturn(true);
+
+        service.processar(id);
+
+        verify(textos).deleteById(id);
+        verify(indiceBusca).atualizarCurriculo(id, null);
+        assertThat(tarefas("ignorada")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Espera entre tentativas deve dobrar até o teto")
+    void espera_exponencialComTeto() {
+        assertThat(service.espera(1)).isEqualTo(Duration.ofSeconds(10));
+        assertThat(service.espera(2)).isEqualTo(Duration.ofSeconds(20));
+        assertThat(service.espera(3)).isEqualTo(Duration.ofSeconds(30));
+        assertThat(service.espera(40)).isEqualTo(Duration.ofSeconds(30));
+    }
+
+    @Test
+    @DisplayName("Enfileirar deve reiniciar a tarefa existente do candidato")
+    void enfileirar_reiniciaTarefa() {
+        CurriculoExtracao antiga = CurriculoExtracao.builder().candidatoId(id).curriculoHash("b".repeat(64))
+                .situacao(SituacaoExtracao.FALHOU).tentativas(3).erro("erro").build();
+        when(extracoes.findById(id)).thenReturn(Optional.of(antiga));
+
+        service.enfileirar(id, HASH);
+
+        verify(extracoes).save(antiga);
+        assertThat(antiga.getCurriculoHash()).isEqualTo(HASH);
+        assertThat(antiga.getSituacao()).isEqualTo(SituacaoExtracao.PENDENTE);
+        assertThat(antiga.getTentativas()).isZero();
+        assertThat(antiga.getErro()).isNull();
+        assertThat(antiga.getProximaTentativaEm()).isNotNull();
+    }
+}
@@ -0,0 +1,64 @@
+package com.rhgroup.cadastrosrh.service;
+
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.pdmodel.font.Standard14Fonts;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Service | ExtratorTextoCurriculo")
+class ExtratorTextoCurriculoTest {
+
+    private final ExtratorTextoCurriculo extrator = new ExtratorTextoCurriculo();
+
+    @TempDir
+    Path diretorio;
+
+    @Test
+    @DisplayName("Deve extrair o texto de um PDF")
+    void extrair_pdf() throws Exception {
+        Path pdf = diretorio.resolve("cv.pdf");
+        try (PDDocument documento = new PDDocument()) {
+            PDPage pagina = new PDPage();
+            documento.addPage(pagina);
+            try (PDPageContentStream conteudo = new PDPageContentStream(documento, pagina)) {
+                conteudo.beginText();
+                conteudo.setFont(new PDType1Font(Standard14Fonts.FontName.HELVETICA), 12);
+                conteudo.newLineAtOffset(50, 700);
+                conteudo.showText("Ana Souza - Desenvolvedora Java");
+                conteudo.endText();
+            }
+            documento.save(pdf.toFile());
+        }
+
+        assertThat(extrator.extrair(pdf, "application/pdf")).contains("Ana Souza - Desenvolvedora Java");
+    }
+
+    @Test
+    @DisplayName("Deve ler TXT em UTF-8 ou Latin-1 e compactar espaços")
+    void extrair_texto() throws Exception {
+        Path utf8 = Files.writeString(diretorio.resolve("utf8.txt"), "Análise\n\n  de dados\u0000", StandardCharsets.UTF_8);
+        Path latin1 = Files.writeString(diretorio.resolve("latin1.txt"), "Gestão de projetos", StandardCharsets.ISO_8859_1);
+
+        assertThat(extrator.extrair(utf8, "text/plain")).contains("Análise de dados");
+        assertThat(extrator.extrair(latin1, "text/plain")).contains("Gestão de projetos");
+    }
+
+    @Test
+    @DisplayName("Tipos sem extrator devolvem vazio")
+    void extrair_semExtrator() throws Exception {
+        Path docx = Files.write(diretorio.resolve("cv.docx"), new byte[]{0x50, 0x4b, 0x03, 0x04});
+
+        assertThat(extrator.extrair(docx,
+                "application/vnd.openxmlformats-officedocument.wordprocessingml.document")).isEmpty();
+    }
+}
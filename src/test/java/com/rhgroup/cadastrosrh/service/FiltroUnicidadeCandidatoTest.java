@@ -0,0 +1,100 @@
+package com.rhgroup.cadastrosrh.service;
+
+import com.rhgroup.cadastrosrh.dto.ChavesUnicidadeDTO;
+import com.rhgroup.cadastrosrh.repository.CandidatoRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Service | FiltroUnicidadeCandidato")
+class FiltroUnicidadeCandidatoTest {
+
+    @Mock
+    private CandidatoRepository repository;
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private FiltroUnicidadeCandidato filtro(long capacidade) {
+        return new FiltroUnicidadeCandidato(repository, null, registry, capacidade, 0.01);
+    }
+
+    private double consultas(String campo, String resultado) {
+        return registry.get("candidatos.unicidade.consultas").tag("campo", campo).tag("resultado", resultado)
+                .counter().count();
+    }
+
+    @Test
+    @DisplayName("Antes da carga deve sempre consultar o banco")
+    void semCarga_consultaBanco() {
+        FiltroUnicidadeCandidato filtro = filtro(1_000);
+
+        filtro.existeEmail("ana@teste.com");
+
+        verify(repository).existsByEmail("ana@teste.com");
+        assertThat(filtro.cpfPodeExistir("39053344705")).isTrue();
+    }
+
+    @Test
+    @DisplayName("Valor certamente ausente não deve consultar o banco")
+    void carregado_ausenteNaoConsulta() {
+        FiltroUnicidadeCandidato filtro = filtro(1_000);
+        filtro.carregar(Stream.of(new ChavesUnicidadeDTO("ana@teste.com", "39053344705")));
+        when(repository.existsByEmail("ana@teste.com")).thenReturn(true);
+
+        assertThat(filtro.existeEmail("ana@teste.com")).isTrue();
+        assertThat(filtro.existeEmail("bia@teste.com")).isFalse();
+        assertThat(filtro.existeCpf("11122233344")).isFalse();
+
+        verify(repository, never()).existsByEmail("bia@teste.com");
+        verify(repository, never()).existsByCpf(any());
+        assertThat(consultas("email", "existente")).isEqualTo(1);
+        assertThat(consultas("email", "ausente")).isEqualTo(1);
+        assertThat(consultas("cpf", "ausente")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Cadastros e remoções devem refletir no filtro, inclusive durante a carga")
+    void registrarERemover() {
+        FiltroUnicidadeCandidato filtro = filtro(1_000);
+        Stream<ChavesUnicidadeDTO> linhas = Stream.of(new ChavesUnicidadeDTO("ana@teste.com", "39053344705"))
+                .peek(c -> filtro.registrar("bia@teste.com", "11122233344"));
+
+        filtro.carregar(linhas);
+        assertThat(filtro.emailPodeExistir("bia@teste.com")).isTrue();
+        assertThat(filtro.cpfPodeExistir("11122233344")).isTrue();
+
+        filtro.removerAposCommit("bia@teste.com", "11122233344");
+        assertThat(filtro.emailPodeExistir("bia@teste.com")).isFalse();
+        assertThat(filtro.cpfPodeExistir("11122233344")).isFalse();
+        assertThat(filtro.emailPodeExistir("ana@teste.com")).isTrue();
+    }
+
+    @Test
+    @DisplayName("Taxa de falso positivo deve ficar perto da configurada na capacidade prevista")
+    void taxaFalsoPositivo() {
+        FiltroUnicidadeCandidato filtro = filtro(10_000);
+        filtro.carregar(IntStream.range(0, 10_000)
+                .mapToObj(i -> new ChavesUnicidadeDTO("candidato" + i + "@teste.com", String.format("%011d", i))));
+
+        long falsosPositivos = IntStream.range(10_000, 30_000)
+                .filter(i -> filtro.emailPodeExistir("candidato" + i + "@teste.com"))
+                .count();
+        double estimada = registry.get("candidatos.unicidade.falso_positivo").tag("campo", "email").gauge().value();
+
+        assertThat(IntStream.range(0, 10_000).allMatch(i -> filtro.emailPodeExistir("candidato" + i + "@teste.com")))
+                .isTrue();
+        assertThat(falsosPositivos / 20_000.0).isLessThan(0.02);
+        assertThat(estimada).isBetween(0.002, 0.02);
+    }
+}
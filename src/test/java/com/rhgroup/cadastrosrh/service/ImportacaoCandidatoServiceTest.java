@@ -0,0 +1,170 @@
+package com.rhgroup.cadastrosrh.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.rhgroup.cadastrosrh.dto.ImportacaoResultadoDTO;
+import com.rhgroup.cadastrosrh.exception.RequisicaoInvalidaException;
+import com.rhgroup.cadastrosrh.model.Candidato;
+import com.rhgroup.cadastrosrh.repository.CandidatoRepository;
+import com.rhgroup.cadastrosrh.security.SenhaHashExecutor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Service | ImportacaoCandidatoService")
+class ImportacaoCandidatoServiceTest {
+
+    private static final String CABECALHO = "nome,cpf,dataNascimento,email,senha,experienciaAnos,pretensaoSalarial,status\n";
+
+    @Mock
+    private CandidatoRepository repository;
+
+    @Mock
+    private CandidatoLoteWriter loteWriter;
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    private SenhaHashExecutor senhaHashExecutor;
+
+    private ImportacaoCandidatoService service;
+
+    @BeforeEach
+    void setUp() {
+        senhaHashExecutor = new SenhaHashExecutor(2, 10, Duration.ofSeconds(5), new SimpleMeterRegistry());
+        service = new ImportacaoCandidatoService(
+                repository,
+                loteWriter,
+                new FiltroUnicidadeCandidato(repository, null, new SimpleMeterRegistry(), 1_000, 0.01),
+                passwordEncoder,
+                senhaHashExecutor,
+                Validation.buildDefaultValidatorFactory().getValidator(),
+                new ObjectMapper().registerModule(new JavaTimeModule()),
+                2);
+        lenient().when(passwordEncoder.encode(any())).thenReturn("hash");
+        lenient().when(repository.findEmailsExistentes(anyCollection())).thenReturn(Set.of());
+        lenient().when(repository.findCpfsExistentes(anyCollection())).thenReturn(Set.of());
+    }
+
+    @AfterEach
+    void tearDown() {
+        senhaHashExecutor.destroy();
+    }
+
+    private static InputStream arquivo(String conteudo) {
+        return new ByteArrayInputStream(conteudo.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Deve importar CSV em lotes do tamanho configurado")
+    void importarCsv_emLotes() throws Exception {
+        String csv = CABECALHO
+                + "Ana Viana,39053344705,1990-01-01,ana@teste.com,senha123,2,3500.00,CANDIDATO\n"
+                + "\"Silva, Bia\",11122233344,1991-02-02,bia@teste.com,senha123,3,,TRIAGEM\n"
+                + "Caio,44455566677,,caio@teste.com,senha123,0,,candidato\n";
+
+        ImportacaoResultadoDTO resultado = service.importarCsv(arquivo(csv));
+
+        assertEquals(3, resultado.totalLinhas());
+        assertEquals(3, resultado.importados());
+        assertEquals(0, resultado.rejeitados());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Candidato>> lotes = ArgumentCaptor.forClass(List.class);
+        verify(loteWriter, times(2)).inserir(lotes.capture());
+        assertThat(lotes.getAllValues()).extracting(List::size).containsExactly(2, 1);
+        assertEquals("Silva, Bia", lotes.getAllValues().get(0).get(1).getNome());
+        verify(passwordEncoder, times(3)).encode("senha123");
+    }
+
+    @Test
+    @DisplayName("Deve reportar linhas inválidas, repetidas e já cadastradas sem abortar o arquivo")
+    void importarCsv_relatorioDeErros() throws Exception {
+        when(repository.findEmailsExistentes(anyCollection())).thenReturn(Set.of("existe@teste.com"));
+        String csv = CABECALHO
+                + "Ana Viana,39053344705,1990-01-01,ana@teste.com,senha123,2,,CANDIDATO\n"
+                + "Ana Repetida,99988877766,1990-01-01,ana@teste.com,senha123,2,,CANDIDATO\n"
+                + "Sem Email,12312312312,1990-01-01,,senha123,2,,CANDIDATO\n"
+                + "Idade,32132132132,data-ruim,idade@teste.com,senha123,2,,CANDIDATO\n"
+                + "Existe,45645645645,1990-01-01,existe@teste.com,senha123,2,,CANDIDATO\n";
+
+        ImportacaoResultadoDTO resultado = service.importarCsv(arquivo(csv));
+
+        assertEquals(5, resultado.totalLinhas());
+        assertEquals(1, resultado.importados());
+        assertEquals(4, resultado.rejeitados());
+        assertThat(resultado.erros()).extracting(e -> e.linha()).containsExactlyInAnyOrder(3L, 4L, 5L, 6L);
+    }
+
+    @Test
+    @DisplayName("Deve isolar linha conflitante quando o lote falhar no banco")
+    void importarNdjson_isolaConflito() throws Exception {
+        doThrow(new DataIntegrityViolationException("lote"))
+                .doNothing()
+                .doThrow(new DataIntegrityViolationException("linha"))
+                .when(loteWriter).inserir(any());
+        String ndjson = """
+                {"nome":"Ana Viana","cpf":"39053344705","email":"ana@teste.com","senha":"senha123","experienciaAnos":1,"status":"CANDIDATO"}
+                {"nome":"Bia Souza","cpf":"11122233344","email":"bia@teste.com","senha":"senha123","experienciaAnos":1,"status":"CANDIDATO"}
+                """;
+
+        ImportacaoResultadoDTO resultado = service.importarNdjson(arquivo(ndjson));
+
+        assertEquals(1, resultado.importados());
+        assertEquals(1, resultado.rejeitados());
+        assertEquals(2L, resultado.erros().get(0).linha());
+        verify(loteWriter, times(3)).inserir(any());
+        verify(loteWriter, times(2)).inserir(argThat(lote -> lote.size() == 1));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar JSON malformado e seguir com as demais linhas")
+    void importarNdjson_jsonInvalido() throws Exception {
+        String ndjson = "{nao-e-json\n"
+                + "{\"nome\":\"Ana Viana\",\"cpf\":\"39053344705\",\"email\":\"ana@teste.com\",\"senha\":\"senha123\",\"experienciaAnos\":1,\"status\":\"CANDIDATO\"}\n";
+
+        ImportacaoResultadoDTO resultado = service.importarNdjson(arquivo(ndjson));
+
+        assertEquals(1, resultado.importados());
+        assertEquals(1L, resultado.erros().get(0).linha());
+    }
+
+    @Test
+    @DisplayName("Deve recusar CSV com coluna desconhecida")
+    void importarCsv_colunaDesconhecida() {
+        assertThrows(RequisicaoInvalidaException.class,
+                () -> service.importarCsv(arquivo("nome,idade\nAna,30\n")));
+        verifyNoInteractions(loteWriter);
+    }
+
+    @Test
+    @DisplayName("Deve dividir campos CSV respeitando aspas")
+    void dividirLinhaCsv_aspas() {
+        assertEquals(List.of("a", "b;c", "d\"e", ""),
+                ImportacaoCandidatoService.dividirLinhaCsv("a;\"b;c\";\"d\"\"e\";", ';'));
+    }
+}